@@ -1,12 +1,21 @@
 package com.toolshed.backend.boundary;
 
 import com.toolshed.backend.dto.AdminStatsDTO;
+import com.toolshed.backend.dto.AdminUserPage;
+import com.toolshed.backend.dto.AdminUserSummary;
+import com.toolshed.backend.dto.DailyMetricsResponse;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
 import com.toolshed.backend.service.AdminService;
+import com.toolshed.backend.service.AuthRateLimits;
+import com.toolshed.backend.service.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,9 +31,39 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getStats());
     }
 
+    @GetMapping("/metrics/daily")
+    public ResponseEntity<List<DailyMetricsResponse>> getDailyMetrics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(adminService.getDailyMetrics(start, end));
+    }
+
+    @GetMapping("/metrics/email-filter")
+    public ResponseEntity<EmailBloomFilter.Stats> getEmailFilterStats() {
+        return ResponseEntity.ok(adminService.getEmailFilterStats());
+    }
+
+    @GetMapping("/metrics/auth-rate-limit")
+    public ResponseEntity<AuthRateLimits.Stats> getAuthRateLimitStats() {
+        return ResponseEntity.ok(adminService.getAuthRateLimitStats());
+    }
+
+    // Plain JSON array of rows; the cursor of the next page travels in X-Next-Cursor, as for tools
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(adminService.getAllUsers());
+    public ResponseEntity<List<AdminUserSummary>> getUsers(
+            @RequestParam(required = false) UserStatus status,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        AdminUserPage page = adminService.listUsers(status, role, query, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(ToolController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @PostMapping("/users/{id}/activate")
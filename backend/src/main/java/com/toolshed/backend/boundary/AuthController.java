@@ -2,9 +2,12 @@ package com.toolshed.backend.boundary;
 
 import com.toolshed.backend.dto.LoginRequest;
 import com.toolshed.backend.dto.RegisterRequest;
+import com.toolshed.backend.config.SessionTokenFilter;
 import com.toolshed.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,6 +36,15 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        String token = SessionTokenFilter.bearerToken(request);
+        if (token == null || !authService.logout(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/check-email")
     public ResponseEntity<Boolean> checkEmailAvailability(@RequestParam String email) {
         boolean exists = authService.isEmailTaken(email);
@@ -2,12 +2,16 @@ package com.toolshed.backend.boundary;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.toolshed.backend.dto.MunicipalitySuggestionResponse;
 import com.toolshed.backend.service.IGeoApiService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,7 +19,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-@Tag(name = "GeoAPI", description = "Operations for retrieving Portuguese districts")
+@Tag(name = "GeoAPI", description = "Operations for retrieving Portuguese districts and municipalities")
 @RestController
 @RequestMapping("/api/geo")
 public class GeoApiController {
@@ -40,4 +44,70 @@ public class GeoApiController {
     public ResponseEntity<List<String>> getAllDistricts() {
         return ResponseEntity.ok(geoApiService.getAllDistricts());
     }
+
+    @Operation(
+        summary = "Get the municipalities of a district",
+        description = "Lists the municipalities (concelhos) of a district. Case and accents are ignored.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Municipalities of the district"),
+            @ApiResponse(responseCode = "404", description = "Unknown district")
+        }
+    )
+    @GetMapping("/districts/{district}/municipalities")
+    public ResponseEntity<List<String>> getMunicipalities(
+            @Parameter(description = "District name", required = true)
+            @PathVariable String district) {
+        if (!geoApiService.districtExists(district)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(geoApiService.getMunicipalities(district));
+    }
+
+    @Operation(
+        summary = "Autocomplete municipalities",
+        description = "Municipalities whose name starts with the given prefix, with their district.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Matching municipalities, alphabetically")
+        }
+    )
+    @GetMapping("/municipalities")
+    public ResponseEntity<List<MunicipalitySuggestionResponse>> autocompleteMunicipalities(
+            @Parameter(description = "Typed prefix", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-50)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(geoApiService.autocompleteMunicipalities(prefix, Math.clamp(limit, 1, 50)));
+    }
+
+    @Operation(
+        summary = "Get the district of a municipality",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "District containing the municipality"),
+            @ApiResponse(responseCode = "404", description = "Unknown municipality")
+        }
+    )
+    @GetMapping("/municipalities/{municipality}/district")
+    public ResponseEntity<String> getDistrictOfMunicipality(
+            @Parameter(description = "Municipality name", required = true)
+            @PathVariable String municipality) {
+        return geoApiService.findDistrictOfMunicipality(municipality)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+        summary = "Export the geo cache as JSON",
+        description = "Dumps the cached districts and municipalities for debugging. Saved as the file at "
+            + "geo.cache.path, it is imported on the next start.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Cache contents")
+        }
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCache() {
+        StreamingResponseBody body = geoApiService::exportCache;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.DeleteMapping;
 
 import com.toolshed.backend.dto.CreateReportRequest;
+import com.toolshed.backend.dto.ReportPage;
 import com.toolshed.backend.dto.ReportResponse;
 import com.toolshed.backend.dto.UpdateReportStatusRequest;
 import com.toolshed.backend.repository.enums.ReportStatus;
@@ -36,11 +37,18 @@ public class ReportController {
         return ResponseEntity.ok(response);
     }
 
+    // Moderation queue; the cursor of the next page travels in X-Next-Cursor, as for tools
     @GetMapping
     public ResponseEntity<List<ReportResponse>> getReports(
-            @RequestParam(value = "status", required = false) ReportStatus status) {
-        List<ReportResponse> reports = reportService.getAllReports(status);
-        return ResponseEntity.ok(reports);
+            @RequestParam(value = "status", required = false) ReportStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        ReportPage page = reportService.getQueue(status, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(ToolController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @PutMapping("/{id}/status")
@@ -1,9 +1,12 @@
 package com.toolshed.backend.boundary;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +17,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.toolshed.backend.dto.CreateToolInput;
 import com.toolshed.backend.dto.ToolDetailsResponse;
+import com.toolshed.backend.dto.ToolPage;
 import com.toolshed.backend.dto.UpdateToolInput;
 import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.service.ToolCatalogExporter;
 import com.toolshed.backend.service.ToolService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,10 +40,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @RequestMapping("/api/tools")
 public class ToolController {
 
+    /** Response header carrying the cursor of the next page (absent on the last page). */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ToolService toolService;
+    private final ToolCatalogExporter catalogExporter;
 
-    public ToolController(ToolService toolService) {
+    public ToolController(ToolService toolService, ToolCatalogExporter catalogExporter) {
         this.toolService = toolService;
+        this.catalogExporter = catalogExporter;
     }
 
     /**
@@ -48,20 +59,37 @@ public class ToolController {
             @Parameter(name = "keyword", description = "Keyword to search for in title or description (e.g., 'drill'). Optional.", required = false),
             @Parameter(name = "district", description = "District filter (e.g., 'Aveiro'). Optional.", required = false),
             @Parameter(name = "minPrice", description = "Minimum daily price (inclusive, e.g., 10.0). Optional.", required = false),
-            @Parameter(name = "maxPrice", description = "Maximum daily price (inclusive, e.g., 50.0). Optional.", required = false)
+            @Parameter(name = "maxPrice", description = "Maximum daily price (inclusive, e.g., 50.0). Optional.", required = false),
+            @Parameter(name = "startDate", description = "First day the tool must be free (ISO date, e.g., 2025-06-01). Requires endDate. Optional.", required = false),
+            @Parameter(name = "endDate", description = "Last day the tool must be free (inclusive). Requires startDate. Optional.", required = false),
+            @Parameter(name = "cursor", description = "Value of the X-Next-Cursor header of the previous page. Optional.", required = false),
+            @Parameter(name = "limit", description = "Page size (default 50, max 100). Optional.", required = false)
     }, responses = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of tools", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Tool.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input or missing required parameters")
     })
 
     @GetMapping
-    public ResponseEntity<List<Tool>> getAllTools() {
-        return ResponseEntity.ok(toolService.getAll());
+    public ResponseEntity<List<Tool>> getAllTools(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return toPageResponse(toolService.getAll(cursor, limit));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<Tool>> getActiveTools() {
-        return ResponseEntity.ok(toolService.getActive());
+    public ResponseEntity<List<Tool>> getActiveTools(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return toPageResponse(toolService.getActive(cursor, limit));
+    }
+
+    @Operation(summary = "Export the full tool catalog as NDJSON", description = "Streams every tool (active or not) as one JSON object per line, for partner sync and analytics. The response is written incrementally, so it starts immediately and is not paginated.")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTools() {
+        StreamingResponseBody body = catalogExporter::writeNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/supplier/{supplierId}")
@@ -84,9 +112,13 @@ public class ToolController {
             @Parameter(description = "Keyword to search for (e.g., 'drill').") @RequestParam(value = "keyword", required = false) String keyword,
             @Parameter(description = "Filter by district (e.g., 'Aveiro'). Optional.") @RequestParam(value = "district", required = false) String district,
             @Parameter(description = "Minimum price per day (inclusive). Optional.") @RequestParam(value = "minPrice", required = false) Double minPrice,
-            @Parameter(description = "Maximum price per day (inclusive). Optional.") @RequestParam(value = "maxPrice", required = false) Double maxPrice) {
-        List<Tool> results = toolService.searchTools(keyword, district, minPrice, maxPrice);
-        return ResponseEntity.ok(results);
+            @Parameter(description = "Maximum price per day (inclusive). Optional.") @RequestParam(value = "maxPrice", required = false) Double maxPrice,
+            @Parameter(description = "Only tools free from this day (ISO date). Requires endDate. Optional.") @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Only tools free until this day, inclusive (ISO date). Requires startDate. Optional.") @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page. Optional.") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (default 50, max 100). Optional.") @RequestParam(value = "limit", required = false) Integer limit) {
+        ToolPage results = toolService.searchTools(keyword, district, minPrice, maxPrice, startDate, endDate, cursor, limit);
+        return toPageResponse(results);
     }
 
     @PostMapping
@@ -119,6 +151,15 @@ public class ToolController {
         return ResponseEntity.noContent().build();
     }
 
+    // The body stays a plain JSON array; the cursor for the next page travels in a header
+    private ResponseEntity<List<Tool>> toPageResponse(ToolPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
     private ToolDetailsResponse mapToToolDetails(Tool tool) {
         return ToolDetailsResponse.builder()
                 .id(tool.getId())
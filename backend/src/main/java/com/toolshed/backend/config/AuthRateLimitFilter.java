@@ -0,0 +1,166 @@
+package com.toolshed.backend.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.service.AuthRateLimits;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies {@link AuthRateLimits} to {@code POST /api/auth/login} and
+ * {@code POST /api/auth/register}. Throttled requests are answered with 429
+ * and {@code Retry-After} before the controller runs, so they cost no
+ * database access and no password hashing.
+ * For login the target email is read from the JSON body, which is then
+ * replayed to the controller unchanged.
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    static final String LOGIN_PATH = "/api/auth/login";
+    static final String REGISTER_PATH = "/api/auth/register";
+
+    // Login bodies are tiny; anything larger is only limited by IP
+    private static final int MAX_PEEKED_BODY = 4096;
+
+    private final AuthRateLimits rateLimits;
+    private final ObjectMapper objectMapper;
+
+    public AuthRateLimitFilter(AuthRateLimits rateLimits, ObjectMapper objectMapper) {
+        this.rateLimits = rateLimits;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = pathOf(request);
+        return !"POST".equals(request.getMethod())
+                || !(LOGIN_PATH.equals(path) || REGISTER_PATH.equals(path));
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long wait = rateLimits.acquireForIp(request.getRemoteAddr());
+        if (wait > 0) {
+            reject(response, wait);
+            return;
+        }
+        HttpServletRequest forwarded = request;
+        if (LOGIN_PATH.equals(pathOf(request))) {
+            byte[] peeked = request.getInputStream().readNBytes(MAX_PEEKED_BODY + 1);
+            forwarded = new ReplayedBodyRequest(request, peeked);
+            String email = peeked.length <= MAX_PEEKED_BODY ? emailOf(peeked) : null;
+            if (email != null && (wait = rateLimits.acquireForEmail(email)) > 0) {
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private String emailOf(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            // Malformed: the controller answers 400
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many attempts, please retry later");
+    }
+
+    /**
+     * The request with the peeked bytes put back in front of the rest of its body.
+     */
+    private static final class ReplayedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] peeked;
+        private ServletInputStream replayed;
+
+        ReplayedBodyRequest(HttpServletRequest request, byte[] peeked) {
+            super(request);
+            this.peeked = peeked;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (replayed == null) {
+                replayed = replay(new SequenceInputStream(new ByteArrayInputStream(peeked), super.getInputStream()));
+            }
+            return replayed;
+        }
+
+        private static ServletInputStream replay(InputStream body) {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = body.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = body.read(buffer, offset, length);
+                    finished = n < 0;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // As the servlet API specifies for a request that is not in async mode
+                    throw new IllegalStateException("Replayed body supports blocking reads only");
+                }
+            };
+        }
+    }
+}
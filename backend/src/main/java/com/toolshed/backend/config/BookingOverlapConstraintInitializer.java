@@ -0,0 +1,29 @@
+package com.toolshed.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.service.BookingOverlapConstraint;
+
+@Component
+public class BookingOverlapConstraintInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOverlapConstraintInitializer.class);
+
+    private final BookingOverlapConstraint bookingOverlapConstraint;
+
+    public BookingOverlapConstraintInitializer(BookingOverlapConstraint bookingOverlapConstraint) {
+        this.bookingOverlapConstraint = bookingOverlapConstraint;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (bookingOverlapConstraint.install()) {
+            logger.info("Booking overlaps are enforced by the database exclusion constraint.");
+        } else {
+            logger.info("Booking overlap constraint not available, using overlap queries.");
+        }
+    }
+}
@@ -26,6 +26,9 @@ import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.ReviewType;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+import com.toolshed.backend.service.PasswordHasher;
+import com.toolshed.backend.service.WalletLedger;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,11 +39,15 @@ public class DataSeeder implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
     private static final String DEFAULT_PASSWORD = "password";
+    // Demo renters start with €1000, recorded in the wallet ledger like any other movement
+    private static final long RENTER_OPENING_BALANCE_CENTS = 100_000;
 
     private final UserRepository userRepository;
     private final ToolRepository toolRepository;
     private final BookingRepository bookingRepository;
     private final ReviewRepository reviewRepository;
+    private final WalletLedger walletLedger;
+    private final PasswordHasher passwordHasher;
 
     @Override
     public void run(String... args) throws Exception {
@@ -51,59 +58,60 @@ public class DataSeeder implements CommandLineRunner {
 
         logger.info("Starting data seeding...");
 
-        createAdmin();
-        List<User> renters = createRenters();
-        List<User> owners = createOwners();
+        // Hashed once: every demo account shares the same password
+        String password = passwordHasher.hash(DEFAULT_PASSWORD);
+        createAdmin(password);
+        List<User> renters = createRenters(password);
+        List<User> owners = createOwners(password);
         List<Tool> allTools = createTools(owners);
         createBookingsAndReviews(renters, allTools);
 
         logger.info("Data seeding completed.");
     }
 
-    private void createAdmin() {
+    private void createAdmin(String password) {
         User admin = User.builder()
                 .firstName("Admin")
                 .lastName("User")
                 .email("admin@toolshed.com")
-                .password(DEFAULT_PASSWORD)
+                .password(password)
                 .role(UserRole.ADMIN)
                 .status(UserStatus.ACTIVE)
                 .reputationScore(5.0)
-                .walletBalance(0.0)
                 .build();
         userRepository.save(admin);
     }
 
-    private List<User> createRenters() {
+    private List<User> createRenters(String password) {
         List<User> renters = new ArrayList<>();
         for (int i = 1; i <= 3; i++) {
             User renter = User.builder()
                     .firstName("Renter")
                     .lastName("One" + i)
                     .email("renter" + i + "@toolshed.com")
-                    .password(DEFAULT_PASSWORD)
+                    .password(password)
                     .role(UserRole.RENTER)
                     .status(UserStatus.ACTIVE)
                     .reputationScore(5.0)
-                    .walletBalance(1000.0)
                     .build();
-            renters.add(userRepository.save(renter));
+            renter = userRepository.save(renter);
+            walletLedger.credit(renter, RENTER_OPENING_BALANCE_CENTS, WalletEntryType.OPENING_BALANCE, null);
+            renters.add(renter);
         }
         return renters;
     }
 
-    private List<User> createOwners() {
+    private List<User> createOwners(String password) {
         List<User> owners = new ArrayList<>();
         for (int i = 1; i <= 3; i++) {
             User owner = User.builder()
                     .firstName("Owner")
                     .lastName("Two" + i)
                     .email("owner" + i + "@toolshed.com")
-                    .password(DEFAULT_PASSWORD)
+                    .password(password)
                     .role(UserRole.SUPPLIER)
                     .status(UserStatus.ACTIVE)
                     .reputationScore(5.0)
-                    .walletBalance(0.0)
                     .build();
             owners.add(userRepository.save(owner));
         }
@@ -203,10 +211,9 @@ public class DataSeeder implements CommandLineRunner {
                     .rating(random.nextInt(2) + 4) // 4 or 5
                     .comment("Great tool!")
                     .build();
+            // The tool's rating is aggregated from its reviews by ReputationInitializer once the app is ready
             reviewRepository.save(toolReview);
 
-            updateToolRating(tool, toolReview.getRating());
-
             // Owner reviews Renter
             Review renterReview = Review.builder()
                     .booking(booking)
@@ -229,11 +236,4 @@ public class DataSeeder implements CommandLineRunner {
             reviewRepository.save(ownerReview);
         }
     }
-
-    private void updateToolRating(Tool tool, int newRating) {
-        double currentTotal = tool.getOverallRating() * tool.getNumRatings();
-        tool.setNumRatings(tool.getNumRatings() + 1);
-        tool.setOverallRating((currentTotal + newRating) / tool.getNumRatings());
-        toolRepository.save(tool);
-    }
 }
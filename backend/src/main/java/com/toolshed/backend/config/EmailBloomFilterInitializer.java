@@ -0,0 +1,44 @@
+package com.toolshed.backend.config;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.service.EmailBloomFilter;
+
+/**
+ * Fills the {@link EmailBloomFilter} from one streaming scan of the user
+ * emails, so the user table is never loaded into memory as entities.
+ */
+@Component
+public class EmailBloomFilterInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailBloomFilterInitializer.class);
+
+    private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
+
+    public EmailBloomFilterInitializer(UserRepository userRepository, EmailBloomFilter emailBloomFilter) {
+        this.userRepository = userRepository;
+        this.emailBloomFilter = emailBloomFilter;
+    }
+
+    // Streamed results need the connection open until the stream is closed
+    @Override
+    @Transactional(readOnly = true)
+    public void run(String... args) throws Exception {
+        logger.info("Building email Bloom filter...");
+        long count = userRepository.count();
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emailBloomFilter.rebuild(count, emails.iterator());
+        }
+        EmailBloomFilter.Stats stats = emailBloomFilter.stats();
+        logger.info("Email Bloom filter built ({} bits, {} hashes, expected false-positive rate {}).",
+                stats.bits(), stats.hashes(), stats.expectedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,25 @@
+package com.toolshed.backend.config;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.service.LegacyWalletMigration;
+
+// Before any runner inserts users, which the legacy NOT NULL column would reject
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LegacyWalletMigrationInitializer implements CommandLineRunner {
+
+    private final LegacyWalletMigration legacyWalletMigration;
+
+    public LegacyWalletMigrationInitializer(LegacyWalletMigration legacyWalletMigration) {
+        this.legacyWalletMigration = legacyWalletMigration;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        legacyWalletMigration.migrate();
+    }
+}
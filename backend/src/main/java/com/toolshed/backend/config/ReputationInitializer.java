@@ -1,27 +1,52 @@
 package com.toolshed.backend.config;
 
+import java.lang.management.ManagementFactory;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.toolshed.backend.service.ReviewService;
+import com.toolshed.backend.service.ReputationRebuild;
 
+/**
+ * Brings the rating and reputation aggregates up to date after startup.
+ * Runs asynchronously once the application is ready, so it's off the startup
+ * critical path, and skips the rebuild when no review changed since the last
+ * one.
+ */
 @Component
-public class ReputationInitializer implements CommandLineRunner {
+public class ReputationInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(ReputationInitializer.class);
 
-    private final ReviewService reviewService;
+    private final ReputationRebuild reputationRebuild;
 
-    public ReputationInitializer(ReviewService reviewService) {
-        this.reviewService = reviewService;
+    public ReputationInitializer(ReputationRebuild reputationRebuild) {
+        this.reputationRebuild = reputationRebuild;
     }
 
-    @Override
-    public void run(String... args) throws Exception {
-        logger.info("Recalculating reputation scores for all users...");
-        reviewService.recalculateAllReputations();
-        logger.info("Reputation score recalculation completed.");
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        logger.info("Application ready in {} ms; checking reputation aggregates in the background...",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1);
+        try {
+            ReputationRebuild.Result result = reputationRebuild.runIfReviewsChanged();
+            if (result.skipped()) {
+                logger.info("Reputation aggregates up to date (reviews {}), check took {} ms",
+                        result.fingerprint(), result.durationMillis());
+            } else {
+                logger.info("Reputation aggregates rebuilt in {} ms (reviews {})",
+                        result.durationMillis(), result.fingerprint());
+            }
+            logger.info("Startup work finished {} ms after JVM start",
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+        } catch (RuntimeException e) {
+            // Aggregates are still maintained per review; the next start retries the rebuild
+            logger.warn("Reputation aggregate rebuild failed: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.toolshed.backend.config;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.toolshed.backend.service.SessionTokens;
+import com.toolshed.backend.service.SessionTokens.Session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>}.
+ * A valid token's {@link Session} is exposed as the
+ * {@link #SESSION_ATTRIBUTE} request attribute; an invalid, expired or revoked
+ * one is answered with 401. Requests without a bearer token pass through
+ * unchanged, so endpoints opt in to authentication by reading the attribute.
+ */
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final String SESSION_ATTRIBUTE = SessionTokenFilter.class.getName() + ".session";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SessionTokens sessionTokens;
+
+    public SessionTokenFilter(SessionTokens sessionTokens) {
+        this.sessionTokens = sessionTokens;
+    }
+
+    /**
+     * Bearer token of the request, or null if there is none.
+     */
+    public static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return header.substring(BEARER_PREFIX.length()).trim();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String token = bearerToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Optional<Session> session = sessionTokens.verify(token);
+        if (session.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
+            return;
+        }
+        request.setAttribute(SESSION_ATTRIBUTE, session.get());
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,33 @@
+package com.toolshed.backend.config;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.service.ToolOccupancyIndex;
+
+@Component
+public class ToolOccupancyIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolOccupancyIndexInitializer.class);
+
+    private final BookingRepository bookingRepository;
+    private final ToolOccupancyIndex toolOccupancyIndex;
+
+    public ToolOccupancyIndexInitializer(BookingRepository bookingRepository, ToolOccupancyIndex toolOccupancyIndex) {
+        this.bookingRepository = bookingRepository;
+        this.toolOccupancyIndex = toolOccupancyIndex;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        logger.info("Building tool occupancy index...");
+        // Bookings that already ended can't collide with a search window (those start today or later)
+        toolOccupancyIndex.rebuild(bookingRepository.findBlockingEndingOnOrAfter(LocalDate.now()));
+        logger.info("Tool occupancy index built ({} tools with bookings).", toolOccupancyIndex.size());
+    }
+}
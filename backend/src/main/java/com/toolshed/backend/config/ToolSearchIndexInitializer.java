@@ -0,0 +1,30 @@
+package com.toolshed.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.service.ToolSearchIndex;
+
+@Component
+public class ToolSearchIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolSearchIndexInitializer.class);
+
+    private final ToolRepository toolRepository;
+    private final ToolSearchIndex toolSearchIndex;
+
+    public ToolSearchIndexInitializer(ToolRepository toolRepository, ToolSearchIndex toolSearchIndex) {
+        this.toolRepository = toolRepository;
+        this.toolSearchIndex = toolSearchIndex;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        logger.info("Building tool search index...");
+        toolSearchIndex.rebuild(toolRepository.findAll());
+        logger.info("Tool search index built ({} tools).", toolSearchIndex.size());
+    }
+}
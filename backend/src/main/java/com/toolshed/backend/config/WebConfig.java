@@ -1,11 +1,18 @@
 package com.toolshed.backend.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.lang.NonNull;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.boundary.ToolController;
+import com.toolshed.backend.service.AuthRateLimits;
+import com.toolshed.backend.service.SessionTokens;
+
 @Configuration
 public class WebConfig {
 
@@ -23,8 +30,28 @@ public class WebConfig {
                         )
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(ToolController.NEXT_CURSOR_HEADER)
                         .allowCredentials(true);
             }
         };
     }
+
+    @Bean
+    public FilterRegistrationBean<SessionTokenFilter> sessionTokenFilter(SessionTokens sessionTokens) {
+        FilterRegistrationBean<SessionTokenFilter> registration =
+                new FilterRegistrationBean<>(new SessionTokenFilter(sessionTokens));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // Ahead of the session filter, so throttled requests do no other work
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(AuthRateLimits rateLimits,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<AuthRateLimitFilter> registration =
+                new FilterRegistrationBean<>(new AuthRateLimitFilter(rateLimits, objectMapper));
+        registration.addUrlPatterns("/api/auth/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
 }
@@ -0,0 +1,22 @@
+package com.toolshed.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of the admin user listing. {@code nextCursor} is null on
+ * the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminUserPage {
+
+    private List<AdminUserSummary> items;
+    private String nextCursor;
+}
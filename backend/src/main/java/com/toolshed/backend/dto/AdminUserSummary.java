@@ -0,0 +1,33 @@
+package com.toolshed.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.toolshed.backend.repository.enums.SubscriptionTier;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the admin user listing, selected column by column (no password, no
+ * tools). The constructor order is the one used by the repository query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminUserSummary {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private UserRole role;
+    private UserStatus status;
+    private Double reputationScore;
+    private SubscriptionTier subscriptionTier;
+    private LocalDateTime registeredDate;
+}
@@ -0,0 +1,22 @@
+package com.toolshed.backend.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyMetricsResponse {
+    private LocalDate date;
+    private long activeUsers;
+    private long activeListings;
+    private long totalBookings;
+    private Map<String, Long> usersByStatus;
+    private Map<String, Long> bookingsByStatus;
+}
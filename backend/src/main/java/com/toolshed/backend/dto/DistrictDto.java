@@ -1,5 +1,7 @@
 package com.toolshed.backend.dto;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.AllArgsConstructor;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO representing a district from the json.geoapi.pt endpoint.
+ * {@code municipios} is only filled by {@code /distritos/municipios}.
  */
 @Data
 @Builder
@@ -18,6 +21,7 @@ import lombok.NoArgsConstructor;
 public class DistrictDto {
     private String distrito; // e.g. "Lisboa"
     private String codigoine; // not used, but mapped for completeness
+    private List<MunicipalityDto> municipios;
 
     public String getDistrito() {
         return distrito;
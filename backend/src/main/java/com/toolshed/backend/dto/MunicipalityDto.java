@@ -0,0 +1,22 @@
+package com.toolshed.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing a municipality (concelho) nested in a district from the
+ * json.geoapi.pt {@code /distritos/municipios} endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MunicipalityDto {
+    private String nome; // e.g. "Águeda"
+    private String codigoine; // not used, but mapped for completeness
+}
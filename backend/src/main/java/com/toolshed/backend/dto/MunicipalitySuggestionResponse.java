@@ -0,0 +1,18 @@
+package com.toolshed.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A municipality matching an autocomplete prefix, with its district.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MunicipalitySuggestionResponse {
+    private String municipality;
+    private String district;
+}
@@ -0,0 +1,24 @@
+package com.toolshed.backend.dto;
+
+import java.util.List;
+
+import com.toolshed.backend.repository.entities.Tool;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of tools. {@code nextCursor} is null on the last page; a
+ * date-range search may return fewer items (even none) before the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToolPage {
+
+    private List<Tool> items;
+    private String nextCursor;
+}
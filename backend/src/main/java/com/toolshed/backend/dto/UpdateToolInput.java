@@ -32,24 +32,6 @@ public class UpdateToolInput {
 
     private String availabilityCalendar;
 
-    private Double overallRating;
-
-    public Integer getNumRatings() {
-        return numRatings;
-    }
-
-    public void setNumRatings(Integer numRatings) {
-        this.numRatings = numRatings;
-    }
-
-    public Double getOverallRating() {
-        return overallRating;
-    }
-
-    public void setOverallRating(Double overallRating) {
-        this.overallRating = overallRating;
-    }
-
     public String getAvailabilityCalendar() {
         return availabilityCalendar;
     }
@@ -105,6 +87,4 @@ public class UpdateToolInput {
     public void setTitle(String title) {
         this.title = title;
     }
-
-    private Integer numRatings;
 }
@@ -5,9 +5,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AdminMetricsRepository extends JpaRepository<AdminMetrics, UUID> {
     AdminMetrics findByDate(LocalDate date);
+
+    List<AdminMetrics> findByDateBetweenOrderByDateAsc(LocalDate from, LocalDate to);
 }
@@ -1,24 +1,68 @@
 package com.toolshed.backend.repository;
 
 import com.toolshed.backend.repository.entities.Booking;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import com.toolshed.backend.repository.enums.BookingStatus;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
+    // Booking lists load everything their responses show (tool title, owner/renter/reporter names,
+    // reviews and reviewers) in a single joined query instead of lazy loads per booking
+    @EntityGraph(attributePaths = { "tool", "owner", "renter", "conditionReportedBy", "reviews", "reviews.reviewer" })
     List<Booking> findByRenterId(UUID renterId);
 
+    @EntityGraph(attributePaths = { "tool", "owner", "renter", "conditionReportedBy", "reviews", "reviews.reviewer" })
     List<Booking> findByOwnerId(UUID ownerId);
 
+    @EntityGraph(attributePaths = { "tool", "owner", "renter", "conditionReportedBy", "reviews", "reviews.reviewer" })
     List<Booking> findByToolId(UUID toolId);
 
-    List<Booking> findByStatusAndEndDateBefore(BookingStatus status, LocalDate date);
+    // Next chunk of approved bookings whose end date has passed (ids only, no entities)
+    @Query("SELECT b.id FROM Booking b WHERE b.status = 'APPROVED' AND b.endDate < :date ORDER BY b.id")
+    List<UUID> findExpiredApprovedIds(LocalDate date, Limit limit);
+
+    // Deposits held for the given bookings that are still approved (projection, no entities)
+    @Query("SELECT b.id AS bookingId, b.owner.id AS ownerId, b.depositAmount AS depositAmount FROM Booking b " +
+           "WHERE b.id IN :ids AND b.status = 'APPROVED' AND b.depositAmount > 0")
+    List<HeldDeposit> findHeldDeposits(Collection<UUID> ids);
+
+    interface HeldDeposit {
+        UUID getBookingId();
+
+        UUID getOwnerId();
+
+        Double getDepositAmount();
+    }
+
+    // Paid rental income of an owner per month of the booking's end date, oldest month first
+    @Query("SELECT YEAR(b.endDate) AS year, MONTH(b.endDate) AS month, SUM(b.totalPrice) AS amount " +
+           "FROM Booking b " +
+           "WHERE b.owner.id = :ownerId AND b.paymentStatus = 'COMPLETED' AND b.endDate IS NOT NULL " +
+           "GROUP BY YEAR(b.endDate), MONTH(b.endDate) " +
+           "ORDER BY YEAR(b.endDate), MONTH(b.endDate)")
+    List<MonthlyEarnings> sumPaidEarningsByMonth(UUID ownerId);
+
+    interface MonthlyEarnings {
+        Integer getYear();
+
+        Integer getMonth();
+
+        Double getAmount();
+    }
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = 'COMPLETED' WHERE b.id IN :ids AND b.status = 'APPROVED'")
+    int completeApproved(Collection<UUID> ids);
 
     @Query("SELECT b FROM Booking b WHERE b.tool.id = :toolId AND b.status NOT IN ('CANCELLED', 'REJECTED') AND ((b.startDate <= :endDate) AND (b.endDate >= :startDate))")
     List<Booking> findOverlappingBookings(UUID toolId, LocalDate startDate, LocalDate endDate);
@@ -27,4 +71,18 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     long countActiveApprovedBookingsForToolOnDate(UUID toolId, LocalDate date);
 
     long countByStatus(BookingStatus status);
+
+    // All status counts in one grouped query, to reconcile AdminCounters
+    @Query("SELECT b.status AS status, COUNT(b) AS count FROM Booking b GROUP BY b.status")
+    List<StatusCount> countGroupedByStatus();
+
+    interface StatusCount {
+        BookingStatus getStatus();
+
+        long getCount();
+    }
+
+    // Bookings that still hold their dates, used to build ToolOccupancyIndex
+    @Query("SELECT b FROM Booking b WHERE b.status NOT IN ('CANCELLED', 'REJECTED') AND b.endDate >= :date")
+    List<Booking> findBlockingEndingOnOrAfter(LocalDate date);
 }
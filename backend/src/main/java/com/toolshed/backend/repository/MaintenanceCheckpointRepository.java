@@ -0,0 +1,10 @@
+package com.toolshed.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.toolshed.backend.repository.entities.MaintenanceCheckpoint;
+
+@Repository
+public interface MaintenanceCheckpointRepository extends JpaRepository<MaintenanceCheckpoint, String> {
+}
@@ -1,15 +1,47 @@
 package com.toolshed.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.toolshed.backend.dto.ReportResponse;
 import com.toolshed.backend.repository.entities.Report;
 import com.toolshed.backend.repository.enums.ReportStatus;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, UUID> {
     List<Report> findByStatus(ReportStatus status);
+
+    // Position of a status in the moderation queue: the workflow order, which is
+    // also the declaration order of ReportStatus. Sorting the column itself would
+    // go by name and put IN_PROGRESS before OPEN.
+    String QUEUE_RANK = "CASE r.status WHEN com.toolshed.backend.repository.enums.ReportStatus.OPEN THEN 0 " +
+            "WHEN com.toolshed.backend.repository.enums.ReportStatus.IN_PROGRESS THEN 1 ELSE 2 END";
+
+    /**
+     * One page of the moderation queue in (status, createdAt, id) order, open
+     * reports first, resuming after the given position when
+     * {@code afterRank} (the {@link ReportStatus#ordinal()} of its status) is
+     * set. Rows are built in the query from the report and its reporter, tool
+     * and booking columns, so a page is one statement and loads no entity.
+     */
+    @Query("SELECT new com.toolshed.backend.dto.ReportResponse(r.id, rep.id, rep.email, t.id, t.title, b.id, " +
+           "    r.title, r.description, r.status, r.createdAt, r.updatedAt) " +
+           "FROM Report r JOIN r.reporter rep LEFT JOIN r.tool t LEFT JOIN r.booking b " +
+           "WHERE (:status IS NULL OR r.status = :status) " +
+           "AND (:afterRank IS NULL OR " + QUEUE_RANK + " > :afterRank " +
+           "    OR (" + QUEUE_RANK + " = :afterRank AND (r.createdAt > :afterCreatedAt " +
+           "        OR (r.createdAt = :afterCreatedAt AND r.id > :afterId)))) " +
+           "ORDER BY " + QUEUE_RANK + ", r.createdAt, r.id")
+    List<ReportResponse> findQueuePage(@Param("status") ReportStatus status,
+                                       @Param("afterRank") Integer afterRank,
+                                       @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                       @Param("afterId") UUID afterId,
+                                       Limit limit);
 }
@@ -1,9 +1,11 @@
 package com.toolshed.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.toolshed.backend.repository.entities.Review;
@@ -15,4 +17,17 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     List<Review> findByOwnerId(UUID ownerId);
     boolean existsByBookingId(UUID bookingId);
     boolean existsByBookingIdAndType(UUID bookingId, ReviewType type);
+
+    // One aggregate row that changes whenever a review is added, re-rated or removed
+    @Query("SELECT COUNT(r) AS reviews, COALESCE(SUM(r.rating), 0) AS ratingSum, MAX(r.updatedAt) AS lastChange " +
+           "FROM Review r")
+    ReviewStats getReviewStats();
+
+    interface ReviewStats {
+        long getReviews();
+
+        long getRatingSum();
+
+        LocalDateTime getLastChange();
+    }
 }
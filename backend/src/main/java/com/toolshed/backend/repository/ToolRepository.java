@@ -1,21 +1,48 @@
 package com.toolshed.backend.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.toolshed.backend.repository.entities.Tool;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ToolRepository extends JpaRepository<Tool, UUID> {
     List<Tool> findByOwnerId(UUID ownerId);
     List<Tool> findByActiveTrue();
+    long countByActiveTrue();
     List<Tool> findByTitle(String title);
 
+    // Forward-only cursor for bulk exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Tool t ORDER BY t.id")
+    Stream<Tool> streamAllForExport();
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Keyset pagination: rows are ordered by id and resumed after the last id of the previous page
+    @Query("SELECT t FROM Tool t WHERE (:afterId IS NULL OR t.id > :afterId) ORDER BY t.id")
+    List<Tool> findPage(@Param("afterId") UUID afterId, Limit limit);
+
+    @Query("SELECT t FROM Tool t WHERE t.active = true AND (:afterId IS NULL OR t.id > :afterId) ORDER BY t.id")
+    List<Tool> findActivePage(@Param("afterId") UUID afterId, Limit limit);
+
     @Query("SELECT t FROM Tool t WHERE t.active = true " +
            "AND (:keyword IS NULL OR :keyword = '' OR " +
            "    (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -23,10 +50,62 @@ public interface ToolRepository extends JpaRepository<Tool, UUID> {
            "AND (:district IS NULL OR :district = '' OR " +
            "    LOWER(t.district) LIKE LOWER(CONCAT('%', :district, '%'))) " +
            "AND (:minPrice IS NULL OR t.pricePerDay >= :minPrice) " +
-           "AND (:maxPrice IS NULL OR t.pricePerDay <= :maxPrice)")
+           "AND (:maxPrice IS NULL OR t.pricePerDay <= :maxPrice) " +
+           "AND (:afterId IS NULL OR t.id > :afterId) " +
+           "ORDER BY t.id")
     List<Tool> searchTools(@Param("keyword") String keyword, 
                            @Param("district") String district,
                            @Param("minPrice") Double minPrice,
-                           @Param("maxPrice") Double maxPrice);
+                           @Param("maxPrice") Double maxPrice,
+                           @Param("afterId") UUID afterId,
+                           Limit limit);
+
+    /**
+     * Recomputes {@code active} for the tools of the given bookings: a tool is
+     * available again unless another approved booking covers {@code date}.
+     */
+    @Modifying
+    @Query("UPDATE Tool t SET t.active = CASE WHEN EXISTS (" +
+           "    SELECT 1 FROM Booking b WHERE b.tool = t AND b.status = 'APPROVED' " +
+           "    AND b.startDate <= :date AND b.endDate >= :date) THEN false ELSE true END " +
+           "WHERE t.id IN (SELECT b.tool.id FROM Booking b WHERE b.id IN :bookingIds)")
+    int refreshActiveForBookings(@Param("bookingIds") Collection<UUID> bookingIds, @Param("date") LocalDate date);
+
+    /**
+     * Adds a rating (countDelta 1) or changes one (countDelta 0) in a single
+     * statement; the average is recomputed from the running sum and count.
+     */
+    @Modifying
+    @Query("UPDATE Tool t SET t.ratingSum = t.ratingSum + :ratingDelta, t.numRatings = t.numRatings + :countDelta, " +
+           "    t.overallRating = ROUND(CAST(t.ratingSum + :ratingDelta AS Double) / (t.numRatings + :countDelta), 1) " +
+           "WHERE t.id = :toolId AND t.numRatings + :countDelta > 0")
+    int addRating(@Param("toolId") UUID toolId, @Param("ratingDelta") long ratingDelta,
+            @Param("countDelta") int countDelta);
+
+    /**
+     * Recomputes the rating aggregates of every reviewed tool from its
+     * tool reviews (used to backfill or repair the running sums).
+     */
+    @Modifying
+    @Query("UPDATE Tool t SET " +
+           "    t.ratingSum = (SELECT SUM(r.rating) FROM Review r WHERE r.tool = t AND r.type = 'RENTER_TO_TOOL'), " +
+           "    t.numRatings = (SELECT COUNT(r.rating) FROM Review r WHERE r.tool = t AND r.type = 'RENTER_TO_TOOL'), " +
+           "    t.overallRating = ROUND((SELECT AVG(r.rating) FROM Review r " +
+           "        WHERE r.tool = t AND r.type = 'RENTER_TO_TOOL'), 1) " +
+           "WHERE t.id IN (SELECT r.tool.id FROM Review r WHERE r.type = 'RENTER_TO_TOOL' AND r.rating IS NOT NULL)")
+    int rebuildRatingAggregates();
+
+    // Same filters as searchTools, applied to the candidates found by ToolSearchIndex
+    @Query("SELECT t FROM Tool t WHERE t.id IN :ids AND t.active = true " +
+           "AND (:district IS NULL OR :district = '' OR " +
+           "    LOWER(t.district) LIKE LOWER(CONCAT('%', :district, '%'))) " +
+           "AND (:minPrice IS NULL OR t.pricePerDay >= :minPrice) " +
+           "AND (:maxPrice IS NULL OR t.pricePerDay <= :maxPrice) " +
+           "ORDER BY t.id")
+    List<Tool> searchToolsByIds(@Param("ids") Collection<UUID> ids,
+                                @Param("district") String district,
+                                @Param("minPrice") Double minPrice,
+                                @Param("maxPrice") Double maxPrice,
+                                Limit limit);
 
 }
@@ -1,11 +1,25 @@
 package com.toolshed.backend.repository;
 
+import com.toolshed.backend.dto.AdminUserSummary;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -13,5 +27,101 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
 
+    // Forward-only cursor over every email; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
     long countByStatus(com.toolshed.backend.repository.enums.UserStatus status);
+
+    // All status counts in one grouped query, to reconcile AdminCounters
+    @Query("SELECT u.status AS status, COUNT(u) AS count FROM User u GROUP BY u.status")
+    List<StatusCount> countGroupedByStatus();
+
+    interface StatusCount {
+        com.toolshed.backend.repository.enums.UserStatus getStatus();
+
+        long getCount();
+    }
+
+    /**
+     * One page of non-admin users in email order, after {@code afterEmail}
+     * (exclusive) when given. Only the listed columns are selected, so no
+     * entity, tool collection or password is loaded. {@code prefix} is a
+     * lowercase LIKE pattern (already escaped, ending in '%') matched against
+     * first name, last name and email.
+     */
+    @Query("SELECT new com.toolshed.backend.dto.AdminUserSummary(u.id, u.firstName, u.lastName, u.email, " +
+           "    u.role, u.status, u.reputationScore, u.subscriptionTier, u.registeredDate) " +
+           "FROM User u " +
+           "WHERE u.role <> com.toolshed.backend.repository.enums.UserRole.ADMIN " +
+           "AND (:status IS NULL OR u.status = :status) " +
+           "AND (:role IS NULL OR u.role = :role) " +
+           "AND (:prefix IS NULL OR LOWER(u.email) LIKE :prefix ESCAPE '\\' " +
+           "    OR LOWER(u.firstName) LIKE :prefix ESCAPE '\\' OR LOWER(u.lastName) LIKE :prefix ESCAPE '\\') " +
+           "AND (:afterEmail IS NULL OR u.email > :afterEmail) " +
+           "ORDER BY u.email")
+    List<AdminUserSummary> findAdminPage(@Param("status") UserStatus status,
+                                         @Param("role") UserRole role,
+                                         @Param("prefix") String prefix,
+                                         @Param("afterEmail") String afterEmail,
+                                         Limit limit);
+
+    /**
+     * Adds a signed amount of cents to the balance in one statement, so
+     * concurrent movements never overwrite each other.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.walletBalanceCents = u.walletBalanceCents + :amountCents WHERE u.id = :ownerId")
+    int addToWalletBalance(UUID ownerId, long amountCents);
+
+    /**
+     * Takes cents out of the balance only if it covers them.
+     *
+     * @return 1 if debited, 0 if the balance was insufficient
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.walletBalanceCents = u.walletBalanceCents - :amountCents " +
+           "WHERE u.id = :ownerId AND u.walletBalanceCents >= :amountCents")
+    int debitWalletBalance(UUID ownerId, long amountCents);
+
+    /**
+     * Applies the ledger entries of the given type recorded for the given
+     * bookings to their owners' balances, summed per owner so every owner row
+     * is written once.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.walletBalanceCents = u.walletBalanceCents + " +
+           "    (SELECT SUM(e.amountCents) FROM WalletEntry e " +
+           "     WHERE e.owner = u AND e.bookingId IN :bookingIds AND e.type = :type) " +
+           "WHERE u.id IN (SELECT e.owner.id FROM WalletEntry e WHERE e.bookingId IN :bookingIds AND e.type = :type)")
+    int applyEntriesOfBookings(Collection<UUID> bookingIds, WalletEntryType type);
+
+    /**
+     * Adds a rating (countDelta 1) or changes one (countDelta 0) to the user's
+     * reputation in a single statement; the score is recomputed from the
+     * running sum and count.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.reputationSum = u.reputationSum + :ratingDelta, " +
+           "    u.reputationCount = u.reputationCount + :countDelta, " +
+           "    u.reputationScore = ROUND(CAST(u.reputationSum + :ratingDelta AS Double) " +
+           "        / (u.reputationCount + :countDelta), 1) " +
+           "WHERE u.id = :userId AND u.reputationCount + :countDelta > 0")
+    int addReputation(UUID userId, long ratingDelta, int countDelta);
+
+    /**
+     * Recomputes the reputation aggregates of every reviewed user from the
+     * reviews targeting them (used to backfill or repair the running sums).
+     */
+    @Modifying
+    @Query("UPDATE User u SET " +
+           "    u.reputationSum = (SELECT SUM(r.rating) FROM Review r WHERE r.owner = u), " +
+           "    u.reputationCount = (SELECT COUNT(r.rating) FROM Review r WHERE r.owner = u), " +
+           "    u.reputationScore = ROUND((SELECT AVG(r.rating) FROM Review r WHERE r.owner = u), 1) " +
+           "WHERE u.id IN (SELECT r.owner.id FROM Review r WHERE r.rating IS NOT NULL)")
+    int rebuildReputationAggregates();
 }
@@ -0,0 +1,25 @@
+package com.toolshed.backend.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.toolshed.backend.repository.entities.WalletEntry;
+
+/**
+ * Append-only ledger of wallet movements.
+ */
+@Repository
+public interface WalletEntryRepository extends JpaRepository<WalletEntry, UUID> {
+
+    /**
+     * Sum of all entries of an owner, in cents. Equals the stored balance;
+     * used to reconcile it.
+     */
+    @Query("SELECT COALESCE(SUM(e.amountCents), 0) FROM WalletEntry e WHERE e.owner.id = :ownerId")
+    long sumAmountCentsByOwnerId(UUID ownerId);
+
+    long countByOwnerId(UUID ownerId);
+}
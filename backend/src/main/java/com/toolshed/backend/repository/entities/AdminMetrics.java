@@ -21,6 +21,8 @@ public class AdminMetrics {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // One row per day, however many instances run the snapshot job
+    @Column(nullable = false, unique = true)
     private LocalDate date;
     
     private Integer activeUsersCount;
@@ -5,29 +5,41 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.toolshed.backend.repository.enums.BookingStatus;
 import com.toolshed.backend.repository.enums.ConditionStatus;
 import com.toolshed.backend.repository.enums.DepositStatus;
 import com.toolshed.backend.repository.enums.PaymentStatus;
+import com.toolshed.backend.service.AdminCountersListener;
+import com.toolshed.backend.service.ToolOccupancyIndexListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "booking")
+@EntityListeners({ ToolOccupancyIndexListener.class, AdminCountersListener.class })
+@Table(name = "booking", indexes = {
+        // Per-owner monthly earnings aggregate
+        @Index(name = "idx_booking_owner_payment_end", columnList = "owner_id, paymentStatus, endDate")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -60,6 +72,13 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
 
+    // Status as last read from or written to the database; see AdminCountersListener
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private BookingStatus persistedStatus;
+
     @Enumerated(EnumType.STRING)
     private PaymentStatus paymentStatus;
 
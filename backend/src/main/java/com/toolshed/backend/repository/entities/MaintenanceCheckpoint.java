@@ -0,0 +1,37 @@
+package com.toolshed.backend.repository.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last state a maintenance task ran against, so it can be skipped while
+ * nothing changed.
+ */
+@Entity
+@Table(name = "maintenance_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceCheckpoint {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private String name;
+
+    /**
+     * Opaque description of the input the task last processed.
+     */
+    @Column(nullable = false)
+    private String fingerprint;
+
+    private LocalDateTime completedAt;
+}
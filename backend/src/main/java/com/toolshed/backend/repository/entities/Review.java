@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import com.toolshed.backend.repository.enums.ReviewType;
 
@@ -61,4 +62,7 @@ public class Review {
 
     @CreationTimestamp
     private LocalDateTime date;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -3,9 +3,13 @@ package com.toolshed.backend.repository.entities;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.toolshed.backend.service.ToolSearchIndexListener;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -20,6 +24,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "tool")
+@EntityListeners(ToolSearchIndexListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -54,12 +59,20 @@ public class Tool {
     // In a real app, this might be a separate element collection or table
     private String availabilityCalendar;
 
-    @Column(nullable = false)
+    // The rating aggregates are only set on insert and then moved by the atomic
+    // updates of ToolRepository (addRating, rebuildRatingAggregates); flushing
+    // this entity never writes them, so a stale copy can't undo a new rating.
+    @Column(nullable = false, updatable = false)
     private Double overallRating;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int numRatings;
 
+    // Running sum of the tool's review ratings; overallRating = ratingSum / numRatings
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long ratingSum;
+
     private String imageUrl;
 
     private boolean underMaintenance;
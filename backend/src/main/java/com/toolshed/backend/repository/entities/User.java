@@ -4,15 +4,20 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.toolshed.backend.repository.enums.SubscriptionTier;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.service.AdminCountersListener;
+import com.toolshed.backend.service.EmailBloomFilterListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -20,17 +25,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
 @Table(name = "app_user")
+@EntityListeners({ EmailBloomFilterListener.class, AdminCountersListener.class })
 @Data
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class User {
 
     @Id
@@ -57,19 +65,45 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
-    @Column(nullable = false)
+    // Status as last read from or written to the database; see AdminCountersListener
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private UserStatus persistedStatus;
+
+    // Like the wallet balance, the reputation aggregates are only set on insert
+    // and then moved by the atomic updates of UserRepository (addReputation,
+    // rebuildReputationAggregates), never by flushing this entity.
+    @Column(nullable = false, updatable = false)
     private Double reputationScore;
 
-    @Column(nullable = false)
-    @Builder.Default
-    private Double walletBalance = 0.0;
+    // Running sum and count of the ratings of reviews targeting this user;
+    // reputationScore = reputationSum / reputationCount once there is one
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long reputationSum;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int reputationCount;
+
+    /**
+     * Wallet balance in euro cents. Starts at zero and is only moved by the
+     * atomic updates of {@code WalletLedger}, which record an entry for every
+     * change; there is no setter (or builder method), and flushing this entity
+     * never writes it, so a stale copy can't overwrite concurrent movements.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    private long walletBalanceCents;
 
     @CreationTimestamp
     private LocalDateTime registeredDate;
 
     // Subscription fields for Pro Member
     @Enumerated(EnumType.STRING)
-    @Builder.Default
     private SubscriptionTier subscriptionTier = SubscriptionTier.FREE;
 
     private LocalDateTime subscriptionStart;
@@ -80,4 +114,39 @@ public class User {
     @OneToMany(mappedBy = "owner")
     @JsonManagedReference
     private List<Tool> tools;
+
+    /**
+     * Backs {@link #builder()}: every persistent field except the wallet
+     * balance, which starts at zero and only moves through the ledger.
+     */
+    @Builder
+    private User(UUID id, String firstName, String lastName, String email, String password, UserRole role,
+            UserStatus status, Double reputationScore, long reputationSum, int reputationCount,
+            LocalDateTime registeredDate, SubscriptionTier subscriptionTier, LocalDateTime subscriptionStart,
+            LocalDateTime subscriptionEnd, String stripeSubscriptionId, String stripeCustomerId, List<Tool> tools) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.status = status;
+        this.reputationScore = reputationScore;
+        this.reputationSum = reputationSum;
+        this.reputationCount = reputationCount;
+        this.registeredDate = registeredDate;
+        this.subscriptionTier = subscriptionTier != null ? subscriptionTier : SubscriptionTier.FREE;
+        this.subscriptionStart = subscriptionStart;
+        this.subscriptionEnd = subscriptionEnd;
+        this.stripeSubscriptionId = stripeSubscriptionId;
+        this.stripeCustomerId = stripeCustomerId;
+        this.tools = tools;
+    }
+
+    /**
+     * Wallet balance in euros.
+     */
+    public Double getWalletBalance() {
+        return walletBalanceCents / 100.0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.toolshed.backend.repository.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.toolshed.backend.repository.enums.WalletEntryType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One movement of an owner's wallet. Entries are only ever inserted, never
+ * updated or deleted; the sum of an owner's entries is their balance.
+ */
+@Entity
+@Table(name = "wallet_entry", indexes = {
+        @Index(name = "idx_wallet_entry_owner", columnList = "owner_id, createdAt"),
+        @Index(name = "idx_wallet_entry_booking", columnList = "bookingId")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User owner;
+
+    /**
+     * Signed amount in euro cents: positive credits, negative debits.
+     */
+    @Column(nullable = false, updatable = false)
+    private long amountCents;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private WalletEntryType type;
+
+    /**
+     * Booking that caused the movement, if any.
+     */
+    @Column(updatable = false)
+    private UUID bookingId;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
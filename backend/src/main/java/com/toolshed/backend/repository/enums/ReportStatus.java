@@ -1,5 +1,6 @@
 package com.toolshed.backend.repository.enums;
 
+// Declared in moderation queue order, which ReportRepository#findQueuePage relies on
 public enum ReportStatus {
     OPEN,
     IN_PROGRESS,
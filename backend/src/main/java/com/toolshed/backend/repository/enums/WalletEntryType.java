@@ -0,0 +1,14 @@
+package com.toolshed.backend.repository.enums;
+
+/**
+ * Reason of a movement in an owner's wallet ledger.
+ */
+public enum WalletEntryType {
+    RENTAL_INCOME,
+    DEPOSIT_HELD,
+    DEPOSIT_RELEASE,
+    CANCELLATION_FEE,
+    PAYOUT,
+    OPENING_BALANCE,
+    ADJUSTMENT
+}
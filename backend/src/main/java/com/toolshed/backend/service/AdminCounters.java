@@ -0,0 +1,158 @@
+package com.toolshed.backend.service;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+/**
+ * Live user and booking counts per status, so the admin dashboard is served
+ * from memory instead of a count query per status on every refresh.
+ * Counters move with each status transition ({@link AdminCountersListener},
+ * plus bulk updates reported directly) and are reconciled against the
+ * database with two grouped queries at startup and periodically, which
+ * corrects any drift from rolled-back transactions or writes made outside
+ * the application.
+ */
+@Component
+public class AdminCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminCounters.class);
+
+    // Fully populated up front and never modified, so safe to read concurrently
+    private final Map<UserStatus, LongAdder> users = new EnumMap<>(UserStatus.class);
+    private final Map<BookingStatus, LongAdder> bookings = new EnumMap<>(BookingStatus.class);
+
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+
+    private volatile Instant reconciledAt;
+
+    public AdminCounters(UserRepository userRepository, BookingRepository bookingRepository) {
+        this.userRepository = userRepository;
+        this.bookingRepository = bookingRepository;
+        for (UserStatus status : UserStatus.values()) {
+            users.put(status, new LongAdder());
+        }
+        for (BookingStatus status : BookingStatus.values()) {
+            bookings.put(status, new LongAdder());
+        }
+    }
+
+    /**
+     * Records a user changing status; {@code from} is null for a new user,
+     * {@code to} null for a deleted one.
+     */
+    public void userMoved(UserStatus from, UserStatus to) {
+        if (from != null) {
+            users.get(from).decrement();
+        }
+        if (to != null) {
+            users.get(to).increment();
+        }
+    }
+
+    /**
+     * Records {@code count} bookings changing status; {@code from} is null for
+     * new bookings, {@code to} null for deleted ones.
+     */
+    public void bookingsMoved(BookingStatus from, BookingStatus to, long count) {
+        if (from != null) {
+            bookings.get(from).add(-count);
+        }
+        if (to != null) {
+            bookings.get(to).add(count);
+        }
+    }
+
+    public long users(UserStatus status) {
+        return users.get(status).sum();
+    }
+
+    public long totalUsers() {
+        return users.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long bookings(BookingStatus status) {
+        return bookings.get(status).sum();
+    }
+
+    public long totalBookings() {
+        return bookings.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<UserStatus, Long> usersByStatus() {
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        users.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    public Map<BookingStatus, Long> bookingsByStatus() {
+        Map<BookingStatus, Long> counts = new EnumMap<>(BookingStatus.class);
+        bookings.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    /**
+     * When the counters were last checked against the database, or null
+     * before the first reconciliation.
+     */
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Moves every counter by its difference from the database count.
+     * Transitions landing between the query and the adjustment are off by
+     * one until the next run.
+     */
+    @Scheduled(fixedDelayString = "${admin.counters.reconcile-interval-ms:900000}",
+            initialDelayString = "${admin.counters.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        Map<UserStatus, Long> userCounts = new EnumMap<>(UserStatus.class);
+        for (UserRepository.StatusCount row : userRepository.countGroupedByStatus()) {
+            if (row.getStatus() != null) {
+                userCounts.put(row.getStatus(), row.getCount());
+            }
+        }
+        Map<BookingStatus, Long> bookingCounts = new EnumMap<>(BookingStatus.class);
+        for (BookingRepository.StatusCount row : bookingRepository.countGroupedByStatus()) {
+            if (row.getStatus() != null) {
+                bookingCounts.put(row.getStatus(), row.getCount());
+            }
+        }
+
+        long drift = 0;
+        for (Map.Entry<UserStatus, LongAdder> entry : users.entrySet()) {
+            long delta = userCounts.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            entry.getValue().add(delta);
+            drift += Math.abs(delta);
+        }
+        for (Map.Entry<BookingStatus, LongAdder> entry : bookings.entrySet()) {
+            long delta = bookingCounts.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            entry.getValue().add(delta);
+            drift += Math.abs(delta);
+        }
+        if (reconciledAt != null && drift > 0) {
+            logger.info("Admin counters reconciled; corrected a drift of {}", drift);
+        }
+        reconciledAt = Instant.now();
+    }
+}
@@ -0,0 +1,62 @@
+package com.toolshed.backend.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.User;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that reports user and booking status transitions to
+ * {@link AdminCounters}. Each entity remembers the status it was loaded or
+ * last saved with, so an update can tell which counter to move.
+ * Transitions are counted when flushed, before commit; a rolled-back one
+ * leaves the counters off until the next reconciliation. Bulk JPQL updates
+ * bypass the listener and are reported by their callers.
+ */
+public class AdminCountersListener {
+
+    private final ObjectProvider<AdminCounters> counters;
+
+    public AdminCountersListener(ObjectProvider<AdminCounters> counters) {
+        this.counters = counters;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof User user) {
+            user.setPersistedStatus(user.getStatus());
+        } else if (entity instanceof Booking booking) {
+            booking.setPersistedStatus(booking.getStatus());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof User user) {
+            if (user.getPersistedStatus() != user.getStatus()) {
+                counters.ifAvailable(c -> c.userMoved(user.getPersistedStatus(), user.getStatus()));
+            }
+            user.setPersistedStatus(user.getStatus());
+        } else if (entity instanceof Booking booking) {
+            if (booking.getPersistedStatus() != booking.getStatus()) {
+                counters.ifAvailable(c -> c.bookingsMoved(booking.getPersistedStatus(), booking.getStatus(), 1));
+            }
+            booking.setPersistedStatus(booking.getStatus());
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof User user) {
+            counters.ifAvailable(c -> c.userMoved(user.getPersistedStatus(), null));
+        } else if (entity instanceof Booking booking) {
+            counters.ifAvailable(c -> c.bookingsMoved(booking.getPersistedStatus(), null, 1));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.toolshed.backend.service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.dto.DailyMetricsResponse;
+import com.toolshed.backend.repository.AdminMetricsRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.entities.AdminMetrics;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+/**
+ * Persists one {@link AdminMetrics} row per day from {@link AdminCounters},
+ * and reads them back as a time series for the admin dashboard.
+ * The per-status counts go into {@code otherStats} as JSON:
+ * {@code {"users": {"ACTIVE": 12, ...}, "bookings": {"APPROVED": 3, ...}}}.
+ */
+@Component
+public class AdminMetricsSnapshots {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminMetricsSnapshots.class);
+
+    private final AdminMetricsRepository adminMetricsRepository;
+    private final ToolRepository toolRepository;
+    private final AdminCounters counters;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public AdminMetricsSnapshots(AdminMetricsRepository adminMetricsRepository, ToolRepository toolRepository,
+            AdminCounters counters, ObjectMapper objectMapper) {
+        this(adminMetricsRepository, toolRepository, counters, objectMapper, Clock.systemDefaultZone());
+    }
+
+    AdminMetricsSnapshots(AdminMetricsRepository adminMetricsRepository, ToolRepository toolRepository,
+            AdminCounters counters, ObjectMapper objectMapper, Clock clock) {
+        this.adminMetricsRepository = adminMetricsRepository;
+        this.toolRepository = toolRepository;
+        this.counters = counters;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Just after midnight, records the day that ended.
+     */
+    @Scheduled(cron = "${admin.metrics.snapshot-cron:0 5 0 * * *}")
+    public void snapshotPreviousDay() {
+        AdminMetrics metrics = snapshot(LocalDate.now(clock).minusDays(1));
+        logger.info("Stored admin metrics for {}: {} active users, {} active listings, {} bookings",
+                metrics.getDate(), metrics.getActiveUsersCount(), metrics.getActiveListingsCount(),
+                metrics.getBookingsCount());
+    }
+
+    /**
+     * Stores the current counters as the row of the given date, replacing
+     * any row already stored for it. Every instance runs the job, so the
+     * insert can lose to another instance's; the unique date then rejects
+     * it and that row is updated instead.
+     */
+    public AdminMetrics snapshot(LocalDate date) {
+        Map<String, Object> otherStats = new LinkedHashMap<>();
+        otherStats.put("users", counters.usersByStatus());
+        otherStats.put("bookings", counters.bookingsByStatus());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(otherStats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize admin metrics", e);
+        }
+
+        long activeListings = toolRepository.countByActiveTrue();
+        AdminMetrics metrics = adminMetricsRepository.findByDate(date);
+        if (metrics == null) {
+            try {
+                return adminMetricsRepository.saveAndFlush(
+                        fill(AdminMetrics.builder().date(date).build(), activeListings, json));
+            } catch (DataIntegrityViolationException e) {
+                logger.info("Admin metrics for {} were stored concurrently; updating that row", date);
+                metrics = adminMetricsRepository.findByDate(date);
+            }
+        }
+        return adminMetricsRepository.save(fill(metrics, activeListings, json));
+    }
+
+    private AdminMetrics fill(AdminMetrics metrics, long activeListings, String otherStats) {
+        metrics.setActiveUsersCount(Math.toIntExact(counters.users(UserStatus.ACTIVE)));
+        metrics.setActiveListingsCount(Math.toIntExact(activeListings));
+        metrics.setBookingsCount(Math.toIntExact(counters.totalBookings()));
+        metrics.setOtherStats(otherStats);
+        return metrics;
+    }
+
+    /**
+     * Stored days within {@code [from, to]}, oldest first; days without a
+     * snapshot are absent.
+     */
+    @Transactional(readOnly = true)
+    public List<DailyMetricsResponse> between(LocalDate from, LocalDate to) {
+        return adminMetricsRepository.findByDateBetweenOrderByDateAsc(from, to).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private DailyMetricsResponse toResponse(AdminMetrics metrics) {
+        OtherStats other = parse(metrics.getOtherStats());
+        return DailyMetricsResponse.builder()
+                .date(metrics.getDate())
+                .activeUsers(valueOf(metrics.getActiveUsersCount()))
+                .activeListings(valueOf(metrics.getActiveListingsCount()))
+                .totalBookings(valueOf(metrics.getBookingsCount()))
+                .usersByStatus(other.users())
+                .bookingsByStatus(other.bookings())
+                .build();
+    }
+
+    private record OtherStats(Map<String, Long> users, Map<String, Long> bookings) {
+    }
+
+    private OtherStats parse(String json) {
+        if (json == null || json.isBlank()) {
+            return new OtherStats(Map.of(), Map.of());
+        }
+        try {
+            OtherStats stats = objectMapper.readValue(json, OtherStats.class);
+            return new OtherStats(stats.users() == null ? Map.of() : stats.users(),
+                    stats.bookings() == null ? Map.of() : stats.bookings());
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable admin metrics JSON: {}", e.getMessage());
+            return new OtherStats(Map.of(), Map.of());
+        }
+    }
+
+    private static long valueOf(Integer count) {
+        return count == null ? 0 : count;
+    }
+}
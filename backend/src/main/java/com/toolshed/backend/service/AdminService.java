@@ -1,56 +1,101 @@
 package com.toolshed.backend.service;
 
 import com.toolshed.backend.dto.AdminStatsDTO;
+import com.toolshed.backend.dto.AdminUserPage;
+import com.toolshed.backend.dto.AdminUserSummary;
+import com.toolshed.backend.dto.DailyMetricsResponse;
 import com.toolshed.backend.repository.BookingRepository;
 import com.toolshed.backend.repository.UserRepository;
 import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
+    static final int MAX_METRICS_DAYS = 366;
+    static final int DEFAULT_USER_PAGE_SIZE = 50;
+    static final int MAX_USER_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final AuthRateLimits authRateLimits;
+    private final AdminCounters adminCounters;
+    private final AdminMetricsSnapshots adminMetricsSnapshots;
 
+    /**
+     * Dashboard totals, answered from {@link AdminCounters} without querying.
+     */
     public AdminStatsDTO getStats() {
-        long totalUsers = userRepository.count();
-        long totalBookings = bookingRepository.count();
-        // Assuming you might want to filter by status for active/completed,
-        // but for now we'll do simple counts or implementation specific logic if
-        // repository supports it.
-        // If repository doesn't have specific countByStatus methods, we might need to
-        // add them or list all (inefficient).
-        // For MVP, lets try to find if repository allows counting by status or just
-        // return 0 for now if complex.
-        // Actually, let's use what we have. If BookingRepository is JpaRepository, we
-        // can validly assume countByStatus exists or add it.
-        // I'll stick to simple counts for now to ensure it compiles, and I should check
-        // BookingRepository content again or adding methods to it.
-
         return AdminStatsDTO.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(userRepository.countByStatus(UserStatus.ACTIVE))
-                .inactiveUsers(userRepository.countByStatus(UserStatus.SUSPENDED))
-                .totalBookings(totalBookings)
-                .activeBookings(bookingRepository.countByStatus(BookingStatus.APPROVED))
-                .completedBookings(bookingRepository.countByStatus(BookingStatus.COMPLETED))
-                .cancelledBookings(bookingRepository.countByStatus(BookingStatus.CANCELLED))
+                .totalUsers(adminCounters.totalUsers())
+                .activeUsers(adminCounters.users(UserStatus.ACTIVE))
+                .inactiveUsers(adminCounters.users(UserStatus.SUSPENDED))
+                .totalBookings(adminCounters.totalBookings())
+                .activeBookings(adminCounters.bookings(BookingStatus.APPROVED))
+                .completedBookings(adminCounters.bookings(BookingStatus.COMPLETED))
+                .cancelledBookings(adminCounters.bookings(BookingStatus.CANCELLED))
                 .build();
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll().stream()
-                .filter(u -> u.getRole() != com.toolshed.backend.repository.enums.UserRole.ADMIN)
-                .toList();
+    /**
+     * Daily snapshots between two dates, inclusive.
+     */
+    public List<DailyMetricsResponse> getDailyMetrics(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_METRICS_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_METRICS_DAYS + " days of metrics per request");
+        }
+        return adminMetricsSnapshots.between(from, to);
+    }
+
+    public EmailBloomFilter.Stats getEmailFilterStats() {
+        return emailBloomFilter.stats();
+    }
+
+    public AuthRateLimits.Stats getAuthRateLimitStats() {
+        return authRateLimits.stats();
+    }
+
+    /**
+     * One page of non-admin users, in email order, optionally filtered by
+     * status, role and a case-insensitive prefix of first name, last name or
+     * email. Each page is a single query over flat rows, holding at most
+     * {@link #MAX_USER_PAGE_SIZE} + 1 of them.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first
+     */
+    public AdminUserPage listUsers(UserStatus status, UserRole role, String query, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        List<AdminUserSummary> rows = userRepository.findAdminPage(status, role, toPrefixPattern(query),
+                decodeCursor(cursor), Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return AdminUserPage.builder().items(rows).build();
+        }
+        List<AdminUserSummary> items = rows.subList(0, pageSize);
+        return AdminUserPage.builder()
+                .items(items)
+                .nextCursor(encodeCursor(items.get(pageSize - 1).getEmail()))
+                .build();
     }
 
     public User activateUser(UUID userId) {
@@ -69,4 +114,41 @@ public class AdminService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
     }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_USER_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be positive");
+        }
+        return Math.min(limit, MAX_USER_PAGE_SIZE);
+    }
+
+    // Lowercased, with LIKE wildcards escaped so they match literally
+    static String toPrefixPattern(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        String escaped = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    static String encodeCursor(String lastEmail) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastEmail.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
 }
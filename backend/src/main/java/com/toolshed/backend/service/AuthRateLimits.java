@@ -0,0 +1,72 @@
+package com.toolshed.backend.service;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Throttles for the credential endpoints: one bucket per client IP (login and
+ * registration) and one per target email (login), so neither a single client
+ * nor a botnet aimed at one account can keep the user table and the password
+ * pool busy. Checked before any controller code runs. The counters are
+ * published to Micrometer (see {@link TokenBucketLimiter#bindTo}).
+ */
+@Component
+public class AuthRateLimits implements MeterBinder {
+
+    /**
+     * Throttle counters of both limiters.
+     */
+    public record Stats(TokenBucketLimiter.Stats byIp, TokenBucketLimiter.Stats byEmail) {
+    }
+
+    private final TokenBucketLimiter byIp;
+    private final TokenBucketLimiter byEmail;
+
+    public AuthRateLimits(@Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-per-minute:10}") double ipRefillPerMinute,
+            @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.rate-limit.email.refill-per-minute:1}") double emailRefillPerMinute,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys) {
+        this.byIp = new TokenBucketLimiter("ip", ipCapacity, ipRefillPerMinute, maxKeys);
+        this.byEmail = new TokenBucketLimiter("email", emailCapacity, emailRefillPerMinute, maxKeys);
+    }
+
+    /**
+     * @return 0 if the client may proceed, otherwise nanoseconds to wait
+     */
+    public long acquireForIp(String ip) {
+        return byIp.tryAcquire(ip);
+    }
+
+    /**
+     * Case and surrounding spaces are ignored, so variants of one address
+     * share a bucket.
+     *
+     * @return 0 if the email may be tried, otherwise nanoseconds to wait
+     */
+    public long acquireForEmail(String email) {
+        return byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeIdle() {
+        byIp.purgeIdle();
+        byEmail.purgeIdle();
+    }
+
+    public Stats stats() {
+        return new Stats(byIp.stats(), byEmail.stats());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        byIp.bindTo(registry);
+        byEmail.bindTo(registry);
+    }
+}
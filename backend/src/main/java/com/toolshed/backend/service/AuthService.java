@@ -7,19 +7,23 @@ import com.toolshed.backend.repository.UserRepository;
 import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.UserStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.UUID;
-
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final SessionTokens sessionTokens;
+    private final EmailBloomFilter emailBloomFilter;
+    private final PasswordHasher passwordHasher;
 
     public User register(RegisterRequest request) {
+        // Always asks the database: the Bloom filter only knows the emails this
+        // instance has seen, so it can't rule out one registered on another replica
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already exists");
         }
@@ -28,22 +32,29 @@ public class AuthService {
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .email(request.getEmail())
-                .password(request.getPassword()) // In real app, encode this!
+                .password(passwordHasher.hash(request.getPassword()))
                 .role(request.getRole())
                 .status(UserStatus.ACTIVE) // Default status
                 .reputationScore(0.0)
                 .build();
 
-        return userRepository.save(user);
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Registered concurrently since the check; the unique email constraint caught it
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already exists");
+        }
     }
 
     public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            // Same hashing work as a wrong password, so timing doesn't reveal which emails exist
+            passwordHasher.matches(request.getPassword(), passwordHasher.dummyHash());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+        }
 
-        // In a real app, use passwordEncoder.matches(request.getPassword(),
-        // user.getPassword())
-        if (!user.getPassword().equals(request.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
         }
 
@@ -58,8 +69,14 @@ public class AuthService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Account is not active");
         }
 
-        // Generate a mock token (UUID) for now since we don't have JWT set up
-        String token = UUID.randomUUID().toString();
+        // Plaintext (legacy) or outdated work factor: store a fresh hash
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.hash(request.getPassword()));
+            userRepository.save(user);
+        }
+
+        // Signed, self-validating token: checked by SessionTokenFilter without a DB lookup
+        String token = sessionTokens.issue(user);
 
         return LoginResponse.builder()
                 .token(token)
@@ -67,7 +84,21 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Ends the session of the given token.
+     *
+     * @return false if the token was not a valid session
+     */
+    public boolean logout(String token) {
+        return sessionTokens.revoke(token);
+    }
+
+    /**
+     * Called on each keystroke of the registration form: emails the Bloom
+     * filter has never seen are answered without a query.
+     */
     public boolean isEmailTaken(String email) {
-        return userRepository.existsByEmail(email);
+        return emailBloomFilter.mightContain(email)
+                && emailBloomFilter.recordLookup(userRepository.existsByEmail(email));
     }
 }
@@ -0,0 +1,70 @@
+package com.toolshed.backend.service;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Serializes booking admissions (create / approve) per tool, so the
+ * "check for overlaps, then write" sequence can't interleave for the same
+ * tool while different tools still proceed in parallel.
+ * Tool ids are hashed onto a fixed set of striped locks, and each admission
+ * runs its own transaction inside the lock: the lock is only released after
+ * commit, so the next admission for that tool always sees the previous one.
+ */
+@Component
+public class BookingAdmission {
+
+    // Power of two, so the stripe is a mask of the spread hash
+    static final int STRIPES = 256;
+
+    // Upper bound on how long a request waits behind others for the same tool
+    private static final long LOCK_TIMEOUT_SECONDS = 5;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final TransactionOperations transactions;
+
+    public BookingAdmission(TransactionOperations transactions) {
+        this.transactions = transactions;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs {@code admission} in a new transaction while holding the lock of
+     * the given tool.
+     *
+     * @throws ResponseStatusException 503 if the lock can't be acquired in time
+     */
+    public <T> T admit(UUID toolId, Supplier<T> admission) {
+        ReentrantLock lock = lockFor(toolId);
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many concurrent bookings for this tool, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Booking admission interrupted");
+        }
+        try {
+            return transactions.execute(status -> admission.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ReentrantLock lockFor(UUID toolId) {
+        int hash = Objects.hashCode(toolId);
+        // Spread the high bits (as HashMap does) before masking
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,125 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.enums.BookingStatus;
+
+/**
+ * Task to mark finished bookings as completed and free tools if they are no
+ * longer rented. Also removes the security deposit from the owner's wallet
+ * (returns it to the renter).
+ * Expired bookings are handled in chunks of ids, each chunk in its own short
+ * transaction with set-based statements (deposit ledger entries and balances
+ * summed per owner, booking statuses, tool availability), so a backlog never turns into one
+ * long transaction or a query per booking.
+ */
+@Component
+public class BookingCompletionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingCompletionJob.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final WalletLedger walletLedger;
+    private final ToolRepository toolRepository;
+    private final TransactionOperations transactions;
+    private final AdminCounters adminCounters;
+
+    private volatile Run lastRun;
+
+    public BookingCompletionJob(BookingRepository bookingRepository,
+            WalletLedger walletLedger,
+            ToolRepository toolRepository,
+            TransactionOperations transactions,
+            AdminCounters adminCounters) {
+        this.bookingRepository = bookingRepository;
+        this.walletLedger = walletLedger;
+        this.toolRepository = toolRepository;
+        this.transactions = transactions;
+        this.adminCounters = adminCounters;
+    }
+
+    /**
+     * Per-run metrics.
+     *
+     * @param bookingsCompleted bookings moved from APPROVED to COMPLETED
+     * @param ownersDebited     owner wallets that had deposits released
+     * @param toolsRefreshed    tools whose availability was recomputed
+     * @param chunks            transactions committed
+     * @param durationMillis    wall-clock time of the run
+     */
+    public record Run(int bookingsCompleted, int ownersDebited, int toolsRefreshed, int chunks,
+            long durationMillis) {
+    }
+
+    @Scheduled(cron = "0 * * * * *")
+    public Run completeExpiredBookings() {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        int completed = 0;
+        int owners = 0;
+        int tools = 0;
+        int chunks = 0;
+
+        List<UUID> ids;
+        do {
+            ids = bookingRepository.findExpiredApprovedIds(today, Limit.of(CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Chunk chunk = completeChunk(ids, today);
+            // The bulk update bypasses AdminCountersListener
+            adminCounters.bookingsMoved(BookingStatus.APPROVED, BookingStatus.COMPLETED, chunk.completed());
+            owners += chunk.owners();
+            completed += chunk.completed();
+            tools += chunk.tools();
+            chunks++;
+            if (chunk.completed() == 0) {
+                // Nothing changed (rows completed elsewhere meanwhile); don't spin on the same ids
+                break;
+            }
+            // Completed rows drop out of the query, so the next call returns the next chunk
+        } while (ids.size() == CHUNK_SIZE);
+
+        Run run = new Run(completed, owners, tools, chunks, (System.nanoTime() - started) / 1_000_000);
+        lastRun = run;
+        if (completed > 0) {
+            logger.info("Completed {} expired bookings in {} chunk(s): {} owner wallets, {} tools updated in {} ms",
+                    run.bookingsCompleted(), run.chunks(), run.ownersDebited(), run.toolsRefreshed(),
+                    run.durationMillis());
+        }
+        return run;
+    }
+
+    /**
+     * Metrics of the most recent run, or null before the first one.
+     */
+    public Run getLastRun() {
+        return lastRun;
+    }
+
+    private record Chunk(int owners, int completed, int tools) {
+    }
+
+    private Chunk completeChunk(List<UUID> ids, LocalDate today) {
+        return transactions.execute(status -> {
+            // Deposits first: the statement only considers bookings still APPROVED
+            int owners = walletLedger.releaseDeposits(ids);
+            int completed = bookingRepository.completeApproved(ids);
+            int tools = toolRepository.refreshActiveForBookings(ids, today);
+            return new Chunk(owners, completed, tools);
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.toolshed.backend.service;
+
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database-level guarantee that two bookings holding their dates never
+ * overlap for the same tool, valid across several backend replicas.
+ * On PostgreSQL the booking table gets a generated
+ * {@code daterange(start_date, end_date, '[]')} column and a GiST exclusion
+ * constraint on (tool_id, period) for rows that are not cancelled or rejected.
+ * The schema itself is still managed by Hibernate, so the constraint is
+ * installed (idempotently) at startup; other databases (H2 in tests and local
+ * runs) keep relying on the overlap query.
+ */
+@Component
+public class BookingOverlapConstraint {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOverlapConstraint.class);
+
+    static final String CONSTRAINT_NAME = "booking_no_overlap";
+
+    // PostgreSQL SQLSTATE for exclusion_violation
+    static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean enforced;
+
+    public BookingOverlapConstraint(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Installs the column and constraint when running on PostgreSQL.
+     *
+     * @return whether overlaps are now rejected by the database
+     */
+    public boolean install() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            enforced = false;
+            return false;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+            jdbcTemplate.execute("ALTER TABLE booking ADD COLUMN IF NOT EXISTS period daterange "
+                    + "GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED");
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_constraint WHERE conname = ?", Integer.class, CONSTRAINT_NAME);
+            if (existing == null || existing == 0) {
+                jdbcTemplate.execute("ALTER TABLE booking ADD CONSTRAINT " + CONSTRAINT_NAME
+                        + " EXCLUDE USING gist (tool_id WITH =, period WITH &&)"
+                        + " WHERE (status NOT IN ('CANCELLED', 'REJECTED'))");
+            }
+            enforced = true;
+        } catch (DataAccessException e) {
+            // e.g. missing privileges for the extension or overlapping legacy rows
+            logger.warn("Could not install booking overlap constraint, falling back to overlap queries: {}",
+                    e.getMessage());
+            enforced = false;
+        }
+        return enforced;
+    }
+
+    /**
+     * Whether the database rejects overlapping bookings by itself, making the
+     * overlap read before each write unnecessary.
+     */
+    public boolean isEnforced() {
+        return enforced;
+    }
+
+    /**
+     * Whether the exception (or one of its causes) is a violation of the
+     * exclusion constraint.
+     */
+    public static boolean isViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
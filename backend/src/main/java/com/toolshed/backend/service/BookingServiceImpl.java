@@ -6,8 +6,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,6 +32,7 @@ import com.toolshed.backend.repository.enums.ConditionStatus;
 import com.toolshed.backend.repository.enums.DepositStatus;
 import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.PayoutStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import com.toolshed.backend.repository.enums.ReviewType;
 
 @Service
@@ -42,21 +43,34 @@ public class BookingServiceImpl implements BookingService {
     private final UserRepository userRepository;
     private final PayoutRepository payoutRepository;
     private final SubscriptionService subscriptionService;
+    private final BookingAdmission bookingAdmission;
+    private final BookingOverlapConstraint overlapConstraint;
+    private final WalletLedger walletLedger;
 
     public BookingServiceImpl(BookingRepository bookingRepository,
             ToolRepository toolRepository,
             UserRepository userRepository,
             PayoutRepository payoutRepository,
-            SubscriptionService subscriptionService) {
+            SubscriptionService subscriptionService,
+            BookingAdmission bookingAdmission,
+            BookingOverlapConstraint overlapConstraint,
+            WalletLedger walletLedger) {
         this.bookingRepository = bookingRepository;
         this.toolRepository = toolRepository;
         this.userRepository = userRepository;
         this.payoutRepository = payoutRepository;
         this.subscriptionService = subscriptionService;
+        this.bookingAdmission = bookingAdmission;
+        this.overlapConstraint = overlapConstraint;
+        this.walletLedger = walletLedger;
     }
 
+    /**
+     * Not {@code @Transactional}: the overlap check and the insert run in a
+     * transaction opened by {@link BookingAdmission} under the tool's lock, so
+     * concurrent requests for the same tool can't both pass the check.
+     */
     @Override
-    @Transactional
     public BookingResponse createBooking(CreateBookingRequest request) {
         LocalDate today = LocalDate.now();
         if (request.getStartDate().isBefore(today) || request.getEndDate().isBefore(today)) {
@@ -66,6 +80,11 @@ public class BookingServiceImpl implements BookingService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be on or after start date");
         }
 
+        return Timings.record(Timings.BOOKING_CREATE,
+                () -> bookingAdmission.admit(request.getToolId(), () -> admitBooking(request)));
+    }
+
+    private BookingResponse admitBooking(CreateBookingRequest request) {
         Tool tool = toolRepository.findById(request.getToolId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tool not found"));
 
@@ -84,10 +103,13 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
-        List<Booking> overlaps = bookingRepository.findOverlappingBookings(
-                tool.getId(), request.getStartDate(), request.getEndDate());
-        if (!overlaps.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Tool is already booked for these dates");
+        // With the exclusion constraint in place the insert itself fails on overlap
+        if (!overlapConstraint.isEnforced()) {
+            List<Booking> overlaps = bookingRepository.findOverlappingBookings(
+                    tool.getId(), request.getStartDate(), request.getEndDate());
+            if (!overlaps.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Tool is already booked for these dates");
+            }
         }
 
         long days = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
@@ -108,40 +130,25 @@ public class BookingServiceImpl implements BookingService {
         booking.setPaymentStatus(PaymentStatus.PENDING);
         booking.setTotalPrice(totalPrice);
 
-        Booking saved = bookingRepository.save(booking);
+        Booking saved = saveAdmitted(booking, "Tool is already booked for these dates");
 
         return toBookingResponse(saved);
     }
 
     /**
-     * task to mark finished bookings as completed and free tools if they are no
-     * longer rented.
-     * Also removes security deposit from owner's wallet (returns to renter).
+     * Saves and flushes an admitted booking so an exclusion constraint
+     * violation surfaces here (as 409) rather than at commit.
      */
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
-    public void completeExpiredBookings() {
-        LocalDate today = LocalDate.now();
-        List<Booking> expired = bookingRepository.findByStatusAndEndDateBefore(BookingStatus.APPROVED, today);
-
-        for (Booking booking : expired) {
-            booking.setStatus(BookingStatus.COMPLETED);
-            bookingRepository.save(booking);
-
-            // Remove security deposit from owner's wallet (return to renter)
-            User owner = booking.getOwner();
-            if (owner != null && booking.getDepositAmount() != null && booking.getDepositAmount() > 0) {
-                Double currentBalance = owner.getWalletBalance() != null ? owner.getWalletBalance() : 0.0;
-                owner.setWalletBalance(currentBalance - booking.getDepositAmount());
-                userRepository.save(owner);
-            }
-
-            Tool tool = booking.getTool();
-            if (tool != null) {
-                long activeCount = bookingRepository.countActiveApprovedBookingsForToolOnDate(tool.getId(), today);
-                tool.setActive(activeCount == 0);
-                toolRepository.save(tool);
+    private Booking saveAdmitted(Booking booking, String conflictMessage) {
+        try {
+            Booking saved = bookingRepository.save(booking);
+            bookingRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (BookingOverlapConstraint.isViolation(e)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, conflictMessage);
             }
+            throw e;
         }
     }
 
@@ -172,9 +179,20 @@ public class BookingServiceImpl implements BookingService {
                 .toList();
     }
 
+    /**
+     * Decisions are admitted under the tool's lock as well, so two overlapping
+     * bookings can't be approved concurrently.
+     */
     @Override
-    @Transactional
     public BookingResponse updateBookingStatus(UUID bookingId, BookingStatus status) {
+        Booking current = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
+        UUID toolId = current.getTool() != null ? current.getTool().getId() : null;
+
+        return bookingAdmission.admit(toolId, () -> decideBooking(bookingId, status));
+    }
+
+    private BookingResponse decideBooking(UUID bookingId, BookingStatus status) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
@@ -190,15 +208,19 @@ public class BookingServiceImpl implements BookingService {
 
         // If approved, only mark the tool unavailable during the booking window
         if (status == BookingStatus.APPROVED) {
-            List<Booking> overlaps = bookingRepository.findOverlappingBookings(
-                    booking.getTool().getId(),
-                    booking.getStartDate(),
-                    booking.getEndDate());
-
-            boolean hasApprovedOverlap = overlaps.stream()
-                    .anyMatch(b -> !b.getId().equals(bookingId) && b.getStatus() == BookingStatus.APPROVED);
-            if (hasApprovedOverlap) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Booking window already approved for this tool");
+            // The exclusion constraint already keeps pending and approved bookings disjoint
+            if (!overlapConstraint.isEnforced()) {
+                List<Booking> overlaps = bookingRepository.findOverlappingBookings(
+                        booking.getTool().getId(),
+                        booking.getStartDate(),
+                        booking.getEndDate());
+
+                boolean hasApprovedOverlap = overlaps.stream()
+                        .anyMatch(b -> !b.getId().equals(bookingId) && b.getStatus() == BookingStatus.APPROVED);
+                if (hasApprovedOverlap) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Booking window already approved for this tool");
+                }
             }
 
             Tool tool = booking.getTool();
@@ -210,7 +232,7 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
-        Booking saved = bookingRepository.save(booking);
+        Booking saved = saveAdmitted(booking, "Booking window already approved for this tool");
 
         return toBookingResponse(saved);
     }
@@ -333,9 +355,8 @@ public class BookingServiceImpl implements BookingService {
         // Credit owner's wallet with non-refunded amount (cancellation fee)
         User owner = booking.getOwner();
         if (ownerCompensation > 0 && owner != null) {
-            Double currentBalance = owner.getWalletBalance() != null ? owner.getWalletBalance() : 0.0;
-            owner.setWalletBalance(currentBalance + ownerCompensation);
-            userRepository.save(owner);
+            walletLedger.credit(owner, WalletLedger.toCents(ownerCompensation), WalletEntryType.CANCELLATION_FEE,
+                    booking.getId());
 
             // Create income record for wallet history
             String renterName = booking.getRenter() != null
@@ -399,9 +420,7 @@ public class BookingServiceImpl implements BookingService {
     private ReviewResponse toReviewResponse(Review review) {
         if (review == null)
             return null;
-        String reviewerName = review.getReviewer() != null
-                ? (review.getReviewer().getFirstName() + " " + review.getReviewer().getLastName()).trim()
-                : null;
+        String reviewerName = fullName(review.getReviewer());
 
         return ReviewResponse.builder()
                 .id(review.getId())
@@ -416,6 +435,10 @@ public class BookingServiceImpl implements BookingService {
                 .build();
     }
 
+    private static String fullName(User user) {
+        return user != null ? (user.getFirstName() + " " + user.getLastName()).trim() : null;
+    }
+
     private Review getReviewByType(List<Review> reviews, ReviewType type) {
         if (reviews == null)
             return null;
@@ -428,9 +451,7 @@ public class BookingServiceImpl implements BookingService {
     private OwnerBookingResponse toOwnerBookingResponse(Booking booking) {
         Tool tool = booking.getTool();
         User renter = booking.getRenter();
-        String renterName = renter != null
-                ? (renter.getFirstName() + " " + renter.getLastName()).trim()
-                : null;
+        String renterName = fullName(renter);
 
         Review renterReview = getReviewByType(booking.getReviews(), ReviewType.RENTER_TO_OWNER);
         Review ownerReview = getReviewByType(booking.getReviews(), ReviewType.OWNER_TO_RENTER);
@@ -451,10 +472,7 @@ public class BookingServiceImpl implements BookingService {
                 .conditionStatus(booking.getConditionStatus())
                 .conditionDescription(booking.getConditionDescription())
                 .conditionReportedAt(booking.getConditionReportedAt())
-                .conditionReportedByName(booking.getConditionReportedBy() != null
-                        ? (booking.getConditionReportedBy().getFirstName() + " "
-                                + booking.getConditionReportedBy().getLastName()).trim()
-                        : null)
+                .conditionReportedByName(fullName(booking.getConditionReportedBy()))
                 // Deposit Fields
                 .depositStatus(booking.getDepositStatus())
                 .depositAmount(booking.getDepositAmount())
@@ -474,24 +492,11 @@ public class BookingServiceImpl implements BookingService {
         UUID renterId = booking.getRenter() != null ? booking.getRenter().getId() : null;
         UUID toolId = booking.getTool().getId();
 
-        String ownerName = userRepository.findById(ownerId)
-                .map(u -> (u.getFirstName() + " " + u.getLastName()).trim())
-                .orElse(null);
-
-        String conditionReportedByName = null;
-        if (booking.getConditionReportedBy() != null) {
-            UUID reporterId = booking.getConditionReportedBy().getId();
-            conditionReportedByName = userRepository.findById(reporterId)
-                    .map(u -> (u.getFirstName() + " " + u.getLastName()).trim())
-                    .orElse(null);
-        }
-
+        // Read from the associations (fetched together with the booking by the list
+        // queries) rather than looking each user/tool up again
+        String ownerName = fullName(booking.getOwner());
+        String conditionReportedByName = fullName(booking.getConditionReportedBy());
         String toolTitle = booking.getTool().getTitle();
-        if (toolTitle == null) {
-            toolTitle = toolRepository.findById(toolId)
-                    .map(Tool::getTitle)
-                    .orElse(null);
-        }
 
         Review renterReview = getReviewByType(booking.getReviews(), ReviewType.RENTER_TO_OWNER);
         Review ownerReview = getReviewByType(booking.getReviews(), ReviewType.OWNER_TO_RENTER);
@@ -0,0 +1,244 @@
+package com.toolshed.backend.service;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bloom filter of registered emails, so availability checks for emails that
+ * were never registered (most keystrokes of the registration form) are
+ * answered without a query. A "no" is definite; a "maybe" falls through to
+ * the unique-index lookup. After its startup scan an instance only learns of
+ * emails saved through itself, so the filter only serves the availability
+ * check; registration always asks the database.
+ * Emails are only ever added (by {@link EmailBloomFilterListener} on every
+ * user insert or update): a deleted or changed email just becomes a false
+ * positive. Until the startup scan has run, every email is a "maybe".
+ * Bits live in an {@link AtomicLongArray}, so adds and lookups never lock.
+ * The {@link Stats} are also published to Micrometer as
+ * {@code toolshed.email.filter.*} meters.
+ */
+@Component
+public class EmailBloomFilter implements MeterBinder {
+
+    /**
+     * Current state and effectiveness of the filter.
+     *
+     * @param ready                      whether the startup scan has completed
+     * @param bits                       size of the bit array
+     * @param hashes                     bits set per email
+     * @param expectedFalsePositiveRate  chance that an unknown email is a "maybe",
+     *                                   from the share of bits set
+     * @param definiteMisses             lookups answered without the database
+     * @param possibleHits               lookups that fell through to the database
+     * @param falsePositives             fall-throughs where the email wasn't registered
+     * @param observedFalsePositiveRate  falsePositives / (falsePositives + definiteMisses)
+     */
+    public record Stats(boolean ready, long bits, int hashes, double expectedFalsePositiveRate,
+            long definiteMisses, long possibleHits, long falsePositives, double observedFalsePositiveRate) {
+    }
+
+    private record Bits(AtomicLongArray words, long size, int hashes) {
+
+        static Bits sizedFor(long expectedEmails, double falsePositiveRate) {
+            long n = Math.max(expectedEmails, 1);
+            long size = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            size = Math.max(64, (size + 63) / 64 * 64);
+            int hashes = (int) Math.max(1, Math.round((double) size / n * Math.log(2)));
+            return new Bits(new AtomicLongArray((int) (size / 64)), size, hashes);
+        }
+
+        void add(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndUpdate(word, value -> value | mask);
+                }
+            }
+        }
+
+        boolean mightContain(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return Math.pow((double) set / size, hashes);
+        }
+
+        // FNV-1a over the chars, finished with a 64-bit mix; no allocation
+        private static long hash(String email) {
+            long h = 0xCBF29CE484222325L;
+            for (int i = 0; i < email.length(); i++) {
+                h = (h ^ email.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(h);
+        }
+
+        // MurmurHash3 fmix64
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+
+    private final long expectedEmails;
+    private final double falsePositiveRate;
+
+    private volatile Bits bits;
+    // Filter being filled by a rebuild; adds meanwhile go to both
+    private volatile Bits building;
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder possibleHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public EmailBloomFilter(@Value("${auth.email-filter.expected-users:100000}") long expectedEmails,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Replaces the filter with one holding the given emails, sized for at
+     * least twice {@code emailCount} (and the configured expected users) so
+     * registrations can grow before the false-positive rate degrades.
+     */
+    public synchronized void rebuild(long emailCount, Iterator<String> emails) {
+        Bits next = Bits.sizedFor(Math.max(expectedEmails, 2 * emailCount), falsePositiveRate);
+        building = next;
+        try {
+            while (emails.hasNext()) {
+                String email = emails.next();
+                if (email != null) {
+                    next.add(email);
+                }
+            }
+            bits = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        // building is read before bits: a rebuild publishes bits before clearing building, so
+        // one finishing in between can't leave the email only in the replaced filter. If a
+        // rebuild started or was published meanwhile, add again to the filters seen now.
+        Bits pending;
+        Bits current;
+        do {
+            pending = building;
+            current = bits;
+            if (pending != null) {
+                pending.add(email);
+            }
+            if (current != null) {
+                current.add(email);
+            }
+        } while (pending != building || current != bits);
+    }
+
+    /**
+     * Whether the email may be registered. False means it certainly isn't
+     * and is counted as a definite miss; true must be confirmed against the
+     * database and reported through {@link #recordLookup(boolean)}.
+     */
+    public boolean mightContain(String email) {
+        Bits current = bits;
+        if (current == null || email == null) {
+            return true;
+        }
+        if (!current.mightContain(email)) {
+            definiteMisses.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the database answer for an email the filter reported as a
+     * possible hit.
+     *
+     * @return {@code exists}, for chaining
+     */
+    public boolean recordLookup(boolean exists) {
+        if (bits != null) {
+            possibleHits.increment();
+            if (!exists) {
+                falsePositives.increment();
+            }
+        }
+        return exists;
+    }
+
+    public boolean isReady() {
+        return bits != null;
+    }
+
+    public Stats stats() {
+        Bits current = bits;
+        long misses = definiteMisses.sum();
+        long falseHits = falsePositives.sum();
+        double observed = misses + falseHits == 0 ? 0 : (double) falseHits / (misses + falseHits);
+        return new Stats(current != null,
+                current == null ? 0 : current.size(),
+                current == null ? 0 : current.hashes(),
+                current == null ? 1 : current.expectedFalsePositiveRate(),
+                misses, possibleHits.sum(), falseHits, observed);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("toolshed.email.filter.lookups", definiteMisses, LongAdder::doubleValue)
+                .tag("result", "definite_miss")
+                .description("Email checks answered without the database")
+                .register(registry);
+        FunctionCounter.builder("toolshed.email.filter.lookups", possibleHits, LongAdder::doubleValue)
+                .tag("result", "possible_hit")
+                .description("Email checks that fell through to the database")
+                .register(registry);
+        FunctionCounter.builder("toolshed.email.filter.false.positives", falsePositives, LongAdder::doubleValue)
+                .description("Fall-throughs where the email wasn't registered")
+                .register(registry);
+        Gauge.builder("toolshed.email.filter.ready", this, filter -> filter.isReady() ? 1 : 0)
+                .description("Whether the startup scan has completed")
+                .register(registry);
+        Gauge.builder("toolshed.email.filter.bits", this, filter -> filter.stats().bits())
+                .description("Size of the bit array")
+                .register(registry);
+        Gauge.builder("toolshed.email.filter.expected.false.positive.rate", this,
+                filter -> filter.stats().expectedFalsePositiveRate())
+                .description("Chance that an unknown email is a maybe, from the share of bits set")
+                .register(registry);
+    }
+}
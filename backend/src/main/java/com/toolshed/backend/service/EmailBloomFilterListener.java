@@ -0,0 +1,30 @@
+package com.toolshed.backend.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.toolshed.backend.repository.entities.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that adds the email of every saved user to
+ * {@link EmailBloomFilter}, whether it comes from {@link AuthService#register}
+ * or from seeders and other services saving users directly.
+ * Removals are not tracked: a Bloom filter cannot forget, and a stale email
+ * only costs a false positive.
+ */
+public class EmailBloomFilterListener {
+
+    private final ObjectProvider<EmailBloomFilter> emailFilter;
+
+    public EmailBloomFilterListener(ObjectProvider<EmailBloomFilter> emailFilter) {
+        this.emailFilter = emailFilter;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        emailFilter.ifAvailable(filter -> filter.add(user.getEmail()));
+    }
+}
@@ -6,103 +6,329 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toolshed.backend.dto.DistrictDto;
+import com.toolshed.backend.dto.MunicipalityDto;
+import com.toolshed.backend.dto.MunicipalitySuggestionResponse;
+import com.toolshed.backend.service.GeoSnapshotFile.GeoData;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
 
 /**
  * Service implementation for interacting with the Portuguese GeoAPI.
  * Implements caching to minimize API calls and avoid rate limits.
+ * The districts are kept in an immutable snapshot (the list plus hash sets of
+ * the exact and case/accent-folded names) published through a volatile field,
+ * so lookups never lock or copy. Once a snapshot exists, requests are always
+ * served from it: when it gets older than the TTL it is refreshed on a
+ * background thread, and a failed refresh keeps the old data and is retried
+ * later, so a GeoAPI outage never blocks a request.
+ * The district → municipality hierarchy comes with the same fetch and is
+ * persisted with the districts, so municipality lookups never go upstream.
+ * The disk cache is a binary snapshot (see {@link GeoSnapshotFile}) replaced
+ * atomically on every fetch and memory-mapped at boot.
  */
 @Service
 public class GeoApiService implements IGeoApiService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GeoApiService.class);
+
     private static final String GEO_API_BASE_URL = "https://json.geoapi.pt";
-    private static final String DISTRICTS_ENDPOINT = "/distritos";
+    // Districts with their municipalities, in one call
+    private static final String DISTRICTS_ENDPOINT = "/distritos/municipios";
+    private static final Tags DISTRICTS_REQUEST = Tags.of("endpoint", "districts");
+
+    static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    // Wait before asking GeoAPI again after a failed fetch
+    static final Duration RETRY_AFTER = Duration.ofMinutes(1);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Snapshot EMPTY = Snapshot.of(List.of(), Map.of(), 0);
 
     private final ISimpleHttpClient httpClient;
     private final ObjectMapper objectMapper;
 
     private final Path cacheFilePath;
-    
-    // Cache for districts (initialized as null, loaded on first request)
-    private List<String> cachedDistricts = null;
+    private final Path snapshotPath;
+    private final Duration ttl;
+    private final Executor refresher;
+    private final Clock clock;
 
+    // Null until the first load (disk or GeoAPI); replaced, never mutated
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object coldLoadLock = new Object();
+
+    @Autowired
     public GeoApiService(ISimpleHttpClient httpClient) {
+        this(httpClient, configuredTtl(), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "geo-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    GeoApiService(ISimpleHttpClient httpClient, Duration ttl, Executor refresher, Clock clock) {
         this.httpClient = httpClient;
         this.objectMapper = new ObjectMapper();
+        this.ttl = ttl;
+        this.refresher = refresher;
+        this.clock = clock;
 
         // Persist cache across restarts to avoid hitting GeoAPI repeatedly in dev.
         // Can be configured via env var/property GEO_CACHE_PATH / geo.cache.path
-        String configuredPath = System.getProperty("geo.cache.path");
-        if (configuredPath == null || configuredPath.isBlank()) {
-            configuredPath = System.getenv("GEO_CACHE_PATH");
-        }
-        if (configuredPath == null || configuredPath.isBlank()) {
-            configuredPath = "./geo-cache.json";
-        }
-        this.cacheFilePath = Paths.get(configuredPath);
+        this.cacheFilePath = Paths.get(setting("geo.cache.path", "GEO_CACHE_PATH", "./geo-cache.json"));
+        this.snapshotPath = snapshotPathFor(cacheFilePath);
 
         loadCacheFromDisk();
     }
 
-    private static class GeoCacheFileDto {
-        public List<String> districts;
+    /**
+     * Immutable view of the districts.
+     *
+     * @param districts    names as returned by GeoAPI
+     * @param names        the same names, for exact lookups
+     * @param folded         names passed through {@link #fold(String)}
+     * @param municipalities municipalities of each district
+     * @param refreshAfter   epoch millis after which a background refresh is due
+     */
+    private record Snapshot(List<String> districts, Set<String> names, Set<String> folded,
+            MunicipalityIndex municipalities, long refreshAfter) {
+
+        static Snapshot of(List<String> districts, Map<String, List<String>> municipalities, long refreshAfter) {
+            List<String> copy = List.copyOf(districts);
+            return new Snapshot(copy, Set.copyOf(copy),
+                    copy.stream().map(GeoApiService::fold).collect(Collectors.toUnmodifiableSet()),
+                    MunicipalityIndex.of(municipalities), refreshAfter);
+        }
+
+        Snapshot retryAt(long refreshAfter) {
+            return new Snapshot(districts, names, folded, municipalities, refreshAfter);
+        }
     }
 
+    /**
+     * Restores the last snapshot at boot. A JSON cache at the configured path
+     * that is newer than the binary snapshot (or the only one) is imported
+     * instead, which is how a hand-edited or legacy cache is brought in.
+     */
     private synchronized void loadCacheFromDisk() {
+        GeoData data = null;
         try {
-            if (!Files.exists(cacheFilePath)) {
-                return;
+            if (Files.exists(snapshotPath)) {
+                data = GeoSnapshotFile.read(snapshotPath);
             }
-
-            try (InputStream in = Files.newInputStream(cacheFilePath)) {
-                GeoCacheFileDto dto = objectMapper.readValue(in, GeoCacheFileDto.class);
-
-                if (dto != null) {
-                    if (dto.districts != null && !dto.districts.isEmpty()) {
-                        this.cachedDistricts = new ArrayList<>(dto.districts);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable geo snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+        try {
+            if (Files.exists(cacheFilePath)) {
+                long jsonWrittenAt = Files.getLastModifiedTime(cacheFilePath).toMillis();
+                if (data == null || jsonWrittenAt > data.writtenAt()) {
+                    try (InputStream in = Files.newInputStream(cacheFilePath)) {
+                        data = GeoSnapshotFile.readJson(in, objectMapper, jsonWrittenAt);
+                    }
+                    if (data.municipalities() != null) {
+                        GeoSnapshotFile.write(snapshotPath, data.districts(), data.municipalities(), jsonWrittenAt);
                     }
                 }
             }
         } catch (IOException e) {
             // Ignore disk cache errors; service will fall back to live GeoAPI
         }
-    }
 
-    private synchronized void saveCacheToDisk() {
-        try {
-            Path parent = cacheFilePath.getParent();
-            if (parent != null) {
-                Files.createDirectories(parent);
+        if (data != null && !data.districts().isEmpty()) {
+            if (data.municipalities() == null) {
+                // Older cache format: serve its districts, fetch the hierarchy in the background
+                this.snapshot = Snapshot.of(data.districts(), Map.of(), 0);
+            } else {
+                // An old snapshot is refreshed on first use
+                this.snapshot = Snapshot.of(data.districts(), data.municipalities(), data.writtenAt() + ttl.toMillis());
             }
+        }
+    }
 
-            GeoCacheFileDto dto = new GeoCacheFileDto();
-            dto.districts = cachedDistricts == null ? null : new ArrayList<>(cachedDistricts);
-
-            try (OutputStream out = Files.newOutputStream(cacheFilePath)) {
-                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, dto);
-            }
+    private synchronized void saveCacheToDisk(Snapshot saved) {
+        try {
+            GeoSnapshotFile.write(snapshotPath, saved.districts(), saved.municipalities().hierarchy(),
+                    clock.millis());
         } catch (IOException e) {
             // Ignore disk cache errors
+            logger.warn("Could not write geo snapshot {}: {}", snapshotPath, e.getMessage());
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Uses the JSON layout of the cache file, so the output can be placed at
+     * {@code geo.cache.path} to be imported on the next start.
+     */
+    @Override
+    public void exportCache(OutputStream out) throws IOException {
+        Snapshot current = current();
+        GeoSnapshotFile.writeJson(out, objectMapper, current.districts(), current.municipalities().hierarchy());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The returned list is immutable and shared between callers.
+     */
     @Override
     public List<String> getAllDistricts() {
-        if (cachedDistricts != null) {
-            return new ArrayList<>(cachedDistricts);
+        return current().districts();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching ignores case, accents and surrounding spaces ("evora" matches
+     * "Évora"); an exact name is found without allocating.
+     */
+    @Override
+    public boolean districtExists(String district) {
+        if (district == null) {
+            return false;
+        }
+        Snapshot current = current();
+        return current.names().contains(district) || current.folded().contains(fold(district));
+    }
+
+    @Override
+    public List<String> getMunicipalities(String district) {
+        if (district == null) {
+            return List.of();
         }
+        return current().municipalities().municipalitiesOf(district);
+    }
+
+    @Override
+    public Optional<String> findDistrictOfMunicipality(String municipality) {
+        if (municipality == null) {
+            return Optional.empty();
+        }
+        return current().municipalities().districtOf(municipality);
+    }
 
+    @Override
+    public List<MunicipalitySuggestionResponse> autocompleteMunicipalities(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        return current().municipalities().complete(prefix, limit);
+    }
+
+    /**
+     * Folds a name for comparison: trimmed, accents stripped, lower case.
+     */
+    static String fold(String name) {
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return loadCold();
+        }
+        if (clock.millis() >= current.refreshAfter()) {
+            scheduleRefresh();
+        }
+        return current;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Districts already loaded (from disk or GeoAPI) count as available, a
+     * stale copy is refreshed in the background as usual.
+     */
+    @Override
+    public boolean loadDistricts() {
+        Snapshot loaded = snapshot;
+        if (loaded != null && !loaded.districts().isEmpty()) {
+            current();
+            return true;
+        }
+        synchronized (coldLoadLock) {
+            Snapshot current = snapshot;
+            if (current != null && !current.districts().isEmpty()) {
+                return true;
+            }
+            return fetch(current != null ? current : EMPTY) && !snapshot.districts().isEmpty();
+        }
+    }
+
+    @Override
+    public int cachedDistrictCount() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.districts().size();
+    }
+
+    /**
+     * First load with nothing on disk: the only time a caller waits for
+     * GeoAPI. Concurrent callers share the single fetch.
+     */
+    private Snapshot loadCold() {
+        synchronized (coldLoadLock) {
+            if (snapshot == null) {
+                fetch(EMPTY);
+            }
+            return snapshot;
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    fetch(snapshot);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Fetches the districts from GeoAPI and publishes them. On failure the
+     * fallback data is published instead, with its next attempt postponed.
+     *
+     * @return whether GeoAPI answered
+     */
+    private boolean fetch(Snapshot fallback) {
         try {
             String url = GEO_API_BASE_URL + DISTRICTS_ENDPOINT;
-            String response = httpClient.doHttpGet(url);
+            String response = Timings.record(Timings.GEOAPI_REQUEST, DISTRICTS_REQUEST,
+                    () -> httpClient.doHttpGet(url));
 
             List<DistrictDto> districts = objectMapper.readValue(
                 response,
@@ -110,23 +336,65 @@ public class GeoApiService implements IGeoApiService {
             );
 
             // Use correct getter for 'distrito' property
-            cachedDistricts = districts.stream()
+            List<String> names = districts.stream()
                 .map(DistrictDto::getDistrito)
                 .filter(name -> name != null && !name.isBlank())
-                .collect(Collectors.toList());
+                .toList();
 
-            saveCacheToDisk();
+            Map<String, List<String>> municipalities = new LinkedHashMap<>();
+            for (DistrictDto district : districts) {
+                if (district.getDistrito() != null && !district.getDistrito().isBlank()) {
+                    municipalities.put(district.getDistrito(), district.getMunicipios() == null ? List.of()
+                            : district.getMunicipios().stream()
+                                .map(MunicipalityDto::getNome)
+                                .filter(name -> name != null && !name.isBlank())
+                                .toList());
+                }
+            }
 
-            return new ArrayList<>(cachedDistricts);
-        } catch (IOException e) {
-            // Return empty list on error
-            return new ArrayList<>();
+            Snapshot next = Snapshot.of(names, municipalities, clock.millis() + ttl.toMillis());
+            snapshot = next;
+            saveCacheToDisk(next);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not fetch districts from GeoAPI, retrying in {}: {}", RETRY_AFTER, e.getMessage());
+            snapshot = fallback.retryAt(clock.millis() + RETRY_AFTER.toMillis());
+            return false;
         }
     }
 
-    @Override
-    public boolean districtExists(String district) {
-        List<String> districts = getAllDistricts();
-        return districts.contains(district);
+    /**
+     * Stops the background refresh thread; a refresh in progress is
+     * interrupted and the last published snapshot is kept on disk.
+     */
+    @PreDestroy
+    public void close() {
+        if (refresher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Binary snapshot kept next to the JSON cache path: geo-cache.json → geo-cache.bin.
+     */
+    static Path snapshotPathFor(Path cacheFilePath) {
+        String name = cacheFilePath.getFileName().toString();
+        String base = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+        return cacheFilePath.resolveSibling(base + ".bin");
+    }
+
+    private static Duration configuredTtl() {
+        return Duration.parse(setting("geo.cache.ttl", "GEO_CACHE_TTL", DEFAULT_TTL.toString()));
+    }
+
+    private static String setting(String property, String env, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(env);
+        }
+        if (value == null || value.isBlank()) {
+            value = defaultValue;
+        }
+        return value;
     }
 }
@@ -1,45 +1,132 @@
 package com.toolshed.backend.service;
 
 import java.time.Duration;
-import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+/**
+ * Warms the district cache in the background once the application is ready,
+ * so a slow or rate-limited GeoAPI never holds startup back.
+ * Waits {@code GEO_WARM_CACHE_DELAY_MS} first, then tries up to
+ * {@code GEO_WARM_CACHE_RETRIES} more times after a failure, doubling the wait
+ * from {@code GEO_WARM_CACHE_BACKOFF_MS} each time. Requests arriving before
+ * the cache is warm still load districts on demand.
+ */
 @Component
-public class GeoCacheWarmupRunner implements ApplicationRunner {
+public class GeoCacheWarmupRunner {
 
     private static final Logger log = LoggerFactory.getLogger(GeoCacheWarmupRunner.class);
 
+    // Longest wait between two attempts, whatever the configured backoff
+    static final long MAX_BACKOFF_MS = Duration.ofMinutes(5).toMillis();
+
+    public enum State {
+        /** Warm-up turned off; districts are loaded by the first request. */
+        DISABLED,
+        /** Warm-up scheduled or in progress. */
+        LOADING,
+        WARM,
+        /** Every attempt failed; districts are loaded by the first request. */
+        FAILED
+    }
+
+    /**
+     * Progress of the warm-up, reported as detail by {@link GeoHealthIndicator}.
+     *
+     * @param state     where the warm-up is
+     * @param attempts  GeoAPI attempts made so far
+     * @param districts districts loaded, once warm
+     */
+    public record Status(State state, int attempts, int districts) {
+
+        public boolean isWarm() {
+            return state == State.WARM;
+        }
+    }
+
     private final IGeoApiService geoApiService;
+    private final boolean warmCacheEnabled;
+    private final long delayMs;
+    private final int retries;
+    private final long backoffMs;
 
-    @Value("${GEO_WARM_CACHE:false}")
-    private boolean warmCacheEnabled;
+    private volatile Status status;
 
-    public GeoCacheWarmupRunner(IGeoApiService geoApiService) {
+    public GeoCacheWarmupRunner(IGeoApiService geoApiService,
+            @Value("${GEO_WARM_CACHE:false}") boolean warmCacheEnabled,
+            @Value("${GEO_WARM_CACHE_DELAY_MS:0}") long delayMs,
+            @Value("${GEO_WARM_CACHE_RETRIES:3}") int retries,
+            @Value("${GEO_WARM_CACHE_BACKOFF_MS:1000}") long backoffMs) {
         this.geoApiService = geoApiService;
+        this.warmCacheEnabled = warmCacheEnabled;
+        this.delayMs = Math.max(0, delayMs);
+        this.retries = Math.max(0, retries);
+        this.backoffMs = Math.max(0, backoffMs);
+        this.status = new Status(warmCacheEnabled ? State.LOADING : State.DISABLED, 0, 0);
     }
 
-    @Override
-    public void run(ApplicationArguments args) {
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        warm();
+    }
+
+    /**
+     * Runs the warm-up on the calling thread.
+     *
+     * @return the final status
+     */
+    public Status warm() {
         if (!warmCacheEnabled) {
-            return;
+            return status;
         }
 
         long startedAt = System.nanoTime();
-        log.info("Geo warm-cache enabled; warming districts");
+        log.info("Geo warm-cache enabled; warming districts in {}ms (up to {} retries)", delayMs, retries);
 
-        List<String> districts = geoApiService.getAllDistricts();
-        if (districts.isEmpty()) {
-            log.warn("Geo warm-cache: no districts available (likely rate-limited). Skipping warm-up.");
-            return;
+        try {
+            Thread.sleep(delayMs);
+            for (int attempt = 1; attempt <= retries + 1; attempt++) {
+                status = new Status(State.LOADING, attempt, 0);
+                if (geoApiService.loadDistricts()) {
+                    status = new Status(State.WARM, attempt, geoApiService.getAllDistricts().size());
+                    long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+                    log.info("Geo warm-cache finished ({} districts, attempt {}) in {}ms",
+                            status.districts(), attempt, elapsedMs);
+                    return status;
+                }
+                if (attempt <= retries) {
+                    long waitMs = backoffMillis(backoffMs, attempt);
+                    log.warn("Geo warm-cache attempt {} failed (likely rate-limited); retrying in {}ms",
+                            attempt, waitMs);
+                    Thread.sleep(waitMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
 
-        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
-        log.info("Geo warm-cache finished ({} districts) in {}ms", districts.size(), elapsedMs);
+        status = new Status(State.FAILED, status.attempts(), 0);
+        log.warn("Geo warm-cache: no districts available after {} attempt(s). Skipping warm-up.", status.attempts());
+        return status;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Wait after the given failed attempt (1-based): the base backoff doubled
+     * for every earlier failure, capped at {@link #MAX_BACKOFF_MS}.
+     */
+    static long backoffMillis(long baseMs, int attempt) {
+        int doublings = Math.min(attempt - 1, 30);
+        return Math.min(baseMs << doublings, MAX_BACKOFF_MS);
     }
 }
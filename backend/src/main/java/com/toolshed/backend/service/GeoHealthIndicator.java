@@ -0,0 +1,40 @@
+package com.toolshed.backend.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Geo cache state, published as the {@code geo} health contributor. The cache
+ * is optional (district lookups fall back to GeoAPI), so this is deliberately
+ * kept out of the readiness group: up whenever districts are held in memory,
+ * however they got there (disk snapshot, warm-up or an on-demand load), and
+ * {@code DEGRADED} otherwise. The default status aggregator ignores that
+ * status, so an empty cache never takes the instance out of rotation. The
+ * warm-up progress is reported as detail. Checking never calls GeoAPI.
+ */
+@Component
+public class GeoHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "No geo districts cached; lookups go to GeoAPI");
+
+    private final IGeoApiService geoApiService;
+    private final GeoCacheWarmupRunner geoCacheWarmup;
+
+    public GeoHealthIndicator(IGeoApiService geoApiService, GeoCacheWarmupRunner geoCacheWarmup) {
+        this.geoApiService = geoApiService;
+        this.geoCacheWarmup = geoCacheWarmup;
+    }
+
+    @Override
+    public Health health() {
+        int districts = geoApiService.cachedDistrictCount();
+        GeoCacheWarmupRunner.Status warmup = geoCacheWarmup.getStatus();
+        return Health.status(districts > 0 ? Status.UP : DEGRADED)
+                .withDetail("districts", districts)
+                .withDetail("warmup", warmup.state())
+                .withDetail("warmupAttempts", warmup.attempts())
+                .build();
+    }
+}
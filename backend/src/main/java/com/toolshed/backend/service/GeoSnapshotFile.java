@@ -0,0 +1,217 @@
+package com.toolshed.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * On-disk format of the geo cache.
+ * The snapshot is a small versioned binary file:
+ * <pre>
+ * int   magic "TSGE"
+ * short version
+ * long  writtenAt (epoch millis)
+ * int   payload length, int CRC32 of the payload
+ * payload: int districts, then per district its name, int municipalities and their names
+ *          (each name an int byte length followed by UTF-8 bytes)
+ * </pre>
+ * It is written to a temporary file next to the target and moved over it, so
+ * readers never see a half-written snapshot, and read back through a memory
+ * mapping. The older JSON layout is still readable and writable, to import a
+ * hand-made cache or export the current one for debugging.
+ */
+final class GeoSnapshotFile {
+
+    static final int MAGIC = 0x54534745;
+    static final short VERSION = 1;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + 2 * Integer.BYTES;
+
+    // Sanity bound for lengths read from a corrupt file
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024 * 1024;
+
+    private GeoSnapshotFile() {
+    }
+
+    /**
+     * Contents of a cache file.
+     *
+     * @param districts      district names
+     * @param municipalities district name → municipality names; null when read
+     *                       from a JSON cache written before municipalities
+     * @param writtenAt      epoch millis of the write
+     */
+    record GeoData(List<String> districts, Map<String, List<String>> municipalities, long writtenAt) {
+    }
+
+    /**
+     * JSON layout, shared by the legacy cache file and import/export.
+     */
+    static class GeoCacheFileDto {
+        public List<String> districts;
+        // District name -> municipality names; absent in caches written before municipalities
+        public Map<String, List<String>> municipalities;
+    }
+
+    /**
+     * Atomically replaces {@code target} with a snapshot of the given data.
+     */
+    static void write(Path target, List<String> districts, Map<String, List<String>> municipalities,
+            long writtenAt) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        try (DataOutputStream payload = new DataOutputStream(payloadBytes)) {
+            payload.writeInt(districts.size());
+            for (String district : districts) {
+                writeString(payload, district);
+                List<String> names = municipalities.getOrDefault(district, List.of());
+                payload.writeInt(names.size());
+                for (String name : names) {
+                    writeString(payload, name);
+                }
+            }
+        }
+        byte[] bytes = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(writtenAt);
+                out.writeInt(bytes.length);
+                out.writeInt((int) crc.getValue());
+                out.write(bytes);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps and decodes a snapshot.
+     *
+     * @throws IOException if the file is unreadable, of another version or corrupt
+     */
+    static GeoData read(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > HEADER_BYTES + (long) MAX_PAYLOAD_BYTES) {
+                throw new IOException("Not a geo snapshot: " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return decode(buffer);
+        }
+    }
+
+    private static GeoData decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a geo snapshot");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported geo snapshot version " + version);
+            }
+            long writtenAt = buffer.getLong();
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length != buffer.remaining()) {
+                throw new IOException("Truncated geo snapshot");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Corrupt geo snapshot");
+            }
+
+            int districtCount = buffer.getInt();
+            List<String> districts = new ArrayList<>(Math.min(districtCount, 1024));
+            Map<String, List<String>> municipalities = new LinkedHashMap<>();
+            for (int i = 0; i < districtCount; i++) {
+                String district = readString(buffer);
+                int count = buffer.getInt();
+                List<String> names = new ArrayList<>(Math.min(count, 1024));
+                for (int j = 0; j < count; j++) {
+                    names.add(readString(buffer));
+                }
+                districts.add(district);
+                municipalities.put(district, names);
+            }
+            return new GeoData(districts, municipalities, writtenAt);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupt geo snapshot", e);
+        }
+    }
+
+    /**
+     * Reads the JSON layout.
+     *
+     * @param writtenAt age to give the data, e.g. the file's modification time
+     */
+    static GeoData readJson(InputStream in, ObjectMapper objectMapper, long writtenAt) throws IOException {
+        GeoCacheFileDto dto = objectMapper.readValue(in, GeoCacheFileDto.class);
+        if (dto == null || dto.districts == null) {
+            throw new IOException("No districts in geo cache JSON");
+        }
+        return new GeoData(dto.districts, dto.municipalities, writtenAt);
+    }
+
+    /**
+     * Writes the JSON layout, pretty-printed, leaving the stream open.
+     */
+    static void writeJson(OutputStream out, ObjectMapper objectMapper, List<String> districts,
+            Map<String, List<String>> municipalities) throws IOException {
+        GeoCacheFileDto dto = new GeoCacheFileDto();
+        dto.districts = districts;
+        dto.municipalities = municipalities;
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, dto);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Bad string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
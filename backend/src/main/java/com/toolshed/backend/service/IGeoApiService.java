@@ -1,10 +1,16 @@
 package com.toolshed.backend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
+
+import com.toolshed.backend.dto.MunicipalitySuggestionResponse;
 
 /**
  * Service interface for interacting with the Portuguese GeoAPI.
- * Provides methods to retrieve and validate districts.
+ * Provides methods to retrieve and validate districts and their
+ * municipalities (concelhos).
  * Implements caching to avoid hitting API rate limits.
  */
 public interface IGeoApiService {
@@ -22,4 +28,46 @@ public interface IGeoApiService {
      * @return true if exists, false otherwise.
      */
     boolean districtExists(String district);
+
+    /**
+     * Makes sure districts are loaded, fetching them from the GeoAPI now if
+     * nothing is cached yet (regardless of any retry delay after a failure).
+     * @return true if districts are available afterwards.
+     */
+    boolean loadDistricts();
+
+    /**
+     * Number of districts currently held, without loading or refreshing them.
+     * @return 0 until districts have been loaded from disk or the GeoAPI.
+     */
+    int cachedDistrictCount();
+
+    /**
+     * Retrieves the municipalities of a district (case and accents ignored).
+     * @param district The district name.
+     * @return municipality names, empty if the district is unknown.
+     */
+    List<String> getMunicipalities(String district);
+
+    /**
+     * Finds the district containing a municipality (case and accents ignored).
+     * @param municipality The municipality name.
+     * @return the district name, empty if the municipality is unknown.
+     */
+    Optional<String> findDistrictOfMunicipality(String municipality);
+
+    /**
+     * Municipalities whose name starts with the given prefix, alphabetically
+     * (case and accents ignored).
+     * @param prefix The typed prefix.
+     * @param limit Maximum number of suggestions.
+     * @return matching municipalities with their district.
+     */
+    List<MunicipalitySuggestionResponse> autocompleteMunicipalities(String prefix, int limit);
+
+    /**
+     * Writes the cached districts and municipalities as JSON, for debugging.
+     * @param out Destination, left open.
+     */
+    void exportCache(OutputStream out) throws IOException;
 }
@@ -0,0 +1,59 @@
+package com.toolshed.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * One-off move of the old floating point {@code app_user.wallet_balance}
+ * column to the cents-based wallet ledger. Hibernate adds the new columns but
+ * never drops old ones, so on PostgreSQL the balances are copied into
+ * {@code wallet_balance_cents}, recorded as opening-balance ledger entries
+ * and the old column is dropped, all in one transaction. Once the column is
+ * gone this is a no-op.
+ */
+@Component
+public class LegacyWalletMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyWalletMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+
+    public LegacyWalletMigration(JdbcTemplate jdbcTemplate, TransactionOperations transactions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+    }
+
+    /**
+     * @return number of wallets carried over, 0 if there was nothing to migrate
+     */
+    public int migrate() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return 0;
+        }
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns "
+                        + "WHERE table_name = 'app_user' AND column_name = 'wallet_balance'",
+                Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return 0;
+        }
+        Integer migrated = transactions.execute(status -> {
+            jdbcTemplate.update("UPDATE app_user SET wallet_balance_cents = ROUND(wallet_balance * 100) "
+                    + "WHERE wallet_balance IS NOT NULL");
+            int wallets = jdbcTemplate.update("INSERT INTO wallet_entry (id, owner_id, amount_cents, type, created_at) "
+                    + "SELECT gen_random_uuid(), id, wallet_balance_cents, 'OPENING_BALANCE', now() "
+                    + "FROM app_user WHERE wallet_balance_cents <> 0");
+            jdbcTemplate.execute("ALTER TABLE app_user DROP COLUMN wallet_balance");
+            return wallets;
+        });
+        logger.info("Moved {} wallet balances to the wallet ledger", migrated);
+        return migrated == null ? 0 : migrated;
+    }
+}
@@ -0,0 +1,123 @@
+package com.toolshed.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.toolshed.backend.dto.MunicipalitySuggestionResponse;
+
+/**
+ * Immutable district → municipality hierarchy.
+ * Municipalities are stored in three parallel arrays sorted by their folded
+ * name (see {@link GeoApiService#fold(String)}), so finding a municipality's
+ * district is a binary search and a prefix autocomplete is a binary search
+ * followed by a scan of the matching run. The per-district lists are shared,
+ * never copied.
+ */
+final class MunicipalityIndex {
+
+    static final MunicipalityIndex EMPTY = of(Map.of());
+
+    // District name → its municipalities, in GeoAPI order (what is persisted)
+    private final Map<String, List<String>> hierarchy;
+    private final Map<String, List<String>> byFoldedDistrict;
+
+    private final String[] folded;
+    private final String[] names;
+    private final String[] districts;
+
+    private MunicipalityIndex(Map<String, List<String>> hierarchy, Map<String, List<String>> byFoldedDistrict,
+            String[] folded, String[] names, String[] districts) {
+        this.hierarchy = hierarchy;
+        this.byFoldedDistrict = byFoldedDistrict;
+        this.folded = folded;
+        this.names = names;
+        this.districts = districts;
+    }
+
+    static MunicipalityIndex of(Map<String, List<String>> hierarchy) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        Map<String, List<String>> byFoldedDistrict = new HashMap<>();
+        List<String[]> entries = new ArrayList<>();
+        hierarchy.forEach((district, municipalities) -> {
+            List<String> list = List.copyOf(municipalities);
+            copy.put(district, list);
+            byFoldedDistrict.put(GeoApiService.fold(district), list);
+            for (String municipality : list) {
+                entries.add(new String[] { GeoApiService.fold(municipality), municipality, district });
+            }
+        });
+        entries.sort(Comparator.<String[], String>comparing(entry -> entry[0]).thenComparing(entry -> entry[1]));
+
+        String[] folded = new String[entries.size()];
+        String[] names = new String[entries.size()];
+        String[] districts = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            folded[i] = entries.get(i)[0];
+            names[i] = entries.get(i)[1];
+            districts[i] = entries.get(i)[2];
+        }
+        return new MunicipalityIndex(Collections.unmodifiableMap(copy), Map.copyOf(byFoldedDistrict),
+                folded, names, districts);
+    }
+
+    Map<String, List<String>> hierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * Number of municipalities.
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Municipalities of a district (case and accents ignored), empty if the
+     * district is unknown.
+     */
+    List<String> municipalitiesOf(String district) {
+        return byFoldedDistrict.getOrDefault(GeoApiService.fold(district), List.of());
+    }
+
+    /**
+     * District of a municipality (case and accents ignored). A name used in
+     * two districts resolves to the first in alphabetical order.
+     */
+    Optional<String> districtOf(String municipality) {
+        String key = GeoApiService.fold(municipality);
+        int i = lowerBound(key);
+        return i < folded.length && folded[i].equals(key) ? Optional.of(districts[i]) : Optional.empty();
+    }
+
+    /**
+     * Up to {@code limit} municipalities whose folded name starts with the
+     * folded prefix, alphabetically.
+     */
+    List<MunicipalitySuggestionResponse> complete(String prefix, int limit) {
+        String key = GeoApiService.fold(prefix);
+        List<MunicipalitySuggestionResponse> matches = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < folded.length && matches.size() < limit && folded[i].startsWith(key); i++) {
+            matches.add(new MunicipalitySuggestionResponse(names[i], districts[i]));
+        }
+        return matches;
+    }
+
+    // First position whose folded name is >= key
+    private int lowerBound(String key) {
+        int i = Arrays.binarySearch(folded, key);
+        if (i < 0) {
+            return -i - 1;
+        }
+        while (i > 0 && folded[i - 1].equals(key)) {
+            i--;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,186 @@
+package com.toolshed.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hashes and verifies passwords with PBKDF2-HMAC-SHA256, a deliberately slow
+ * function whose cost is set by {@code auth.password.iterations}.
+ * The work runs on a small pool sized to the cores, not on request threads,
+ * so a burst of logins can use at most those cores and every other endpoint
+ * keeps its CPU. The pool's queue is bounded: when it is full, or a caller
+ * has waited too long, the request fails fast with 503 instead of piling up.
+ * Encoded hashes are {@code pbkdf2$iterations$salt$hash} (base64); stored
+ * values without that prefix are legacy plaintext, still accepted until
+ * {@link #needsRehash(String)} has them replaced.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int iterations;
+    private final long waitMillis;
+    private final ThreadPoolExecutor executor;
+    private final SecureRandom random = new SecureRandom();
+    private final String dummyHash;
+
+    @Autowired
+    public PasswordHasher(@Value("${auth.password.iterations:600000}") int iterations,
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:0}") int queueCapacity,
+            @Value("${auth.password.wait-millis:5000}") long waitMillis) {
+        this(iterations, newExecutor(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity), waitMillis);
+    }
+
+    PasswordHasher(int iterations, ThreadPoolExecutor executor, long waitMillis) {
+        this.iterations = iterations;
+        this.executor = executor;
+        this.waitMillis = waitMillis;
+        this.dummyHash = PREFIX + iterations + "$" + ENCODER.encodeToString(new byte[SALT_BYTES]) + "$"
+                + ENCODER.encodeToString(new byte[HASH_BITS / 8]);
+    }
+
+    // Fixed size, bounded queue, and rejection (not caller-runs) when full
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : threads * 4),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hashes the password with a fresh salt at the configured work factor.
+     *
+     * @throws ResponseStatusException 503 if the hashing pool is saturated
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = run(() -> pbkdf2(password, salt, iterations));
+        return PREFIX + iterations + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    /**
+     * Checks the password against a stored value, hashed or legacy plaintext.
+     *
+     * @throws ResponseStatusException 503 if the hashing pool is saturated
+     */
+    public boolean matches(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!stored.startsWith(PREFIX)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = DECODER.decode(parts[2]);
+            expected = DECODER.decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (storedIterations <= 0) {
+            return false;
+        }
+        byte[] actual = run(() -> pbkdf2(password, salt, storedIterations));
+        return MessageDigest.isEqual(actual, expected);
+    }
+
+    /**
+     * A well-formed hash at the configured work factor that no password
+     * matches. Checking against it costs as much as checking a real hash, so
+     * a login for an unknown email takes as long as a wrong password.
+     */
+    public String dummyHash() {
+        return dummyHash;
+    }
+
+    /**
+     * Whether a stored value is plaintext or hashed at another work factor,
+     * and should be replaced after the next successful login.
+     */
+    public boolean needsRehash(String stored) {
+        return stored == null || !stored.startsWith(PREFIX + iterations + "$");
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private byte[] run(Callable<byte[]> work) {
+        Future<byte[]> result;
+        try {
+            result = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many sign-in attempts in progress, please retry");
+        }
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many sign-in attempts in progress, please retry");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Password check interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
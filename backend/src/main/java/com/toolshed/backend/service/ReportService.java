@@ -1,15 +1,20 @@
 package com.toolshed.backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.toolshed.backend.dto.CreateReportRequest;
+import com.toolshed.backend.dto.ReportPage;
 import com.toolshed.backend.dto.ReportResponse;
 import com.toolshed.backend.dto.UpdateReportStatusRequest;
 import com.toolshed.backend.repository.BookingRepository;
@@ -28,6 +33,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReportService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Position of the last row of a queue page, in the queue's sort order
+    record QueuePosition(ReportStatus status, LocalDateTime createdAt, UUID id) {
+    }
+
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final ToolRepository toolRepository;
@@ -63,10 +75,30 @@ public class ReportService {
         return toResponse(saved);
     }
 
+    /**
+     * One page of the moderation queue, open reports first, then in progress,
+     * then resolved, each oldest first; optionally restricted to one status.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first
+     */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getAllReports(ReportStatus status) {
-        List<Report> reports = status == null ? reportRepository.findAll() : reportRepository.findByStatus(status);
-        return reports.stream().map(this::toResponse).collect(Collectors.toList());
+    public ReportPage getQueue(ReportStatus status, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        QueuePosition after = decodeCursor(cursor);
+        List<ReportResponse> rows = reportRepository.findQueuePage(status,
+                after == null ? null : after.status().ordinal(),
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return ReportPage.builder().items(rows).build();
+        }
+        List<ReportResponse> items = rows.subList(0, pageSize);
+        ReportResponse last = items.get(pageSize - 1);
+        return ReportPage.builder()
+                .items(items)
+                .nextCursor(encodeCursor(new QueuePosition(last.getStatus(), last.getCreatedAt(), last.getId())))
+                .build();
     }
 
     @Transactional
@@ -86,12 +118,13 @@ public class ReportService {
         reportRepository.deleteById(reportId);
     }
 
+    // Only called on reports loaded or saved in the current transaction
     private ReportResponse toResponse(Report report) {
-        User resolvedReporter = resolveUser(report.getReporter());
+        User reporter = report.getReporter();
         return ReportResponse.builder()
                 .id(report.getId())
-                .reporterId(resolvedReporter != null ? resolvedReporter.getId() : null)
-                .reporterEmail(resolvedReporter != null ? resolvedReporter.getEmail() : null)
+                .reporterId(reporter != null ? reporter.getId() : null)
+                .reporterEmail(reporter != null ? reporter.getEmail() : null)
                 .toolId(report.getTool() != null ? report.getTool().getId() : null)
                 .toolTitle(report.getTool() != null ? report.getTool().getTitle() : null)
                 .bookingId(report.getBooking() != null ? report.getBooking().getId() : null)
@@ -103,14 +136,34 @@ public class ReportService {
                 .build();
     }
 
-    private User resolveUser(User user) {
-        if (user == null) {
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static String encodeCursor(QueuePosition position) {
+        String raw = position.status().name() + "|" + position.createdAt() + "|" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static QueuePosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
             return null;
         }
-        UUID id = user.getId();
-        if (id == null) {
-            return user;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected three fields");
+            }
+            return new QueuePosition(ReportStatus.valueOf(parts[0]), LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
         }
-        return userRepository.findById(id).orElse(user);
     }
 }
@@ -0,0 +1,64 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.MaintenanceCheckpointRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ReviewRepository.ReviewStats;
+import com.toolshed.backend.repository.entities.MaintenanceCheckpoint;
+
+/**
+ * Rebuilds the rating and reputation aggregates from all reviews, unless the
+ * reviews are exactly as they were at the last rebuild. The reviews are
+ * fingerprinted with one aggregate query (count, rating sum, last change) and
+ * the fingerprint of the last successful rebuild is kept as a checkpoint in
+ * the database, so restarts of an unchanged system cost a single query.
+ */
+@Component
+public class ReputationRebuild {
+
+    static final String CHECKPOINT = "reputation-aggregates";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final MaintenanceCheckpointRepository checkpointRepository;
+
+    public ReputationRebuild(ReviewRepository reviewRepository, ReviewService reviewService,
+            MaintenanceCheckpointRepository checkpointRepository) {
+        this.reviewRepository = reviewRepository;
+        this.reviewService = reviewService;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    /**
+     * @param skipped        whether the checkpoint matched and nothing ran
+     * @param fingerprint    state of the reviews the aggregates now reflect
+     * @param durationMillis wall-clock time including the fingerprint query
+     */
+    public record Result(boolean skipped, String fingerprint, long durationMillis) {
+    }
+
+    public Result runIfReviewsChanged() {
+        long started = System.nanoTime();
+        // Read before rebuilding: reviews written meanwhile change it again and force the next run
+        String fingerprint = fingerprint(reviewRepository.getReviewStats());
+        boolean unchanged = checkpointRepository.findById(CHECKPOINT)
+                .map(checkpoint -> checkpoint.getFingerprint().equals(fingerprint))
+                .orElse(false);
+        if (!unchanged) {
+            reviewService.recalculateAllReputations();
+            checkpointRepository.save(MaintenanceCheckpoint.builder()
+                    .name(CHECKPOINT)
+                    .fingerprint(fingerprint)
+                    .completedAt(LocalDateTime.now())
+                    .build());
+        }
+        return new Result(unchanged, fingerprint, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    static String fingerprint(ReviewStats stats) {
+        return stats.getReviews() + ":" + stats.getRatingSum() + ":" + stats.getLastChange();
+    }
+}
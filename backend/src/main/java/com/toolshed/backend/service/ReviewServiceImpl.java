@@ -77,7 +77,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         Review savedReview = reviewRepository.saveAndFlush(review);
 
-        updateRatings(savedReview);
+        applyRating(savedReview, savedReview.getRating(), 1);
 
         return ReviewResponse.builder()
                 .id(savedReview.getId())
@@ -98,12 +98,17 @@ public class ReviewServiceImpl implements ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("Review not found"));
 
+        int previousRating = review.getRating() != null ? review.getRating() : 0;
         review.setRating(request.getRating());
         review.setComment(request.getComment());
 
         Review savedReview = reviewRepository.saveAndFlush(review);
 
-        updateRatings(savedReview);
+        // Same review, new value: only the difference moves the sums
+        int delta = (savedReview.getRating() != null ? savedReview.getRating() : 0) - previousRating;
+        if (delta != 0) {
+            applyRating(savedReview, delta, 0);
+        }
 
         return ReviewResponse.builder()
                 .id(savedReview.getId())
@@ -118,75 +123,30 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
     }
 
+    /**
+     * Rebuilds the running rating sums and counts of tools and users from
+     * all reviews, e.g. after they were added to an existing database.
+     */
     @Override
     @Transactional
     public void recalculateAllReputations() {
-        java.util.List<User> users = userRepository.findAll();
-        for (User user : users) {
-            updateUserReputation(user.getId());
-        }
+        toolRepository.rebuildRatingAggregates();
+        userRepository.rebuildReputationAggregates();
     }
 
-    private void updateRatings(Review review) {
-        if (review.getType() == ReviewType.RENTER_TO_TOOL) {
-            updateToolRating(review.getTool().getId());
+    /**
+     * Moves the running aggregates of the review's tool (tool reviews only)
+     * and target user by one atomic update each, so the cost doesn't depend
+     * on how many reviews they already have.
+     */
+    private void applyRating(Review review, int ratingDelta, int countDelta) {
+        if (review.getType() == ReviewType.RENTER_TO_TOOL && review.getTool() != null) {
+            toolRepository.addRating(review.getTool().getId(), ratingDelta, countDelta);
         }
 
         // Update the target user's reputation (owner or renter)
         if (review.getOwner() != null) {
-            updateUserReputation(review.getOwner().getId());
-        }
-    }
-
-    private void updateToolRating(UUID toolId) {
-        java.util.List<Review> reviews = reviewRepository.findByToolId(toolId).stream()
-                .filter(r -> r.getType() == ReviewType.RENTER_TO_TOOL)
-                .collect(java.util.stream.Collectors.toList());
-
-        if (reviews.isEmpty()) {
-            return;
-        }
-
-        double average = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
-
-        // Round to 1 decimal place
-        average = Math.round(average * 10.0) / 10.0;
-
-        com.toolshed.backend.repository.entities.Tool tool = toolRepository.findById(toolId)
-                .orElseThrow(() -> new IllegalStateException("Tool not found during rating update"));
-
-        tool.setOverallRating(average);
-        tool.setNumRatings(reviews.size());
-
-        toolRepository.save(tool);
-    }
-
-    private void updateUserReputation(UUID userId) {
-        // Find reviews where this user is the TARGET (owner field in Review entity)
-        // Note: ReviewRepository.findByOwnerId finds by the 'owner' field, which is the
-        // target user
-        java.util.List<Review> reviews = reviewRepository.findByOwnerId(userId);
-
-        if (reviews.isEmpty()) {
-            return;
+            userRepository.addReputation(review.getOwner().getId(), ratingDelta, countDelta);
         }
-
-        double average = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
-
-        // Round to 1 decimal place
-        average = Math.round(average * 10.0) / 10.0;
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("User not found during reputation update"));
-
-        user.setReputationScore(average);
-
-        userRepository.save(user);
     }
 }
@@ -0,0 +1,201 @@
+package com.toolshed.backend.service;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+
+/**
+ * Issues and verifies stateless session tokens.
+ * A token is {@code base64url(payload) + "." + base64url(HMAC-SHA256(payload))}
+ * where the payload holds a format version, the user id, the role, the expiry
+ * and a random token id. Verifying one is a MAC over a few dozen bytes plus a
+ * deny-list lookup, with no database access. Tokens survive restarts and are
+ * accepted by every replica as long as they share {@code auth.token.secret}.
+ */
+@Component
+public class SessionTokens {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTokens.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // 2: roles carry fixed codes (version 1 used enum ordinals, which shift if UserRole is reordered)
+    private static final byte VERSION = 2;
+
+    // version, user id, role, expiry (epoch seconds), token id
+    private static final int PAYLOAD_BYTES = 1 + 16 + 1 + Long.BYTES + Long.BYTES;
+    private static final int MAC_BYTES = 32;
+
+    private static final byte NO_ROLE = 0;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // Upper bound on the encoded length, to reject garbage before decoding it
+    private static final int MAX_TOKEN_LENGTH = 128;
+
+    /**
+     * What a valid token says about its bearer.
+     */
+    public record Session(UUID userId, UserRole role, Instant expiresAt, long tokenId) {
+    }
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final TokenDenyList denyList;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    // Mac instances are not thread-safe and costly to look up, so one per thread
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public SessionTokens(@Value("${auth.token.secret:}") String secret,
+            @Value("${auth.token.ttl:PT12H}") Duration ttl,
+            TokenDenyList denyList) {
+        this(secret, ttl, denyList, Clock.systemUTC());
+    }
+
+    SessionTokens(String secret, Duration ttl, TokenDenyList denyList, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+            logger.warn("auth.token.secret is not set; using a random key, so sessions end on restart "
+                    + "and are not shared between replicas");
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret.trim());
+            if (keyBytes.length < 32) {
+                throw new IllegalArgumentException("auth.token.secret must be at least 32 bytes (base64)");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.denyList = denyList;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Issues a token for the user, valid for the configured TTL.
+     */
+    public String issue(User user) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES)
+                .put(VERSION)
+                .putLong(user.getId().getMostSignificantBits())
+                .putLong(user.getId().getLeastSignificantBits())
+                .put(roleCode(user.getRole()))
+                .putLong(expiresAt)
+                .putLong(random.nextLong());
+        byte[] bytes = payload.array();
+        return ENCODER.encodeToString(bytes) + "." + ENCODER.encodeToString(sign(bytes));
+    }
+
+    /**
+     * Checks signature, expiry and revocation.
+     *
+     * @return the session, or empty if the token is malformed, forged, expired
+     *         or revoked
+     */
+    public Optional<Session> verify(String token) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] mac;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            mac = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_BYTES || mac.length != MAC_BYTES
+                || !MessageDigest.isEqual(sign(payload), mac)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.get() != VERSION) {
+            return Optional.empty();
+        }
+        UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+        byte role = buffer.get();
+        long expiresAt = buffer.getLong();
+        long tokenId = buffer.getLong();
+        if (role != NO_ROLE && roleOf(role) == null || clock.instant().getEpochSecond() >= expiresAt
+                || denyList.isRevoked(tokenId)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Session(userId, roleOf(role), Instant.ofEpochSecond(expiresAt), tokenId));
+    }
+
+    /**
+     * Revokes a valid token until it expires.
+     *
+     * @return false if the token was not valid (nothing to revoke)
+     */
+    public boolean revoke(String token) {
+        Optional<Session> session = verify(token);
+        session.ifPresent(s -> denyList.revoke(s.tokenId(), s.expiresAt().toEpochMilli()));
+        return session.isPresent();
+    }
+
+    // Fixed wire codes, independent of the declaration order of UserRole
+    static byte roleCode(UserRole role) {
+        if (role == null) {
+            return NO_ROLE;
+        }
+        return switch (role) {
+            case SUPPLIER -> 1;
+            case RENTER -> 2;
+            case ADMIN -> 3;
+        };
+    }
+
+    // Null for NO_ROLE and for codes no role has
+    static UserRole roleOf(byte code) {
+        return switch (code) {
+            case 1 -> UserRole.SUPPLIER;
+            case 2 -> UserRole.RENTER;
+            case 3 -> UserRole.ADMIN;
+            default -> null;
+        };
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.toolshed.backend.service;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times service operations and outbound calls into Micrometer timers, tagged
+ * with {@code outcome} (success or error). Timers are registered on the
+ * global registry, which Spring Boot links to the Prometheus one, so the
+ * timed classes need no extra constructor argument; without a registry (unit
+ * tests) recording is a no-op. Histogram buckets for every {@code toolshed.*}
+ * timer are switched on in application.properties.
+ */
+final class Timings {
+
+    static final String BOOKING_CREATE = "toolshed.booking.create";
+    static final String TOOL_SEARCH = "toolshed.tool.search";
+    static final String STRIPE_CHECKOUT = "toolshed.stripe.checkout";
+    static final String GEOAPI_REQUEST = "toolshed.geoapi.request";
+
+    @FunctionalInterface
+    interface Call<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    private Timings() {
+    }
+
+    static <T, E extends Exception> T record(String name, Call<T, E> call) throws E {
+        return record(name, Tags.empty(), call);
+    }
+
+    static <T, E extends Exception> T record(String name, Tags tags, Call<T, E> call) throws E {
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        String outcome = "error";
+        try {
+            T result = call.run();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(Metrics.globalRegistry));
+        }
+    }
+}
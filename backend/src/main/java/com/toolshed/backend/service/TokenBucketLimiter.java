@@ -0,0 +1,159 @@
+package com.toolshed.backend.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Per-key token buckets: each key may spend up to {@code capacity} requests
+ * at once, refilled at {@code refillPerMinute}.
+ * A bucket is a single {@link AtomicLong} holding the time at which it will
+ * be full again (the "generic cell rate algorithm" form of a token bucket),
+ * so acquiring is one compare-and-set with no lock and no allocation.
+ * A bucket that has refilled is indistinguishable from a new one, so such
+ * buckets are dropped by {@link #purgeIdle()}; when the map still reaches
+ * {@code maxKeys}, arbitrary buckets are evicted to keep memory bounded
+ * (which at worst hands their keys a fresh bucket).
+ */
+public class TokenBucketLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBucketLimiter.class);
+
+    /**
+     * Counters since startup.
+     *
+     * @param allowed   requests that got a token
+     * @param throttled requests rejected for lack of one
+     * @param keys      buckets currently tracked
+     * @param evicted   buckets dropped while still draining, to stay under the key bound
+     */
+    public record Stats(long allowed, long throttled, int keys, long evicted) {
+    }
+
+    private final String name;
+    private final int maxKeys;
+    // Time to regain one token, and how far the full-again time may run ahead of now
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoTime;
+
+    // Key -> nanoTime at which the bucket is full again
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public TokenBucketLimiter(String name, int capacity, double refillPerMinute, int maxKeys) {
+        this(name, capacity, refillPerMinute, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketLimiter(String name, int capacity, double refillPerMinute, int maxKeys, LongSupplier nanoTime) {
+        if (capacity < 1 || refillPerMinute <= 0 || maxKeys < 1) {
+            throw new IllegalArgumentException("Rate limit '" + name + "' needs capacity >= 1, refill > 0, keys >= 1");
+        }
+        this.name = name;
+        this.maxKeys = maxKeys;
+        this.intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / refillPerMinute);
+        this.burstNanos = intervalNanos * capacity;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Takes a token from the key's bucket.
+     *
+     * @return 0 if allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                makeRoom();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long start = fullAt - now < 0 ? now : fullAt;
+            long next = start + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                throttled.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely.
+     */
+    public void purgeIdle() {
+        long now = nanoTime.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public Stats stats() {
+        return new Stats(allowed.sum(), throttled.sum(), buckets.size(), evicted.sum());
+    }
+
+    /**
+     * Publishes the {@link Stats} as meters tagged {@code limit=<name>}:
+     * {@code toolshed.auth.rate.limit.requests} (by {@code outcome}),
+     * {@code .evictions} and the {@code .keys} gauge.
+     */
+    void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("limit", name);
+        FunctionCounter.builder("toolshed.auth.rate.limit.requests", allowed, LongAdder::doubleValue)
+                .tags(tags).tag("outcome", "allowed")
+                .description("Credential requests that got a token")
+                .register(registry);
+        FunctionCounter.builder("toolshed.auth.rate.limit.requests", throttled, LongAdder::doubleValue)
+                .tags(tags).tag("outcome", "throttled")
+                .description("Credential requests rejected for lack of a token")
+                .register(registry);
+        FunctionCounter.builder("toolshed.auth.rate.limit.evictions", evicted, LongAdder::doubleValue)
+                .tags(tags)
+                .description("Buckets dropped while still draining, to stay under the key bound")
+                .register(registry);
+        Gauge.builder("toolshed.auth.rate.limit.keys", buckets, Map::size)
+                .tags(tags)
+                .description("Buckets currently tracked")
+                .register(registry);
+    }
+
+    private synchronized void makeRoom() {
+        if (buckets.size() < maxKeys) {
+            return;
+        }
+        purgeIdle();
+        int target = maxKeys - Math.max(1, maxKeys / 10);
+        int dropped = 0;
+        Iterator<AtomicLong> it = buckets.values().iterator();
+        while (buckets.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+            dropped++;
+        }
+        if (dropped > 0) {
+            evicted.add(dropped);
+            logger.warn("Rate limit '{}' tracks {} keys; evicted {} active buckets", name, maxKeys, dropped);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.toolshed.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Ids of session tokens revoked before their expiry (logout), kept in memory
+ * only until the token would have expired anyway.
+ * The list is bounded so memory stays flat even under a flood of logouts:
+ * when it is full, expired entries are dropped, and if every entry is still
+ * live the revocation is refused (503) rather than evicting one, since that
+ * would make a logged-out token usable again.
+ */
+@Component
+public class TokenDenyList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenyList.class);
+
+    private final int capacity;
+
+    // Token id -> expiry of the token, epoch millis
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+
+    public TokenDenyList(@Value("${auth.token.deny-list-capacity:100000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Rejects the token until {@code expiresAtMillis}.
+     *
+     * @throws ResponseStatusException 503 when the list is full of live revocations
+     */
+    public synchronized void revoke(long tokenId, long expiresAtMillis) {
+        if (revoked.size() >= capacity && !revoked.containsKey(tokenId)) {
+            purgeExpired(System.currentTimeMillis());
+            if (revoked.size() >= capacity) {
+                logger.warn("Token deny-list full ({} live revocations); refusing a logout", capacity);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Logout is temporarily unavailable, try again later");
+            }
+        }
+        revoked.put(tokenId, expiresAtMillis);
+    }
+
+    public boolean isRevoked(long tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Drops entries whose token has expired; they are rejected for their
+     * expiry anyway.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    void purgeExpired(long nowMillis) {
+        revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+    }
+}
@@ -0,0 +1,68 @@
+package com.toolshed.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.entities.Tool;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes the whole tool catalog as NDJSON (one JSON object per line).
+ * Rows are read through a forward-only database cursor and detached from
+ * the persistence context once written, so memory use does not grow with
+ * the size of the catalog.
+ */
+@Component
+public class ToolCatalogExporter {
+
+    private final ToolRepository toolRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ToolCatalogExporter(ToolRepository toolRepository, EntityManager entityManager,
+            ObjectMapper objectMapper) {
+        this.toolRepository = toolRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams every tool to {@code out}. The stream is flushed after the first
+     * line and then once per fetched batch.
+     *
+     * @return number of tools written
+     */
+    @Transactional(readOnly = true)
+    public long writeNdjson(OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                Stream<Tool> tools = toolRepository.streamAllForExport()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Tool> iterator = tools.iterator();
+            while (iterator.hasNext()) {
+                Tool tool = iterator.next();
+                objectMapper.writeValue(generator, tool);
+                generator.writeRaw('\n');
+                entityManager.detach(tool);
+
+                written++;
+                if (written == 1 || written % ToolRepository.EXPORT_FETCH_SIZE == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return written;
+    }
+}
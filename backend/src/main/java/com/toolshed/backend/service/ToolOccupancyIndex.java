@@ -0,0 +1,160 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.enums.BookingStatus;
+
+/**
+ * In-memory calendar of the days each tool is already taken, built from the
+ * bookings that still hold their dates (everything except cancelled and
+ * rejected ones, the same rule {@code findOverlappingBookings} uses).
+ * Each tool keeps its bookings merged into sorted, non-overlapping day ranges,
+ * so an availability check is a binary search and never hits the database.
+ * Writes replace a tool's ranges copy-on-write; readers are lock-free.
+ */
+@Component
+public class ToolOccupancyIndex {
+
+    private volatile Map<UUID, Occupancy> byTool = new ConcurrentHashMap<>();
+
+    /**
+     * Records the current state of a booking: adds its dates when it blocks the
+     * tool, drops them when it no longer does (e.g. cancelled or rejected).
+     */
+    public synchronized void record(Booking booking) {
+        UUID toolId = toolId(booking);
+        if (toolId == null || booking.getId() == null) {
+            return;
+        }
+        if (blocks(booking)) {
+            byTool.compute(toolId, (id, current) -> (current == null ? Occupancy.EMPTY : current)
+                    .with(booking.getId(), booking.getStartDate(), booking.getEndDate()));
+        } else {
+            removeBooking(toolId, booking.getId());
+        }
+    }
+
+    /**
+     * Forgets a deleted booking.
+     */
+    public synchronized void remove(Booking booking) {
+        UUID toolId = toolId(booking);
+        if (toolId != null && booking.getId() != null) {
+            removeBooking(toolId, booking.getId());
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given bookings. Readers keep seeing the
+     * previous index until the new one is fully built.
+     */
+    public synchronized void rebuild(Iterable<Booking> bookings) {
+        Map<UUID, Map<UUID, long[]>> rangesByTool = new HashMap<>();
+        for (Booking booking : bookings) {
+            UUID toolId = toolId(booking);
+            if (toolId != null && booking.getId() != null && blocks(booking)) {
+                rangesByTool.computeIfAbsent(toolId, id -> new HashMap<>())
+                        .put(booking.getId(), range(booking.getStartDate(), booking.getEndDate()));
+            }
+        }
+        Map<UUID, Occupancy> newByTool = new ConcurrentHashMap<>();
+        rangesByTool.forEach((toolId, ranges) -> newByTool.put(toolId, Occupancy.of(ranges)));
+        this.byTool = newByTool;
+    }
+
+    /**
+     * Whether no blocking booking of the tool overlaps the given days (both
+     * ends inclusive).
+     */
+    public boolean isAvailable(UUID toolId, LocalDate startDate, LocalDate endDate) {
+        Occupancy occupancy = byTool.get(toolId);
+        return occupancy == null || !occupancy.overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Number of tools with at least one blocking booking.
+     */
+    public int size() {
+        return byTool.size();
+    }
+
+    static boolean blocks(Booking booking) {
+        return booking.getStatus() != BookingStatus.CANCELLED
+                && booking.getStatus() != BookingStatus.REJECTED
+                && booking.getStartDate() != null
+                && booking.getEndDate() != null;
+    }
+
+    private void removeBooking(UUID toolId, UUID bookingId) {
+        byTool.computeIfPresent(toolId, (id, current) -> current.without(bookingId));
+    }
+
+    private static UUID toolId(Booking booking) {
+        return booking == null || booking.getTool() == null ? null : booking.getTool().getId();
+    }
+
+    private static long[] range(LocalDate startDate, LocalDate endDate) {
+        return new long[] { startDate.toEpochDay(), endDate.toEpochDay() };
+    }
+
+    /**
+     * Immutable per-tool state: the raw booking ranges (needed to undo a single
+     * booking) and their union as sorted, disjoint [start, end] epoch-day pairs.
+     */
+    private record Occupancy(Map<UUID, long[]> bookings, long[] starts, long[] ends) {
+
+        static final Occupancy EMPTY = new Occupancy(Map.of(), new long[0], new long[0]);
+
+        static Occupancy of(Map<UUID, long[]> bookings) {
+            long[][] ranges = bookings.values().toArray(long[][]::new);
+            Arrays.sort(ranges, (a, b) -> Long.compare(a[0], b[0]));
+
+            long[] starts = new long[ranges.length];
+            long[] ends = new long[ranges.length];
+            int merged = 0;
+            for (long[] range : ranges) {
+                if (merged > 0 && range[0] <= ends[merged - 1] + 1) {
+                    ends[merged - 1] = Math.max(ends[merged - 1], range[1]);
+                } else {
+                    starts[merged] = range[0];
+                    ends[merged] = range[1];
+                    merged++;
+                }
+            }
+            return new Occupancy(Map.copyOf(bookings), Arrays.copyOf(starts, merged), Arrays.copyOf(ends, merged));
+        }
+
+        Occupancy with(UUID bookingId, LocalDate startDate, LocalDate endDate) {
+            Map<UUID, long[]> updated = new HashMap<>(bookings);
+            updated.put(bookingId, range(startDate, endDate));
+            return of(updated);
+        }
+
+        // Returning null drops the tool from the map once its last booking is gone
+        Occupancy without(UUID bookingId) {
+            if (!bookings.containsKey(bookingId)) {
+                return this;
+            }
+            Map<UUID, long[]> updated = new HashMap<>(bookings);
+            updated.remove(bookingId);
+            return updated.isEmpty() ? null : of(updated);
+        }
+
+        boolean overlaps(long startDay, long endDay) {
+            // Last merged range starting on or before endDay is the only candidate
+            int i = Arrays.binarySearch(starts, endDay);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            return i >= 0 && ends[i] >= startDay;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.toolshed.backend.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.toolshed.backend.repository.entities.Booking;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that keeps {@link ToolOccupancyIndex} in sync with every
+ * booking write (creation, approval/rejection, cancellation, completion).
+ * Like {@link ToolSearchIndexListener}, the index is looked up lazily so
+ * JPA-only contexts still work without it.
+ */
+public class ToolOccupancyIndexListener {
+
+    private final ObjectProvider<ToolOccupancyIndex> occupancyIndex;
+
+    public ToolOccupancyIndexListener(ObjectProvider<ToolOccupancyIndex> occupancyIndex) {
+        this.occupancyIndex = occupancyIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Booking booking) {
+        occupancyIndex.ifAvailable(index -> index.record(booking));
+    }
+
+    @PostRemove
+    public void onRemove(Booking booking) {
+        occupancyIndex.ifAvailable(index -> index.remove(booking));
+    }
+}
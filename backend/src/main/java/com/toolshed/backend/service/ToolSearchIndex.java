@@ -0,0 +1,174 @@
+package com.toolshed.backend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.toolshed.backend.repository.entities.Tool;
+
+/**
+ * In-memory inverted index over tool titles and descriptions.
+ * Terms are lower-cased and accent-folded (so "berbequim" also finds
+ * "Berbequím"), and every query token is matched as a prefix of the indexed
+ * terms. Lookups never touch the database: the index only narrows the
+ * candidate ids, the active/district/price filters are still applied by the
+ * repository query on those ids.
+ */
+@Component
+public class ToolSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // term -> ids of the tools whose title/description contain it
+    private volatile ConcurrentNavigableMap<String, Set<UUID>> postings = new ConcurrentSkipListMap<>();
+    // tool id -> terms currently indexed for it (needed to drop stale postings on update)
+    private volatile Map<UUID, Set<String>> termsByTool = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes (or re-indexes) a tool. Safe to call on every save.
+     */
+    public synchronized void index(Tool tool) {
+        if (tool == null || tool.getId() == null) {
+            return;
+        }
+        add(postings, termsByTool, tool);
+    }
+
+    /**
+     * Removes a tool and all its postings from the index.
+     */
+    public synchronized void remove(UUID toolId) {
+        if (toolId == null) {
+            return;
+        }
+        Set<String> previous = termsByTool.remove(toolId);
+        if (previous != null) {
+            previous.forEach(term -> removePosting(postings, term, toolId));
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given tools. Readers keep seeing the
+     * previous index until the new one is fully built.
+     */
+    public synchronized void rebuild(Iterable<Tool> tools) {
+        ConcurrentNavigableMap<String, Set<UUID>> newPostings = new ConcurrentSkipListMap<>();
+        Map<UUID, Set<String>> newTermsByTool = new ConcurrentHashMap<>();
+        for (Tool tool : tools) {
+            if (tool != null && tool.getId() != null) {
+                add(newPostings, newTermsByTool, tool);
+            }
+        }
+        this.postings = newPostings;
+        this.termsByTool = newTermsByTool;
+    }
+
+    /**
+     * Returns the ids of the tools matching every token of the keyword.
+     *
+     * @param keyword free text as typed by the user
+     * @return matching tool ids (empty when the keyword has no searchable tokens)
+     */
+    public Set<UUID> search(String keyword) {
+        Set<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return Set.of();
+        }
+
+        ConcurrentNavigableMap<String, Set<UUID>> current = postings;
+        List<Set<UUID>> matchesPerToken = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Set<UUID> matches = matchPrefix(current, token);
+            if (matches.isEmpty()) {
+                return Set.of();
+            }
+            matchesPerToken.add(matches);
+        }
+
+        // Intersect starting from the most selective token
+        matchesPerToken.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> result = matchesPerToken.get(0);
+        for (int i = 1; i < matchesPerToken.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchesPerToken.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return termsByTool.size();
+    }
+
+    /**
+     * Lower-cases and strips diacritics, e.g. "Évora" becomes "evora".
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<UUID> matchPrefix(ConcurrentNavigableMap<String, Set<UUID>> postings, String prefix) {
+        Collection<Set<UUID>> lists = postings
+                .subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values();
+        Set<UUID> matches = new HashSet<>();
+        lists.forEach(matches::addAll);
+        return matches;
+    }
+
+    private static void add(ConcurrentNavigableMap<String, Set<UUID>> postings,
+            Map<UUID, Set<String>> termsByTool, Tool tool) {
+        UUID id = tool.getId();
+        Set<String> terms = tokenize(tool.getTitle());
+        terms.addAll(tokenize(tool.getDescription()));
+
+        Set<String> previous = termsByTool.put(id, terms);
+        if (previous != null) {
+            for (String term : previous) {
+                if (!terms.contains(term)) {
+                    removePosting(postings, term, id);
+                }
+            }
+        }
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void removePosting(ConcurrentNavigableMap<String, Set<UUID>> postings, String term, UUID id) {
+        Set<UUID> ids = postings.get(term);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term, ids);
+            }
+        }
+    }
+}
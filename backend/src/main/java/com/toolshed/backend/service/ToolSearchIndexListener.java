@@ -0,0 +1,36 @@
+package com.toolshed.backend.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.toolshed.backend.repository.entities.Tool;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that keeps {@link ToolSearchIndex} in sync with every
+ * write to the tool table, whether it comes from {@link ToolServiceImpl} or
+ * from other services/seeders saving tools directly.
+ * Instantiated by Hibernate through Spring's bean container; the index is
+ * looked up lazily so JPA-only contexts (e.g. repository tests) still work.
+ */
+public class ToolSearchIndexListener {
+
+    private final ObjectProvider<ToolSearchIndex> searchIndex;
+
+    public ToolSearchIndexListener(ObjectProvider<ToolSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Tool tool) {
+        searchIndex.ifAvailable(index -> index.index(tool));
+    }
+
+    @PostRemove
+    public void onRemove(Tool tool) {
+        searchIndex.ifAvailable(index -> index.remove(tool.getId()));
+    }
+}
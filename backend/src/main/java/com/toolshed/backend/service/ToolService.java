@@ -7,15 +7,24 @@ import java.util.UUID;
 import com.toolshed.backend.dto.UpdateToolInput;
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.dto.CreateToolInput;
+import com.toolshed.backend.dto.ToolPage;
 
 public interface ToolService {
-    List<Tool> searchTools(String keyword, String district, Double minPrice, Double maxPrice);
+    /**
+     * Listing and search methods are keyset-paginated: pass the
+     * {@code nextCursor} of the previous page (or null for the first page) and
+     * an optional page size, capped server-side.
+     * When {@code startDate}/{@code endDate} are given, search only returns
+     * tools with no booking overlapping that window.
+     */
+    ToolPage searchTools(String keyword, String district, Double minPrice, Double maxPrice,
+            java.time.LocalDate startDate, java.time.LocalDate endDate, String cursor, Integer limit);
 
     Optional<Tool> getById(UUID id);
 
-    List<Tool> getAll();
+    ToolPage getAll(String cursor, Integer limit);
 
-    List<Tool> getActive();
+    ToolPage getActive(String cursor, Integer limit);
 
     String createTool(CreateToolInput input);
 
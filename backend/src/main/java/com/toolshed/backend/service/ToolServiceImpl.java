@@ -1,16 +1,23 @@
 package com.toolshed.backend.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.toolshed.backend.dto.CreateToolInput;
+import com.toolshed.backend.dto.ToolPage;
 import com.toolshed.backend.dto.UpdateToolInput;
 import com.toolshed.backend.repository.BookingRepository;
 import com.toolshed.backend.repository.ToolRepository;
@@ -28,24 +35,56 @@ public class ToolServiceImpl implements ToolService {
     private final UserRepository userRepo;
     private final BookingRepository bookingRepo;
     private final IGeoApiService geoApiService;
+    private final ToolSearchIndex searchIndex;
+    private final ToolOccupancyIndex occupancyIndex;
+
+    // Keeps the IN (...) list well below the JDBC bind-parameter limit
+    private static final int ID_BATCH_SIZE = 1000;
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Rows a date-only search reads per request before returning a short page
+    static final int MAX_SCANNED_ROWS = 1000;
+
+    // Same order the database uses for uuid columns (unsigned, byte by byte),
+    // so in-memory candidates can be paged with the same cursor as SQL results
+    private static final Comparator<UUID> KEYSET_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
 
     public ToolServiceImpl(ToolRepository toolRepo, UserRepository userRepo, BookingRepository bookingRepo,
-            IGeoApiService geoApiService) {
+            IGeoApiService geoApiService, ToolSearchIndex searchIndex, ToolOccupancyIndex occupancyIndex) {
         this.toolRepo = toolRepo;
         this.userRepo = userRepo;
         this.bookingRepo = bookingRepo;
         this.geoApiService = geoApiService;
+        this.searchIndex = searchIndex;
+        this.occupancyIndex = occupancyIndex;
     }
 
     /**
      * Implements the search functionality based on US1 criteria.
      * Handles input validation (null/whitespace) before delegating to the
-     * repository.
+     * repository. Keywords are resolved against the in-memory
+     * {@link ToolSearchIndex}; only the matching ids reach the database.
+     * A date range keeps only the tools that {@link ToolOccupancyIndex} reports
+     * as free for the whole window, without querying bookings.
      */
     @Override
-    public List<Tool> searchTools(String keyword, String district, Double minPrice, Double maxPrice) {
+    public ToolPage searchTools(String keyword, String district, Double minPrice, Double maxPrice,
+            LocalDate startDate, LocalDate endDate, String cursor, Integer limit) {
+        return Timings.record(Timings.TOOL_SEARCH,
+                () -> search(keyword, district, minPrice, maxPrice, startDate, endDate, cursor, limit));
+    }
+
+    private ToolPage search(String keyword, String district, Double minPrice, Double maxPrice,
+            LocalDate startDate, LocalDate endDate, String cursor, Integer limit) {
         String trimmedKeyword = keyword == null ? null : keyword.trim();
         String trimmedDistrict = district == null ? null : district.trim();
+        UUID afterId = decodeCursor(cursor);
+        int pageSize = resolvePageSize(limit);
+        boolean byDates = validateDateRange(startDate, endDate);
 
         // Sanitize negative prices
         if (minPrice != null && minPrice < 0) {
@@ -59,11 +98,60 @@ public class ToolServiceImpl implements ToolService {
         if ((trimmedKeyword == null || trimmedKeyword.isEmpty())
                 && (trimmedDistrict == null || trimmedDistrict.isEmpty())
                 && minPrice == null
-                && maxPrice == null) {
-            return Collections.emptyList();
+                && maxPrice == null
+                && !byDates) {
+            return toPage(Collections.emptyList(), pageSize);
         }
 
-        return toolRepo.searchTools(trimmedKeyword, trimmedDistrict, minPrice, maxPrice);
+        if ((trimmedKeyword == null || trimmedKeyword.isEmpty()) && !byDates) {
+            return toPage(toolRepo.searchTools(trimmedKeyword, trimmedDistrict, minPrice, maxPrice,
+                    afterId, Limit.of(pageSize + 1)), pageSize);
+        }
+
+        if (trimmedKeyword == null || trimmedKeyword.isEmpty()) {
+            // Booked tools are dropped after the query, so keep reading pages
+            // until enough free ones are found or the results run out, but
+            // only up to MAX_SCANNED_ROWS: when most tools are booked the page
+            // comes back short, with a cursor after the last row read
+            List<Tool> results = new ArrayList<>();
+            UUID from = afterId;
+            int scanned = 0;
+            while (true) {
+                List<Tool> rows = toolRepo.searchTools(trimmedKeyword, trimmedDistrict, minPrice, maxPrice,
+                        from, Limit.of(pageSize + 1));
+                rows.stream()
+                        .filter(tool -> occupancyIndex.isAvailable(tool.getId(), startDate, endDate))
+                        .forEach(results::add);
+                if (results.size() > pageSize || rows.size() <= pageSize) {
+                    return toPage(results, pageSize);
+                }
+                from = rows.get(rows.size() - 1).getId();
+                scanned += rows.size();
+                if (scanned >= MAX_SCANNED_ROWS) {
+                    return ToolPage.builder().items(results).nextCursor(encodeCursor(from)).build();
+                }
+            }
+        }
+
+        Set<UUID> candidates = searchIndex.search(trimmedKeyword);
+        if (candidates.isEmpty()) {
+            return toPage(Collections.emptyList(), pageSize);
+        }
+
+        // Walk the candidates in keyset order and stop as soon as one extra row
+        // (which tells us there is a next page) has passed the SQL filters
+        List<UUID> ids = candidates.stream()
+                .filter(id -> afterId == null || KEYSET_ORDER.compare(id, afterId) > 0)
+                .filter(id -> !byDates || occupancyIndex.isAvailable(id, startDate, endDate))
+                .sorted(KEYSET_ORDER)
+                .toList();
+        List<Tool> results = new ArrayList<>();
+        for (int from = 0; from < ids.size() && results.size() <= pageSize; from += ID_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            results.addAll(toolRepo.searchToolsByIds(batch, trimmedDistrict, minPrice, maxPrice,
+                    Limit.of(pageSize + 1 - results.size())));
+        }
+        return toPage(results, pageSize);
     }
 
     @Override
@@ -72,13 +160,77 @@ public class ToolServiceImpl implements ToolService {
     }
 
     @Override
-    public List<Tool> getAll() {
-        return toolRepo.findAll();
+    public ToolPage getAll(String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        return toPage(toolRepo.findPage(decodeCursor(cursor), Limit.of(pageSize + 1)), pageSize);
     }
 
     @Override
-    public List<Tool> getActive() {
-        return toolRepo.findByActiveTrue();
+    public ToolPage getActive(String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        return toPage(toolRepo.findActivePage(decodeCursor(cursor), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    /**
+     * Builds a page from a query that fetched up to {@code pageSize + 1} rows;
+     * the extra row only signals that a next page exists.
+     */
+    private ToolPage toPage(List<Tool> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return ToolPage.builder().items(rows).build();
+        }
+        List<Tool> items = rows.subList(0, pageSize);
+        return ToolPage.builder()
+                .items(items)
+                .nextCursor(encodeCursor(items.get(pageSize - 1).getId()))
+                .build();
+    }
+
+    /**
+     * Checks the optional availability window; both dates must be given together.
+     *
+     * @return whether a date range was requested
+     */
+    private boolean validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) {
+            return false;
+        }
+        if (startDate == null || endDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Both startDate and endDate are required");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dates cannot be in the past");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be on or after start date");
+        }
+        return true;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static String encodeCursor(UUID lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UUID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 
     @Override
@@ -159,12 +311,6 @@ public class ToolServiceImpl implements ToolService {
         if (input.getAvailabilityCalendar() != null) {
             tool.setAvailabilityCalendar(input.getAvailabilityCalendar());
         }
-        if (input.getOverallRating() != null) {
-            tool.setOverallRating(input.getOverallRating());
-        }
-        if (input.getNumRatings() != null) {
-            tool.setNumRatings(input.getNumRatings());
-        }
 
         if (input.getOwnerId() != null) {
             User supplier = userRepo.findById(input.getOwnerId())
@@ -3,42 +3,83 @@ package com.toolshed.backend.service;
 import java.io.IOException;
 
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * Basic HTTP client implementation using Apache HttpClient.
- * Provides a simple wrapper around Apache's CloseableHttpClient
- * for executing HTTP GET requests and returning response content as strings.
+ * One pooled {@link CloseableHttpClient} is shared by every request, so
+ * connections (and their TLS sessions) are kept alive and reused instead of
+ * being set up per call. Concurrent GETs of the same URL are coalesced: only
+ * one goes upstream and the others receive its response.
  */
 @Component
 public class TqsBasicHttpClient implements ISimpleHttpClient {
 
-    @Override
-    public String doHttpGet(String url) throws IOException {
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient client;
+    private final SingleFlight<String, String> inFlight = new SingleFlight<>();
+
+    public TqsBasicHttpClient(
+            @Value("${http.client.max-connections:20}") int maxConnections,
+            @Value("${http.client.max-connections-per-route:10}") int maxConnectionsPerRoute,
+            @Value("${http.client.keep-alive-seconds:60}") long keepAliveSeconds) {
         // Add conservative timeouts so external GeoAPI calls cannot hang the UI
         // Keep the backend cap below the frontend timeout so the UI can react (and fall back)
-        RequestConfig requestConfig = RequestConfig.custom()
-            .setConnectTimeout(Timeout.ofSeconds(10))
-            .setResponseTimeout(Timeout.ofSeconds(10))
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofSeconds(10))
+                .setSocketTimeout(Timeout.ofSeconds(10))
+                // Idle connections may have been dropped by the server meanwhile
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
             .build();
 
-        try (CloseableHttpClient client = HttpClients.createDefault()) {
-            HttpGet request = new HttpGet(url);
-            request.setConfig(requestConfig);
-
-            try (CloseableHttpResponse response = client.execute(request)) {
-                HttpEntity entity = response.getEntity();
-                return EntityUtils.toString(entity);
-            } catch (org.apache.hc.core5.http.ParseException e) {
-                throw new IOException("Failed to parse response", e);
-            }
-        }
+        this.client = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofSeconds(10))
+                .setResponseTimeout(Timeout.ofSeconds(10))
+                // Used when the server doesn't say how long it keeps the connection
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+            .build();
+    }
+
+    @Override
+    public String doHttpGet(String url) throws IOException {
+        return inFlight.execute(url, () -> get(url));
+    }
+
+    private String get(String url) throws IOException {
+        return client.execute(new HttpGet(url), response -> EntityUtils.toString(response.getEntity()));
+    }
+
+    /**
+     * Connections currently leased and kept idle in the pool.
+     */
+    public PoolStats poolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        client.close();
     }
 }
@@ -0,0 +1,122 @@
+package com.toolshed.backend.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.BookingRepository.HeldDeposit;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.WalletEntryRepository;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.entities.WalletEntry;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+
+/**
+ * Single entry point for every change to an owner's wallet.
+ * Each movement is appended to the ledger as an entry in integer cents, and
+ * the stored balance is moved by the same amount with an atomic
+ * {@code balance = balance + ?} update in the same transaction, so parallel
+ * credits never lose each other and the balance always equals the sum of
+ * the owner's entries.
+ */
+@Component
+public class WalletLedger {
+
+    private final WalletEntryRepository walletEntryRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+
+    public WalletLedger(WalletEntryRepository walletEntryRepository, UserRepository userRepository,
+            BookingRepository bookingRepository) {
+        this.walletEntryRepository = walletEntryRepository;
+        this.userRepository = userRepository;
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Converts euros to cents, rounding half up; null counts as zero.
+     */
+    public static long toCents(Double euros) {
+        return euros == null ? 0 : Math.round(euros * 100);
+    }
+
+    /**
+     * Adds money to the owner's wallet. Zero amounts are not recorded.
+     *
+     * @param bookingId booking that caused the credit, or null
+     */
+    @Transactional
+    public void credit(User owner, long amountCents, WalletEntryType type, UUID bookingId) {
+        if (amountCents < 0) {
+            throw new IllegalArgumentException("Credit must not be negative: " + amountCents);
+        }
+        if (amountCents == 0) {
+            return;
+        }
+        userRepository.addToWalletBalance(owner.getId(), amountCents);
+        append(owner, amountCents, type, bookingId);
+    }
+
+    /**
+     * Takes money out of the owner's wallet if the balance covers it, checked
+     * and applied in the same statement.
+     *
+     * @return false (and nothing recorded) if the balance was insufficient
+     */
+    @Transactional
+    public boolean debit(User owner, long amountCents, WalletEntryType type, UUID bookingId) {
+        if (amountCents <= 0) {
+            throw new IllegalArgumentException("Debit must be positive: " + amountCents);
+        }
+        if (userRepository.debitWalletBalance(owner.getId(), amountCents) == 0) {
+            return false;
+        }
+        append(owner, -amountCents, type, bookingId);
+        return true;
+    }
+
+    /**
+     * Returns the security deposits of the given (still approved) bookings to
+     * their renters: one ledger entry per booking, then every owner's balance
+     * moved once by the sum of their entries.
+     *
+     * @return number of owner wallets debited
+     */
+    @Transactional
+    public int releaseDeposits(Collection<UUID> bookingIds) {
+        List<HeldDeposit> deposits = bookingRepository.findHeldDeposits(bookingIds);
+        if (deposits.isEmpty()) {
+            return 0;
+        }
+        walletEntryRepository.saveAll(deposits.stream()
+                .map(deposit -> WalletEntry.builder()
+                        .owner(userRepository.getReferenceById(deposit.getOwnerId()))
+                        .amountCents(-toCents(deposit.getDepositAmount()))
+                        .type(WalletEntryType.DEPOSIT_RELEASE)
+                        .bookingId(deposit.getBookingId())
+                        .build())
+                .toList());
+        return userRepository.applyEntriesOfBookings(bookingIds, WalletEntryType.DEPOSIT_RELEASE);
+    }
+
+    /**
+     * Balance recomputed from the ledger, in cents.
+     */
+    @Transactional(readOnly = true)
+    public long ledgerBalance(UUID ownerId) {
+        return walletEntryRepository.sumAmountCentsByOwnerId(ownerId);
+    }
+
+    private void append(User owner, long amountCents, WalletEntryType type, UUID bookingId) {
+        walletEntryRepository.save(WalletEntry.builder()
+                .owner(owner)
+                .amountCents(amountCents)
+                .type(type)
+                .bookingId(bookingId)
+                .build());
+    }
+}
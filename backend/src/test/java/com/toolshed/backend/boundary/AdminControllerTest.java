@@ -1,10 +1,15 @@
 package com.toolshed.backend.boundary;
 
 import com.toolshed.backend.dto.AdminStatsDTO;
+import com.toolshed.backend.dto.AdminUserPage;
+import com.toolshed.backend.dto.AdminUserSummary;
 import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
 import com.toolshed.backend.service.AdminService;
+import com.toolshed.backend.service.AuthRateLimits;
+import com.toolshed.backend.service.EmailBloomFilter;
+import com.toolshed.backend.service.TokenBucketLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +24,7 @@ import java.util.UUID;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -58,21 +64,59 @@ class AdminControllerTest {
         }
 
         @Test
-        @DisplayName("Should return all users")
-        void getAllUsers() throws Exception {
-                User user = User.builder()
+        @DisplayName("Should return email Bloom filter metrics")
+        void getEmailFilterStats() throws Exception {
+                when(adminService.getEmailFilterStats())
+                                .thenReturn(new EmailBloomFilter.Stats(true, 1_920_000, 7, 0.001, 90, 12, 2, 0.0217));
+
+                mockMvc.perform(get("/api/admin/metrics/email-filter")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.ready").value(true))
+                                .andExpect(jsonPath("$.falsePositives").value(2))
+                                .andExpect(jsonPath("$.observedFalsePositiveRate").value(0.0217));
+        }
+
+        @Test
+        @DisplayName("Should return auth throttle counters")
+        void getAuthRateLimitStats() throws Exception {
+                when(adminService.getAuthRateLimitStats()).thenReturn(new AuthRateLimits.Stats(
+                                new TokenBucketLimiter.Stats(120, 7, 15, 0),
+                                new TokenBucketLimiter.Stats(100, 3, 40, 0)));
+
+                mockMvc.perform(get("/api/admin/metrics/auth-rate-limit")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.byIp.throttled").value(7))
+                                .andExpect(jsonPath("$.byEmail.keys").value(40));
+        }
+
+        @Test
+        @DisplayName("Should return a page of users with the next cursor in a header")
+        void getUsers() throws Exception {
+                AdminUserSummary user = AdminUserSummary.builder()
                                 .id(UUID.randomUUID())
                                 .email("test@example.com")
                                 .role(UserRole.RENTER)
                                 .status(UserStatus.ACTIVE)
                                 .build();
 
-                when(adminService.getAllUsers()).thenReturn(Collections.singletonList(user));
+                when(adminService.listUsers(UserStatus.ACTIVE, UserRole.RENTER, "te", null, 20))
+                                .thenReturn(AdminUserPage.builder()
+                                                .items(Collections.singletonList(user))
+                                                .nextCursor("next")
+                                                .build());
 
                 mockMvc.perform(get("/api/admin/users")
+                                .param("status", "ACTIVE")
+                                .param("role", "RENTER")
+                                .param("q", "te")
+                                .param("limit", "20")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$[0].email").value("test@example.com"));
+                                .andExpect(header().string(ToolController.NEXT_CURSOR_HEADER, "next"))
+                                .andExpect(jsonPath("$[0].email").value("test@example.com"))
+                                .andExpect(jsonPath("$[0].password").doesNotExist());
         }
 
         @Test
@@ -1,6 +1,7 @@
 package com.toolshed.backend.boundary;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -183,4 +184,26 @@ class AuthControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$").value(false));
         }
+
+        @Test
+        void testLogoutRevokesToken() throws Exception {
+                when(authService.logout("signed-token")).thenReturn(true);
+
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", "Bearer signed-token"))
+                                .andExpect(status().isNoContent());
+
+                verify(authService).logout("signed-token");
+        }
+
+        @Test
+        void testLogoutWithoutValidToken() throws Exception {
+                when(authService.logout("stale-token")).thenReturn(false);
+
+                mockMvc.perform(post("/api/auth/logout"))
+                                .andExpect(status().isUnauthorized());
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", "Bearer stale-token"))
+                                .andExpect(status().isUnauthorized());
+        }
 }
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,6 +27,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toolshed.backend.dto.CreateReportRequest;
+import com.toolshed.backend.dto.ReportPage;
 import com.toolshed.backend.dto.ReportResponse;
 import com.toolshed.backend.dto.UpdateReportStatusRequest;
 import com.toolshed.backend.repository.enums.ReportStatus;
@@ -79,16 +81,33 @@ class ReportControllerTest {
     }
 
     @Test
-    @DisplayName("GET /api/reports lists reports")
+    @DisplayName("GET /api/reports lists a page of the queue")
     void listReports() throws Exception {
         ReportResponse resp = sampleResponse();
-        when(reportService.getAllReports(null)).thenReturn(List.of(resp));
+        when(reportService.getQueue(null, null, null))
+                .thenReturn(ReportPage.builder().items(List.of(resp)).build());
 
         mockMvc.perform(get("/api/reports").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ToolController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$", hasSize(1)));
 
-        verify(reportService).getAllReports(null);
+        verify(reportService).getQueue(null, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/reports passes filters through and returns the next cursor in a header")
+    void listReportsNextPage() throws Exception {
+        when(reportService.getQueue(ReportStatus.OPEN, "abc", 10))
+                .thenReturn(ReportPage.builder().items(List.of(sampleResponse())).nextCursor("def").build());
+
+        mockMvc.perform(get("/api/reports")
+                .param("status", "OPEN")
+                .param("cursor", "abc")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ToolController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(jsonPath("$[0].reporterEmail", is("reporter@example.com")));
     }
 
     @Test
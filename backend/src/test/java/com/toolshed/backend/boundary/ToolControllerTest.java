@@ -20,19 +20,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toolshed.backend.dto.CreateToolInput;
+import com.toolshed.backend.dto.ToolPage;
 import com.toolshed.backend.dto.UpdateToolInput;
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.service.ToolCatalogExporter;
 import com.toolshed.backend.service.ToolService;
 
 @WebMvcTest(ToolController.class) //
@@ -47,6 +53,9 @@ class ToolControllerTest {
     @MockitoBean
     private ToolService toolService;
 
+    @MockitoBean
+    private ToolCatalogExporter catalogExporter;
+
     private Tool createSampleTool(String title) {
         Tool tool = new Tool();
         tool.setId(UUID.randomUUID());
@@ -69,6 +78,10 @@ class ToolControllerTest {
         return tool;
     }
 
+    private ToolPage page(List<Tool> items) {
+        return ToolPage.builder().items(items).build();
+    }
+
     @Test
     @DisplayName("Should pass both Keyword AND District to service")
     void testSearchWithKeywordAndDistrict() throws Exception {
@@ -78,7 +91,7 @@ class ToolControllerTest {
         Tool drill = createSampleTool("Porto Drill");
 
         // Mock the service to expect BOTH arguments
-        when(toolService.searchTools(keyword, district, null, null)).thenReturn(List.of(drill));
+        when(toolService.searchTools(keyword, district, null, null, null, null, null, null)).thenReturn(page(List.of(drill)));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -90,7 +103,7 @@ class ToolControllerTest {
                 .andExpect(jsonPath("$[0].title", is("Porto Drill")));
 
         // Verification: Ensure district was NOT null
-        verify(toolService, times(1)).searchTools(keyword, district, null, null);
+        verify(toolService, times(1)).searchTools(keyword, district, null, null, null, null, null, null);
     }
 
     @Test
@@ -123,7 +136,7 @@ class ToolControllerTest {
         // Arrange
         String keyword = "unicorn";
 
-        when(toolService.searchTools(keyword, null, null, null)).thenReturn(Collections.emptyList());
+        when(toolService.searchTools(keyword, null, null, null, null, null, null, null)).thenReturn(page(Collections.emptyList()));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -133,14 +146,14 @@ class ToolControllerTest {
                 .andExpect(content().json("[]"));
 
         // Verification
-        verify(toolService, times(1)).searchTools(keyword, null, null, null);
+        verify(toolService, times(1)).searchTools(keyword, null, null, null, null, null, null, null);
     }
 
     @Test
     @DisplayName("Should handle missing keyword parameter gracefully")
     void testSearchTools_MissingParameter_ReturnsEmptyArray() throws Exception {
         // Arrange
-        when(toolService.searchTools(null, null, null, null)).thenReturn(Collections.emptyList());
+        when(toolService.searchTools(null, null, null, null, null, null, null, null)).thenReturn(page(Collections.emptyList()));
 
         // Act & Assert
         // Calling endpoint with NO parameters
@@ -150,7 +163,7 @@ class ToolControllerTest {
                 .andExpect(content().json("[]"));
 
         // Verification: Ensure service called with nulls
-        verify(toolService, times(1)).searchTools(null, null, null, null);
+        verify(toolService, times(1)).searchTools(null, null, null, null, null, null, null, null);
     }
 
     @Test
@@ -200,21 +213,21 @@ class ToolControllerTest {
         Tool activeTool = createSampleTool("Active Saw");
         activeTool.setActive(true);
 
-        when(toolService.getActive()).thenReturn(List.of(activeTool));
+        when(toolService.getActive(null, null)).thenReturn(page(List.of(activeTool)));
 
         mockMvc.perform(get("/api/tools/active").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].title", is("Active Saw")));
 
-        verify(toolService).getActive();
+        verify(toolService).getActive(null, null);
     }
 
     @Test
     @DisplayName("Should return all tools")
     void testGetAllTools() throws Exception {
         Tool tool = createSampleTool("Any Tool");
-        when(toolService.getAll()).thenReturn(List.of(tool));
+        when(toolService.getAll(null, null)).thenReturn(page(List.of(tool)));
 
         mockMvc.perform(get("/api/tools")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -222,7 +235,7 @@ class ToolControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].title", is("Any Tool")));
 
-        verify(toolService).getAll();
+        verify(toolService).getAll(null, null);
     }
 
     @Test
@@ -284,7 +297,7 @@ class ToolControllerTest {
         Tool tool = createSampleTool("Budget Drill");
         tool.setPricePerDay(25.0);
 
-        when(toolService.searchTools(null, null, 10.0, 50.0)).thenReturn(List.of(tool));
+        when(toolService.searchTools(null, null, 10.0, 50.0, null, null, null, null)).thenReturn(page(List.of(tool)));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -296,7 +309,7 @@ class ToolControllerTest {
                 .andExpect(jsonPath("$[0].title", is("Budget Drill")))
                 .andExpect(jsonPath("$[0].pricePerDay", is(25.0)));
 
-        verify(toolService, times(1)).searchTools(null, null, 10.0, 50.0);
+        verify(toolService, times(1)).searchTools(null, null, 10.0, 50.0, null, null, null, null);
     }
 
     @Test
@@ -316,7 +329,7 @@ class ToolControllerTest {
         Tool tool = createSampleTool("Porto Drill");
         tool.setPricePerDay(30.0);
 
-        when(toolService.searchTools("drill", "Porto", 10.0, 50.0)).thenReturn(List.of(tool));
+        when(toolService.searchTools("drill", "Porto", 10.0, 50.0, null, null, null, null)).thenReturn(page(List.of(tool)));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -329,7 +342,7 @@ class ToolControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].title", is("Porto Drill")));
 
-        verify(toolService).searchTools("drill", "Porto", 10.0, 50.0);
+        verify(toolService).searchTools("drill", "Porto", 10.0, 50.0, null, null, null, null);
     }
 
     @Test
@@ -339,7 +352,7 @@ class ToolControllerTest {
         Tool tool = createSampleTool("Premium Hammer");
         tool.setPricePerDay(100.0);
 
-        when(toolService.searchTools(null, null, 50.0, null)).thenReturn(List.of(tool));
+        when(toolService.searchTools(null, null, 50.0, null, null, null, null, null)).thenReturn(page(List.of(tool)));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -348,7 +361,7 @@ class ToolControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
 
-        verify(toolService).searchTools(null, null, 50.0, null);
+        verify(toolService).searchTools(null, null, 50.0, null, null, null, null, null);
     }
 
     @Test
@@ -358,7 +371,7 @@ class ToolControllerTest {
         Tool tool = createSampleTool("Budget Saw");
         tool.setPricePerDay(15.0);
 
-        when(toolService.searchTools(null, null, null, 20.0)).thenReturn(List.of(tool));
+        when(toolService.searchTools(null, null, null, 20.0, null, null, null, null)).thenReturn(page(List.of(tool)));
 
         // Act & Assert
         mockMvc.perform(get("/api/tools/search")
@@ -367,7 +380,72 @@ class ToolControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
 
-        verify(toolService).searchTools(null, null, null, 20.0);
+        verify(toolService).searchTools(null, null, null, 20.0, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should forward cursor and limit and expose the next cursor as a header")
+    void testGetAllToolsPaged() throws Exception {
+        Tool tool = createSampleTool("Paged Tool");
+        when(toolService.getAll("abc", 1)).thenReturn(
+                ToolPage.builder().items(List.of(tool)).nextCursor("def").build());
+
+        mockMvc.perform(get("/api/tools")
+                .param("cursor", "abc")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ToolController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should omit the next cursor header on the last page")
+    void testSearchLastPageHasNoCursorHeader() throws Exception {
+        when(toolService.searchTools("drill", null, null, null, null, null, "abc", 10)).thenReturn(page(List.of()));
+
+        mockMvc.perform(get("/api/tools/search")
+                .param("keyword", "drill")
+                .param("cursor", "abc")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ToolController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should parse ISO startDate/endDate and pass them to the service")
+    void testSearchWithDateRange() throws Exception {
+        java.time.LocalDate start = java.time.LocalDate.of(2030, 6, 1);
+        java.time.LocalDate end = java.time.LocalDate.of(2030, 6, 5);
+        when(toolService.searchTools("drill", null, null, null, start, end, null, null))
+                .thenReturn(page(List.of(createSampleTool("Free Drill"))));
+
+        mockMvc.perform(get("/api/tools/search")
+                .param("keyword", "drill")
+                .param("startDate", "2030-06-01")
+                .param("endDate", "2030-06-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title", is("Free Drill")));
+
+        verify(toolService).searchTools("drill", null, null, null, start, end, null, null);
+    }
+
+    @Test
+    @DisplayName("Should stream the catalog export as NDJSON")
+    void testExportTools() throws Exception {
+        when(catalogExporter.writeNdjson(any())).thenAnswer(invocation -> {
+            java.io.OutputStream out = invocation.getArgument(0);
+            out.write("{\"title\":\"A\"}\n{\"title\":\"B\"}\n".getBytes());
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/tools/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"title\":\"A\"}\n{\"title\":\"B\"}\n"));
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.toolshed.backend.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.service.AuthRateLimits;
+
+import jakarta.servlet.ServletException;
+
+class AuthRateLimitFilterTest {
+
+    private AuthRateLimits rateLimits;
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 3 attempts per IP, 2 per email, no meaningful refill during the test
+        rateLimits = new AuthRateLimits(3, 0.001, 2, 0.001, 100);
+        filter = new AuthRateLimitFilter(rateLimits, new ObjectMapper());
+    }
+
+    private boolean reachedController;
+
+    private MockHttpServletResponse login(String ip, String email) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"x\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        reachedController = chain.getRequest() != null;
+        if (reachedController) {
+            // The controller must still see the whole body
+            assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                    .contains(email);
+        }
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should throttle repeated logins for one email across IPs")
+    void testThrottlesEmail() throws ServletException, IOException {
+        assertThat(login("10.0.0.1", "victim@example.com").getStatus()).isEqualTo(200);
+        assertThat(login("10.0.0.2", "Victim@Example.com").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse throttled = login("10.0.0.3", "victim@example.com");
+
+        assertThat(throttled.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(throttled.getHeader(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(reachedController).isFalse();
+        assertThat(login("10.0.0.3", "other@example.com").getStatus()).isEqualTo(200);
+        assertThat(rateLimits.stats().byEmail().throttled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should throttle one IP trying many emails")
+    void testThrottlesIp() throws ServletException, IOException {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("10.0.0.1", "user" + i + "@example.com").getStatus()).isEqualTo(200);
+        }
+
+        assertThat(login("10.0.0.1", "user9@example.com").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rateLimits.stats().byIp().throttled()).isEqualTo(1);
+        assertThat(rateLimits.stats().byEmail().allowed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should limit registration by IP only and ignore other endpoints")
+    void testOtherPaths() throws ServletException, IOException {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest check = new MockHttpServletRequest("GET", "/api/auth/check-email");
+            check.setRemoteAddr("10.0.0.1");
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(check, new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isSameAs(check);
+        }
+
+        int[] statuses = new int[4];
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletRequest register = new MockHttpServletRequest("POST", "/api/auth/register");
+            register.setRemoteAddr("10.0.0.1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(register, response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+
+        assertThat(statuses).containsExactly(200, 200, 200, 429);
+        assertThat(rateLimits.stats().byEmail().keys()).isZero();
+    }
+}
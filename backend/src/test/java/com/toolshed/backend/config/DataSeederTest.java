@@ -1,8 +1,12 @@
 package com.toolshed.backend.config;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +25,9 @@ import com.toolshed.backend.repository.entities.Booking;
 import com.toolshed.backend.repository.entities.Review;
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+import com.toolshed.backend.service.PasswordHasher;
+import com.toolshed.backend.service.WalletLedger;
 
 @ExtendWith(MockitoExtension.class)
 class DataSeederTest {
@@ -37,6 +44,12 @@ class DataSeederTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private WalletLedger walletLedger;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
     @InjectMocks
     private DataSeeder dataSeeder;
 
@@ -45,6 +58,7 @@ class DataSeederTest {
     void run_emptyDatabase_populatesData() throws Exception {
         // Arrange
         when(userRepository.count()).thenReturn(0L);
+        when(passwordHasher.hash("password")).thenReturn("pbkdf2$hashed");
 
         // Mock save calls to return the entity (stubbing basic behavior)
         when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
@@ -73,6 +87,14 @@ class DataSeederTest {
 
         // 15 Bookings
         verify(bookingRepository, atLeastOnce()).save(any(Booking.class));
+
+        // Renter opening balances go through the ledger, one entry each
+        verify(walletLedger, times(3)).credit(any(User.class), eq(100_000L), eq(WalletEntryType.OPENING_BALANCE),
+                isNull());
+
+        // Demo accounts are stored with a hashed password, never the plaintext
+        verify(userRepository, never()).save(argThat(user -> "password".equals(user.getPassword())));
+        verify(passwordHasher).hash("password");
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.toolshed.backend.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.service.SessionTokens;
+import com.toolshed.backend.service.TokenDenyList;
+
+import jakarta.servlet.ServletException;
+
+class SessionTokenFilterTest {
+
+    private SessionTokens sessionTokens;
+    private SessionTokenFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        sessionTokens = new SessionTokens("", Duration.ofHours(1), new TokenDenyList(100));
+        filter = new SessionTokenFilter(sessionTokens);
+        request = new MockHttpServletRequest("GET", "/api/bookings");
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("Should let requests without a bearer token through")
+    void testNoToken() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(request.getAttribute(SessionTokenFilter.SESSION_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expose the session of a valid token")
+    void testValidToken() throws ServletException, IOException {
+        User user = User.builder().id(UUID.randomUUID()).role(UserRole.RENTER).build();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + sessionTokens.issue(user));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        SessionTokens.Session session =
+                (SessionTokens.Session) request.getAttribute(SessionTokenFilter.SESSION_ATTRIBUTE);
+        assertThat(session.userId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer 401 to an invalid token")
+    void testInvalidToken() throws ServletException, IOException {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + UUID.randomUUID());
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read the bearer token case-insensitively")
+    void testBearerToken() {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "bearer abc ");
+
+        assertThat(SessionTokenFilter.bearerToken(request)).isEqualTo("abc");
+    }
+}
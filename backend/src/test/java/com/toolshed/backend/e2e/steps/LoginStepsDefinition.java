@@ -71,7 +71,6 @@ public class LoginStepsDefinition {
                     .role(UserRole.RENTER)
                     .status(status)
                     .reputationScore(5.0)
-                    .walletBalance(0.0)
                     .build();
             userRepository.save(user);
         }
@@ -209,7 +208,6 @@ public class LoginStepsDefinition {
                             .role(UserRole.RENTER)
                             .status(userStatus)
                             .reputationScore(5.0)
-                            .walletBalance(0.0)
                             .build();
                     userRepository.save(user);
                 });
@@ -47,7 +47,6 @@ public class RegistrationStepsDefinition {
                     .role(UserRole.RENTER)
                     .status(UserStatus.ACTIVE)
                     .reputationScore(5.0)
-                    .walletBalance(0.0)
                     .build();
             userRepository.save(user);
         }
@@ -12,7 +12,9 @@ import com.toolshed.backend.repository.enums.BookingStatus;
 import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import com.toolshed.backend.service.BookingService;
+import com.toolshed.backend.service.WalletLedger;
 
 import io.cucumber.java.Before;
 import io.cucumber.java.en.And;
@@ -44,6 +46,9 @@ public class BookingRefundSteps {
     @Autowired
     private PayoutRepository payoutRepository;
 
+    @Autowired
+    private WalletLedger walletLedger;
+
     private User renter;
     private User owner;
     private User otherRenter;
@@ -71,7 +76,6 @@ public class BookingRefundSteps {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .password("password123")
-                .walletBalance(0.0)
                 .reputationScore(0.0)
                 .build();
         renter = userRepository.save(renter);
@@ -86,10 +90,10 @@ public class BookingRefundSteps {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .password("password123")
-                .walletBalance(walletBalance)
                 .reputationScore(0.0)
                 .build();
         owner = userRepository.save(owner);
+        walletLedger.credit(owner, Math.round(walletBalance * 100), WalletEntryType.OPENING_BALANCE, null);
     }
 
     @Given("a tool {string} owned by the owner priced at {double} per day")
@@ -145,7 +149,6 @@ public class BookingRefundSteps {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .password("password123")
-                .walletBalance(0.0)
                 .reputationScore(0.0)
                 .build();
         otherRenter = userRepository.save(otherRenter);
@@ -65,7 +65,6 @@ public class OwnerEarningsSteps {
                 .role(UserRole.valueOf(role))
                 .status(UserStatus.ACTIVE)
                 .reputationScore(5.0)
-                .walletBalance(0.0)
                 .build();
         owner = userRepository.save(owner);
     }
@@ -126,7 +125,6 @@ public class OwnerEarningsSteps {
                             .role(UserRole.RENTER)
                             .password("pass")
                             .reputationScore(5.0)
-                            .walletBalance(0.0)
                             .build()));
             booking.setRenter(renter);
 
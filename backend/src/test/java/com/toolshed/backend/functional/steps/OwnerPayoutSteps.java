@@ -15,9 +15,11 @@ import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.PayoutStatus;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import com.toolshed.backend.service.PaymentService;
 import com.toolshed.backend.service.PaymentServiceImpl.InsufficientBalanceException;
 import com.toolshed.backend.service.PaymentServiceImpl.InvalidPayoutException;
+import com.toolshed.backend.service.WalletLedger;
 
 import io.cucumber.java.Before;
 import io.cucumber.java.en.And;
@@ -51,6 +53,9 @@ public class OwnerPayoutSteps {
     @Autowired
     private PayoutRepository payoutRepository;
 
+    @Autowired
+    private WalletLedger walletLedger;
+
     private User owner;
     private User renter;
     private Tool tool;
@@ -82,15 +87,16 @@ public class OwnerPayoutSteps {
                 .password("password123")
                 .role(UserRole.valueOf(role))
                 .status(UserStatus.ACTIVE)
-                .walletBalance(0.0)
                 .reputationScore(5.0)
                 .build());
     }
 
     @And("the owner has wallet balance of {double} euros")
     public void theOwnerHasWalletBalanceOfEuros(double balance) {
-        owner.setWalletBalance(balance);
-        owner = userRepository.save(owner);
+        // The balance column is only moved by the ledger
+        walletLedger.credit(owner, WalletLedger.toCents(balance) - owner.getWalletBalanceCents(),
+                WalletEntryType.ADJUSTMENT, null);
+        owner = userRepository.findById(owner.getId()).orElseThrow();
     }
 
     @When("the owner requests their wallet information")
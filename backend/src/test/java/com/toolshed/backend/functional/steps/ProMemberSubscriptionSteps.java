@@ -15,10 +15,12 @@ import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.SubscriptionTier;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import com.toolshed.backend.service.BookingService;
 import com.toolshed.backend.service.SubscriptionService;
 import com.toolshed.backend.service.SubscriptionServiceImpl;
 import com.toolshed.backend.service.SubscriptionException;
+import com.toolshed.backend.service.WalletLedger;
 
 import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
@@ -48,6 +50,9 @@ public class ProMemberSubscriptionSteps {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private WalletLedger walletLedger;
+
     private User renter;
     private User toolOwner;
     private Tool tool;
@@ -73,10 +78,10 @@ public class ProMemberSubscriptionSteps {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .reputationScore(4.0)
-                .walletBalance(1000.0)
                 .subscriptionTier(SubscriptionTier.FREE)
                 .build();
         renter = userRepository.save(renter);
+        walletLedger.credit(renter, 100_000, WalletEntryType.OPENING_BALANCE, null);
 
         // Also create a tool owner for booking tests
         toolOwner = User.builder()
@@ -87,10 +92,10 @@ public class ProMemberSubscriptionSteps {
                 .role(UserRole.SUPPLIER)
                 .status(UserStatus.ACTIVE)
                 .reputationScore(5.0)
-                .walletBalance(500.0)
                 .subscriptionTier(SubscriptionTier.FREE)
                 .build();
         toolOwner = userRepository.save(toolOwner);
+        walletLedger.credit(toolOwner, 50_000, WalletEntryType.OPENING_BALANCE, null);
     }
 
     @Given("I have an active Pro subscription")
@@ -50,7 +50,6 @@ public class ToolImageSteps {
                     .role(UserRole.SUPPLIER)
                     .status(UserStatus.ACTIVE)
                     .reputationScore(5.0)
-                    .walletBalance(0.0)
                     .build();
             userRepository.save(user);
         }
@@ -0,0 +1,154 @@
+package com.toolshed.backend.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.toolshed.backend.dto.AdminStatsDTO;
+import com.toolshed.backend.dto.DailyMetricsResponse;
+import com.toolshed.backend.repository.AdminMetricsRepository;
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.entities.AdminMetrics;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.service.AdminCounters;
+import com.toolshed.backend.service.AdminMetricsSnapshots;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Admin metrics Integration Tests")
+class AdminMetricsIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private AdminMetricsRepository adminMetricsRepository;
+
+    @Autowired
+    private AdminCounters adminCounters;
+
+    @Autowired
+    private AdminMetricsSnapshots adminMetricsSnapshots;
+
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/admin";
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        toolRepository.deleteAll();
+        userRepository.deleteAll();
+        adminMetricsRepository.deleteAll();
+        // Other test contexts share the database but not these counters
+        adminCounters.reconcile();
+    }
+
+    private User createUser(String email, UserStatus status) {
+        return userRepository.save(User.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email(email)
+                .password("password")
+                .role(UserRole.RENTER)
+                .status(status)
+                .reputationScore(0.0)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should keep dashboard stats current through saves and status changes")
+    void shouldTrackTransitions() {
+        createUser("a@test.com", UserStatus.ACTIVE);
+        User b = createUser("b@test.com", UserStatus.ACTIVE);
+        restTemplate.postForEntity(baseUrl + "/users/" + b.getId() + "/deactivate", null, User.class);
+
+        ResponseEntity<AdminStatsDTO> response = restTemplate.getForEntity(baseUrl + "/stats", AdminStatsDTO.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTotalUsers()).isEqualTo(2);
+        assertThat(response.getBody().getActiveUsers()).isEqualTo(1);
+        assertThat(response.getBody().getInactiveUsers()).isEqualTo(1);
+
+        // Reconciliation agrees with what the listener tracked
+        adminCounters.reconcile();
+        assertThat(adminCounters.users(UserStatus.ACTIVE)).isEqualTo(1);
+        assertThat(adminCounters.users(UserStatus.SUSPENDED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve stored snapshots as a daily series")
+    void shouldServeSnapshots() {
+        createUser("a@test.com", UserStatus.ACTIVE);
+        LocalDate day = LocalDate.of(2025, 1, 15);
+        adminMetricsSnapshots.snapshot(day.minusDays(1));
+        createUser("b@test.com", UserStatus.ACTIVE);
+        adminMetricsSnapshots.snapshot(day);
+        // Re-running a day replaces its row
+        adminMetricsSnapshots.snapshot(day);
+
+        ResponseEntity<DailyMetricsResponse[]> response = restTemplate.getForEntity(
+                baseUrl + "/metrics/daily?from=" + day.minusDays(7) + "&to=" + day, DailyMetricsResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(DailyMetricsResponse::getDate)
+                .containsExactly(day.minusDays(1), day);
+        assertThat(response.getBody()).extracting(DailyMetricsResponse::getActiveUsers)
+                .containsExactly(1L, 2L);
+        assertThat(response.getBody()[1].getUsersByStatus()).containsEntry("ACTIVE", 2L);
+    }
+
+    @Test
+    @DisplayName("Should allow a single row per day")
+    void shouldRejectSecondRowForDay() {
+        LocalDate day = LocalDate.of(2025, 1, 15);
+        adminMetricsSnapshots.snapshot(day);
+        AdminMetrics duplicate = AdminMetrics.builder().date(day).build();
+
+        assertThatThrownBy(() -> adminMetricsRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(adminMetricsRepository.findByDate(day)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range")
+    void shouldRejectInvertedRange() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                baseUrl + "/metrics/daily?from=2025-02-01&to=2025-01-01", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -407,4 +408,44 @@ class AuthControllerLoginIT {
             assertThat(response.getBody()).contains("Invalid credentials");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Session Token Tests")
+    class SessionTokenTests {
+
+        private ResponseEntity<String> checkEmail(String token) {
+            HttpHeaders authHeaders = new HttpHeaders();
+            authHeaders.setBearerAuth(token);
+            return restTemplate.exchange("http://localhost:" + port + "/api/auth/check-email?email=x@test.com",
+                    HttpMethod.GET, new HttpEntity<>(authHeaders), String.class);
+        }
+
+        @Test
+        @DisplayName("Should accept the login token until logout")
+        void shouldAcceptLoginTokenUntilLogout() {
+            createTestUser("session@test.com", "password123", UserStatus.ACTIVE, UserRole.RENTER);
+            LoginRequest loginRequest = LoginRequest.builder()
+                    .email("session@test.com")
+                    .password("password123")
+                    .build();
+            String token = restTemplate.postForEntity(baseUrl, new HttpEntity<>(loginRequest, headers),
+                    LoginResponse.class).getBody().getToken();
+
+            assertThat(checkEmail(token).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            HttpHeaders authHeaders = new HttpHeaders();
+            authHeaders.setBearerAuth(token);
+            ResponseEntity<Void> logout = restTemplate.postForEntity("http://localhost:" + port + "/api/auth/logout",
+                    new HttpEntity<>(authHeaders), Void.class);
+            assertThat(logout.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+            assertThat(checkEmail(token).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @Test
+        @DisplayName("Should reject a forged token")
+        void shouldRejectForgedToken() {
+            assertThat(checkEmail("AQ.forged").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+}
@@ -429,7 +429,7 @@ class AuthControllerRegisterIT {
             assertThat(user.getFirstName()).isEqualTo("Alice");
             assertThat(user.getLastName()).isEqualTo("Johnson");
             assertThat(user.getEmail()).isEqualTo("alice.johnson@company.com");
-            assertThat(user.getPassword()).isEqualTo("mySecretPassword");
+            assertThat(user.getPassword()).isNotEqualTo("mySecretPassword").startsWith("pbkdf2$");
             assertThat(user.getRole()).isEqualTo(UserRole.SUPPLIER);
         }
 
@@ -514,7 +514,7 @@ class AuthControllerRegisterIT {
             // Assert
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
-            assertThat(response.getBody().getPassword()).isEqualTo(specialPassword);
+            assertThat(response.getBody().getPassword()).isNotEqualTo(specialPassword).startsWith("pbkdf2$");
         }
 
         @Test
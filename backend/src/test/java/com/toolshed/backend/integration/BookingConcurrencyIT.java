@@ -0,0 +1,174 @@
+package com.toolshed.backend.integration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.toolshed.backend.dto.CreateBookingRequest;
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.PayoutRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.service.BookingService;
+
+/**
+ * Stress test for {@link com.toolshed.backend.service.BookingAdmission}: fires
+ * hundreds of overlapping booking requests at a handful of tools in parallel
+ * and checks that no two surviving bookings of a tool overlap.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingConcurrencyIT {
+
+    private static final int TOOLS = 4;
+    private static final int REQUESTS = 400;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PayoutRepository payoutRepository;
+
+    private User renter;
+    private List<Tool> tools;
+
+    @BeforeEach
+    void setUp() {
+        payoutRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        toolRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User owner = userRepository.save(user("owner@example.com", UserRole.SUPPLIER));
+        renter = userRepository.save(user("renter@example.com", UserRole.RENTER));
+
+        tools = new ArrayList<>();
+        for (int i = 0; i < TOOLS; i++) {
+            tools.add(toolRepository.save(Tool.builder()
+                    .title("Contended Tool " + i)
+                    .description("Desc")
+                    .pricePerDay(10.0)
+                    .district("Aveiro")
+                    .owner(owner)
+                    .active(true)
+                    .overallRating(0.0)
+                    .numRatings(0)
+                    .build()));
+        }
+    }
+
+    private User user(String email, UserRole role) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setReputationScore(5.0);
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+
+    @Test
+    void testParallelBookingsNeverOverlap() throws Exception {
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        List<CreateBookingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            LocalDate start = firstDay.plusDays(random.nextInt(60));
+            requests.add(CreateBookingRequest.builder()
+                    .toolId(tools.get(random.nextInt(TOOLS)).getId())
+                    .renterId(renter.getId())
+                    .startDate(start)
+                    .endDate(start.plusDays(random.nextInt(5)))
+                    .build());
+        }
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (CreateBookingRequest request : requests) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    try {
+                        bookingService.createBooking(request);
+                        accepted.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accepted.get() + conflicts.get()).isEqualTo(REQUESTS);
+        assertThat(accepted.get()).isPositive();
+        assertThat(conflicts.get()).isPositive();
+        assertThat(bookingRepository.count()).isEqualTo(accepted.get());
+
+        for (Tool tool : tools) {
+            List<Booking> bookings = bookingRepository.findByToolId(tool.getId()).stream()
+                    .filter(b -> b.getStatus() != BookingStatus.CANCELLED && b.getStatus() != BookingStatus.REJECTED)
+                    .toList();
+            for (int i = 0; i < bookings.size(); i++) {
+                for (int j = i + 1; j < bookings.size(); j++) {
+                    Booking a = bookings.get(i);
+                    Booking b = bookings.get(j);
+                    boolean overlaps = !a.getStartDate().isAfter(b.getEndDate())
+                            && !b.getStartDate().isAfter(a.getEndDate());
+                    assertThat(overlaps)
+                            .as("bookings %s and %s of tool %s overlap", a.getId(), b.getId(), tool.getId())
+                            .isFalse();
+                }
+            }
+        }
+    }
+}
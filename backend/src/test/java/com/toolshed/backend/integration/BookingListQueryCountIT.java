@@ -0,0 +1,185 @@
+package com.toolshed.backend.integration;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.toolshed.backend.dto.BookingResponse;
+import com.toolshed.backend.dto.OwnerBookingResponse;
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.PayoutRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.Review;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.ConditionStatus;
+import com.toolshed.backend.repository.enums.PaymentStatus;
+import com.toolshed.backend.repository.enums.ReviewType;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.service.BookingService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Booking lists must cost the same number of SQL statements whatever their
+ * length (no per-booking user, tool or review lookups).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BookingListQueryCountIT {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PayoutRepository payoutRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User renter;
+
+    @BeforeEach
+    void setUp() {
+        payoutRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        toolRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(user("Olivia", "owner@example.com", UserRole.SUPPLIER));
+        renter = userRepository.save(user("Rui", "renter@example.com", UserRole.RENTER));
+    }
+
+    private User user(String firstName, String email, UserRole role) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName("Silva");
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setReputationScore(5.0);
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+
+    /**
+     * Adds bookings on distinct tools, each with a condition report and all
+     * three kinds of review, so every lazy association is exercised.
+     */
+    private void addBookings(int count) {
+        for (int i = 0; i < count; i++) {
+            Tool tool = toolRepository.save(Tool.builder()
+                    .title("Tool " + i).description("Desc").pricePerDay(10.0).district("Aveiro")
+                    .owner(owner).active(true).overallRating(0.0).numRatings(0).build());
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .tool(tool).owner(owner).renter(renter)
+                    .startDate(LocalDate.now().minusDays(10 + i)).endDate(LocalDate.now().minusDays(9 + i))
+                    .status(BookingStatus.COMPLETED).paymentStatus(PaymentStatus.COMPLETED).totalPrice(20.0)
+                    .conditionStatus(ConditionStatus.OK).conditionReportedBy(renter)
+                    .build());
+            for (ReviewType type : ReviewType.values()) {
+                User reviewer = type == ReviewType.OWNER_TO_RENTER ? owner : renter;
+                reviewRepository.save(Review.builder()
+                        .booking(booking).reviewer(reviewer).owner(owner).tool(tool)
+                        .type(type).rating(5).comment("Great").build());
+            }
+        }
+    }
+
+    private long countStatements(Supplier<List<?>> listing, int expectedSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<?> result = listing.get();
+        assertThat(result).hasSize(expectedSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assertConstantQueries(Supplier<List<?>> listing) {
+        long small = countStatements(listing, 3);
+        addBookings(27);
+        long large = countStatements(listing, 30);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(small).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void testRenterBookingsUseConstantQueries() {
+        addBookings(3);
+
+        assertConstantQueries(() -> bookingService.getBookingsForRenter(renter.getId()));
+
+        BookingResponse response = bookingService.getBookingsForRenter(renter.getId()).getFirst();
+        assertThat(response.getOwnerName()).isEqualTo("Olivia Silva");
+        assertThat(response.getConditionReportedByName()).isEqualTo("Rui Silva");
+        assertThat(response.getToolTitle()).startsWith("Tool ");
+        assertThat(response.getReview().getReviewerName()).isEqualTo("Rui Silva");
+        assertThat(response.getOwnerReview().getReviewerName()).isEqualTo("Olivia Silva");
+        assertThat(response.getToolReview()).isNotNull();
+    }
+
+    @Test
+    void testOwnerBookingsUseConstantQueries() {
+        addBookings(3);
+
+        assertConstantQueries(() -> bookingService.getBookingsForOwner(owner.getId()));
+
+        OwnerBookingResponse response = bookingService.getBookingsForOwner(owner.getId()).getFirst();
+        assertThat(response.getRenterName()).isEqualTo("Rui Silva");
+        assertThat(response.getConditionReportedByName()).isEqualTo("Rui Silva");
+        assertThat(response.getOwnerReview().getReviewerName()).isEqualTo("Olivia Silva");
+    }
+
+    @Test
+    void testToolBookingsUseConstantQueries() {
+        addBookings(1);
+        Tool tool = toolRepository.findAll().getFirst();
+        for (int i = 0; i < 2; i++) {
+            bookingRepository.save(Booking.builder()
+                    .tool(tool).owner(owner).renter(renter)
+                    .startDate(LocalDate.now().plusDays(10 * (i + 1))).endDate(LocalDate.now().plusDays(10 * (i + 1)))
+                    .status(BookingStatus.PENDING).paymentStatus(PaymentStatus.PENDING).totalPrice(10.0)
+                    .build());
+        }
+        long small = countStatements(() -> bookingService.getBookingsForTool(tool.getId()), 3);
+
+        for (int i = 2; i < 30; i++) {
+            bookingRepository.save(Booking.builder()
+                    .tool(tool).owner(owner).renter(renter)
+                    .startDate(LocalDate.now().plusDays(10 * (i + 1))).endDate(LocalDate.now().plusDays(10 * (i + 1)))
+                    .status(BookingStatus.PENDING).paymentStatus(PaymentStatus.PENDING).totalPrice(10.0)
+                    .build());
+        }
+        long large = countStatements(() -> bookingService.getBookingsForTool(tool.getId()), 31);
+
+        assertThat(large).isEqualTo(small);
+    }
+}
@@ -0,0 +1,48 @@
+package com.toolshed.backend.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The Prometheus scrape must carry per-handler request histograms, the
+ * Hikari pool gauges, the service timers and the auth throttle and email
+ * filter counters.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.application.name=toolshed",
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "management.metrics.tags.application=${spring.application.name}",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.toolshed=true"
+})
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void prometheusScrapeExposesRequestAndServiceMetrics() {
+        assertThat(restTemplate.getForEntity("/api/tools/search?keyword=drill", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*handler=\"ToolController#searchTools\"")
+                .containsPattern("toolshed_tool_search_seconds_bucket\\{[^}]*outcome=\"success\"")
+                .contains("hikaricp_connections_active")
+                .containsPattern("toolshed_auth_rate_limit_requests_total\\{[^}]*limit=\"ip\"")
+                .contains("toolshed_email_filter_lookups_total")
+                .contains("application=\"toolshed\"");
+    }
+}
@@ -25,6 +25,7 @@ import com.toolshed.backend.repository.enums.BookingStatus;
 import com.toolshed.backend.repository.enums.ReviewType;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.service.ReviewService;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -45,6 +46,9 @@ class ReviewIT {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewService reviewService;
+
     private User renter;
     private User owner;
     private Tool tool;
@@ -223,4 +227,37 @@ class ReviewIT {
         User updatedOwner = userRepository.findById(owner.getId()).orElseThrow();
         assertThat(updatedOwner.getReputationScore()).isEqualTo(1.0);
     }
+
+    @Test
+    void updateReview_movesRunningAggregatesByTheDelta() {
+        ReviewResponse toolReview = restTemplate.postForEntity("/api/reviews",
+                new CreateReviewRequest(booking.getId(), ReviewType.RENTER_TO_TOOL, 5, "Great tool"),
+                ReviewResponse.class).getBody();
+        restTemplate.postForEntity("/api/reviews",
+                new CreateReviewRequest(booking.getId(), ReviewType.RENTER_TO_OWNER, 2, "Late handover"),
+                ReviewResponse.class);
+
+        // Both reviews target the owner: (5 + 2) / 2
+        User updatedOwner = userRepository.findById(owner.getId()).orElseThrow();
+        assertThat(updatedOwner.getReputationCount()).isEqualTo(2);
+        assertThat(updatedOwner.getReputationScore()).isEqualTo(3.5);
+
+        assertThat(toolReview).isNotNull();
+        restTemplate.put("/api/reviews/" + toolReview.getId(),
+                new CreateReviewRequest(booking.getId(), ReviewType.RENTER_TO_TOOL, 3, "Decent tool"));
+
+        Tool updatedTool = toolRepository.findById(tool.getId()).orElseThrow();
+        assertThat(updatedTool.getNumRatings()).isEqualTo(1);
+        assertThat(updatedTool.getRatingSum()).isEqualTo(3);
+        assertThat(updatedTool.getOverallRating()).isEqualTo(3.0);
+        updatedOwner = userRepository.findById(owner.getId()).orElseThrow();
+        assertThat(updatedOwner.getReputationCount()).isEqualTo(2);
+        assertThat(updatedOwner.getReputationSum()).isEqualTo(5);
+        assertThat(updatedOwner.getReputationScore()).isEqualTo(2.5);
+
+        // A full rebuild from the reviews agrees with the running sums
+        reviewService.recalculateAllReputations();
+        assertThat(userRepository.findById(owner.getId()).orElseThrow().getReputationScore()).isEqualTo(2.5);
+        assertThat(toolRepository.findById(tool.getId()).orElseThrow().getOverallRating()).isEqualTo(3.0);
+    }
 }
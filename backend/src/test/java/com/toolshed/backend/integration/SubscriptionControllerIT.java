@@ -69,7 +69,6 @@ class SubscriptionControllerIT {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .reputationScore(4.5)
-                .walletBalance(0.0)
                 .subscriptionTier(SubscriptionTier.FREE)
                 .build();
         freeUser = userRepository.save(freeUser);
@@ -82,7 +81,6 @@ class SubscriptionControllerIT {
                 .role(UserRole.RENTER)
                 .status(UserStatus.ACTIVE)
                 .reputationScore(5.0)
-                .walletBalance(100.0)
                 .subscriptionTier(SubscriptionTier.PRO)
                 .subscriptionStart(LocalDateTime.now().minusDays(15))
                 .subscriptionEnd(LocalDateTime.now().plusDays(15))
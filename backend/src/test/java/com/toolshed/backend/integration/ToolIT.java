@@ -1,5 +1,7 @@
 package com.toolshed.backend.integration;
 
+import java.time.LocalDate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -20,8 +23,10 @@ import com.toolshed.backend.repository.PayoutRepository;
 import com.toolshed.backend.repository.ReviewRepository;
 import com.toolshed.backend.repository.ToolRepository;
 import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.entities.Booking;
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.BookingStatus;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
 
@@ -133,6 +138,35 @@ class ToolIT {
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody()[0].getTitle()).isEqualTo("Hammer");
     }
+    @Test
+    void testSearchToolsByAvailability() {
+        Tool booked = toolRepository.save(Tool.builder()
+                .title("Booked Ladder").description("Tall").pricePerDay(5.0).district("Lisboa")
+                .owner(supplier).active(true).overallRating(0.0).numRatings(0).build());
+        Tool free = toolRepository.save(Tool.builder()
+                .title("Free Ladder").description("Short").pricePerDay(5.0).district("Lisboa")
+                .owner(supplier).active(true).overallRating(0.0).numRatings(0).build());
+
+        LocalDate start = LocalDate.now().plusDays(7);
+        Booking booking = bookingRepository.save(Booking.builder()
+                .tool(booked).renter(supplier).owner(supplier)
+                .startDate(start.plusDays(1)).endDate(start.plusDays(3))
+                .status(BookingStatus.PENDING).build());
+
+        String url = "http://localhost:" + port + "/api/tools/search?keyword=ladder&startDate=" + start
+                + "&endDate=" + start.plusDays(1);
+        ResponseEntity<Tool[]> response = restTemplate.getForEntity(url, Tool[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(Tool::getId).containsExactly(free.getId());
+
+        // Cancelling the booking frees the dates again
+        booking.setStatus(BookingStatus.CANCELLED);
+        bookingRepository.save(booking);
+        response = restTemplate.getForEntity(url, Tool[].class);
+        assertThat(response.getBody()).extracting(Tool::getId)
+                .containsExactlyInAnyOrder(booked.getId(), free.getId());
+    }
 
     @Test
     void testUpdateTool() {
@@ -184,4 +218,29 @@ class ToolIT {
 
         assertThat(toolRepository.existsById(tool.getId())).isFalse();
     }
+
+    @Test
+    void testExportToolsAsNdjson() {
+        for (int i = 0; i < 3; i++) {
+            toolRepository.save(Tool.builder()
+                    .title("Export Tool " + i)
+                    .description("Desc")
+                    .pricePerDay(10.0)
+                    .district("Porto")
+                    .owner(supplier)
+                    .active(i % 2 == 0)
+                    .overallRating(0.0)
+                    .numRatings(0)
+                    .build());
+        }
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/tools/export", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{").contains("\"title\":\"Export Tool "));
+    }
 }
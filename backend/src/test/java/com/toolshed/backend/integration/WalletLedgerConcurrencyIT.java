@@ -0,0 +1,198 @@
+package com.toolshed.backend.integration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.PayoutRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.WalletEntryRepository;
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.PaymentStatus;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+import com.toolshed.backend.service.PaymentService;
+import com.toolshed.backend.service.PaymentServiceImpl.InsufficientBalanceException;
+import com.toolshed.backend.service.WalletLedger;
+
+/**
+ * Stress test for {@link WalletLedger}: many payments credit the same owner
+ * in parallel, then many payouts race to drain the wallet. No movement may be
+ * lost and the balance must always match the sum of the ledger entries.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WalletLedgerConcurrencyIT {
+
+    private static final int PAYMENTS = 400;
+    private static final int PAYOUTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private WalletLedger walletLedger;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PayoutRepository payoutRepository;
+
+    @Autowired
+    private WalletEntryRepository walletEntryRepository;
+
+    private User owner;
+    private User renter;
+    private Tool tool;
+
+    @BeforeEach
+    void setUp() {
+        payoutRepository.deleteAll();
+        walletEntryRepository.deleteAll();
+        reviewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        toolRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(user("owner@example.com", UserRole.SUPPLIER));
+        renter = userRepository.save(user("renter@example.com", UserRole.RENTER));
+        tool = toolRepository.save(Tool.builder()
+                .title("Busy Tool")
+                .description("Desc")
+                .pricePerDay(10.0)
+                .district("Aveiro")
+                .owner(owner)
+                .active(true)
+                .overallRating(0.0)
+                .numRatings(0)
+                .build());
+    }
+
+    private User user(String email, UserRole role) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setReputationScore(5.0);
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+
+    private long balanceCents() {
+        return userRepository.findById(owner.getId()).orElseThrow().getWalletBalanceCents();
+    }
+
+    @Test
+    void testParallelCreditsAreNeverLost() throws Exception {
+        List<Booking> bookings = new ArrayList<>();
+        long expectedCents = 0;
+        for (int i = 0; i < PAYMENTS; i++) {
+            // Prices with odd cents catch rounding drift as well as lost updates
+            double price = 10 + i * 0.37;
+            double deposit = i % 3 == 0 ? 8.0 : 0.0;
+            expectedCents += WalletLedger.toCents(price) + WalletLedger.toCents(deposit);
+            bookings.add(Booking.builder()
+                    .tool(tool)
+                    .owner(owner)
+                    .renter(renter)
+                    .startDate(LocalDate.now().plusDays(i))
+                    .endDate(LocalDate.now().plusDays(i))
+                    .status(BookingStatus.APPROVED)
+                    .paymentStatus(PaymentStatus.PENDING)
+                    .totalPrice(price)
+                    .depositAmount(deposit)
+                    .build());
+        }
+        bookings = bookingRepository.saveAll(bookings);
+
+        runInParallel(bookings.stream()
+                .<Runnable>map(booking -> () -> paymentService.markBookingAsPaid(booking.getId()))
+                .toList());
+
+        assertThat(balanceCents()).isEqualTo(expectedCents);
+        assertThat(walletLedger.ledgerBalance(owner.getId())).isEqualTo(expectedCents);
+        assertThat(walletEntryRepository.countByOwnerId(owner.getId()))
+                .isEqualTo(PAYMENTS + (PAYMENTS + 2) / 3);
+    }
+
+    @Test
+    void testParallelPayoutsNeverOverdraw() throws Exception {
+        // Enough for half of the payouts
+        walletLedger.credit(owner, PAYOUTS / 2 * 1000L, WalletEntryType.ADJUSTMENT, null);
+        AtomicInteger paid = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Runnable> payouts = new ArrayList<>();
+        for (int i = 0; i < PAYOUTS; i++) {
+            payouts.add(() -> {
+                try {
+                    paymentService.requestPayout(owner.getId(), 10.0);
+                    paid.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        runInParallel(payouts);
+
+        assertThat(paid.get()).isEqualTo(PAYOUTS / 2);
+        assertThat(rejected.get()).isEqualTo(PAYOUTS / 2);
+        assertThat(balanceCents()).isZero();
+        assertThat(walletLedger.ledgerBalance(owner.getId())).isZero();
+        assertThat(payoutRepository.findByOwnerIdOrderByRequestedAtDesc(owner.getId())).hasSize(PAYOUTS / 2);
+    }
+
+    private void runInParallel(List<Runnable> tasks) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.toolshed.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.entities.WalletEntry;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.PaymentStatus;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
+
+/**
+ * Checks the set-based statements used by the booking completion job and the
+ * owner earnings aggregate.
+ */
+@DataJpaTest
+class BookingRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ToolRepository toolRepo;
+
+    @Autowired
+    private WalletEntryRepository walletEntryRepo;
+
+    private final LocalDate today = LocalDate.now();
+    private User owner;
+    private User otherOwner;
+    private User renter;
+    private Tool drill;
+    private Tool saw;
+
+    @BeforeEach
+    void setUp() {
+        owner = user("owner@example.com", UserRole.SUPPLIER, 100.0);
+        otherOwner = user("other@example.com", UserRole.SUPPLIER, 50.0);
+        renter = user("renter@example.com", UserRole.RENTER, 0.0);
+        drill = tool("Drill", owner);
+        saw = tool("Saw", otherOwner);
+    }
+
+    private User user(String email, UserRole role, double balance) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setReputationScore(5.0);
+        user = entityManager.persist(user);
+        if (balance > 0) {
+            long cents = Math.round(balance * 100);
+            entityManager.persist(WalletEntry.builder()
+                    .owner(user)
+                    .amountCents(cents)
+                    .type(WalletEntryType.OPENING_BALANCE)
+                    .build());
+            userRepo.addToWalletBalance(user.getId(), cents);
+        }
+        return user;
+    }
+
+    private Tool tool(String title, User toolOwner) {
+        Tool tool = new Tool();
+        tool.setTitle(title);
+        tool.setPricePerDay(10.0);
+        tool.setDistrict("Aveiro");
+        tool.setOwner(toolOwner);
+        tool.setActive(false);
+        tool.setOverallRating(0.0);
+        tool.setNumRatings(0);
+        return entityManager.persist(tool);
+    }
+
+    private Booking booking(Tool tool, LocalDate start, LocalDate end, BookingStatus status, Double deposit) {
+        return entityManager.persist(Booking.builder()
+                .tool(tool)
+                .owner(tool.getOwner())
+                .renter(renter)
+                .startDate(start)
+                .endDate(end)
+                .status(status)
+                .depositAmount(deposit)
+                .build());
+    }
+
+    private <T> T reload(Class<T> type, UUID id) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(type, id);
+    }
+
+    @Test
+    @DisplayName("Should list only approved bookings that ended before the date, in chunks")
+    void testFindExpiredApprovedIds() {
+        Booking expired1 = booking(drill, today.minusDays(5), today.minusDays(2), BookingStatus.APPROVED, null);
+        Booking expired2 = booking(saw, today.minusDays(3), today.minusDays(1), BookingStatus.APPROVED, null);
+        booking(drill, today.minusDays(1), today, BookingStatus.APPROVED, null);
+        booking(saw, today.minusDays(9), today.minusDays(8), BookingStatus.COMPLETED, null);
+
+        assertThat(bookingRepo.findExpiredApprovedIds(today, Limit.of(10)))
+                .containsExactlyInAnyOrder(expired1.getId(), expired2.getId());
+        assertThat(bookingRepo.findExpiredApprovedIds(today, Limit.of(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should complete only the given bookings that are still approved")
+    void testCompleteApproved() {
+        Booking approved = booking(drill, today.minusDays(5), today.minusDays(2), BookingStatus.APPROVED, null);
+        Booking cancelled = booking(saw, today.minusDays(5), today.minusDays(2), BookingStatus.CANCELLED, null);
+
+        int updated = bookingRepo.completeApproved(List.of(approved.getId(), cancelled.getId()));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload(Booking.class, approved.getId()).getStatus()).isEqualTo(BookingStatus.COMPLETED);
+        assertThat(reload(Booking.class, cancelled.getId()).getStatus()).isEqualTo(BookingStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should debit each owner once with the sum of their released deposits")
+    void testReleaseDepositsSummedPerOwner() {
+        Tool secondDrill = tool("Second Drill", owner);
+        Booking a = booking(drill, today.minusDays(5), today.minusDays(2), BookingStatus.APPROVED, 8.0);
+        Booking b = booking(secondDrill, today.minusDays(5), today.minusDays(2), BookingStatus.APPROVED, 8.0);
+        Booking noDeposit = booking(saw, today.minusDays(5), today.minusDays(2), BookingStatus.APPROVED, null);
+        // Not part of the chunk, so its deposit must not be released
+        booking(drill, today.minusDays(9), today.minusDays(8), BookingStatus.APPROVED, 8.0);
+
+        List<UUID> chunk = List.of(a.getId(), b.getId(), noDeposit.getId());
+
+        List<BookingRepository.HeldDeposit> deposits = bookingRepo.findHeldDeposits(chunk);
+        for (BookingRepository.HeldDeposit deposit : deposits) {
+            entityManager.persist(WalletEntry.builder()
+                    .owner(owner)
+                    .amountCents(-Math.round(deposit.getDepositAmount() * 100))
+                    .type(WalletEntryType.DEPOSIT_RELEASE)
+                    .bookingId(deposit.getBookingId())
+                    .build());
+        }
+        int owners = userRepo.applyEntriesOfBookings(chunk, WalletEntryType.DEPOSIT_RELEASE);
+
+        assertThat(deposits).extracting(BookingRepository.HeldDeposit::getBookingId)
+                .containsExactlyInAnyOrder(a.getId(), b.getId());
+        assertThat(deposits).extracting(BookingRepository.HeldDeposit::getOwnerId).containsOnly(owner.getId());
+        assertThat(owners).isEqualTo(1);
+        assertThat(reload(User.class, owner.getId()).getWalletBalance()).isEqualTo(84.0);
+        assertThat(reload(User.class, otherOwner.getId()).getWalletBalance()).isEqualTo(50.0);
+        assertThat(walletEntryRepo.sumAmountCentsByOwnerId(owner.getId())).isEqualTo(8400);
+        assertThat(walletEntryRepo.countByOwnerId(otherOwner.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free tools unless another approved booking covers the date")
+    void testRefreshActiveForBookings() {
+        Booking drillExpired = booking(drill, today.minusDays(5), today.minusDays(1), BookingStatus.COMPLETED, null);
+        Booking sawExpired = booking(saw, today.minusDays(5), today.minusDays(1), BookingStatus.COMPLETED, null);
+        // The saw is rented again from today
+        booking(saw, today, today.plusDays(2), BookingStatus.APPROVED, null);
+
+        int tools = toolRepo.refreshActiveForBookings(List.of(drillExpired.getId(), sawExpired.getId()), today);
+
+        assertThat(tools).isEqualTo(2);
+        assertThat(reload(Tool.class, drill.getId()).isActive()).isTrue();
+        assertThat(reload(Tool.class, saw.getId()).isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should sum an owner's paid bookings per month, oldest month first")
+    void testSumPaidEarningsByMonth() {
+        paid(drill, LocalDate.of(2024, 3, 10), 100.0, PaymentStatus.COMPLETED);
+        paid(drill, LocalDate.of(2024, 3, 20), 50.0, PaymentStatus.COMPLETED);
+        paid(drill, LocalDate.of(2024, 2, 15), 200.0, PaymentStatus.COMPLETED);
+        paid(drill, LocalDate.of(2023, 12, 31), 80.0, PaymentStatus.COMPLETED);
+        // Not counted: unpaid, refunded, or another owner's tool
+        paid(drill, LocalDate.of(2024, 3, 12), 1000.0, PaymentStatus.PENDING);
+        paid(drill, LocalDate.of(2024, 3, 14), 1000.0, PaymentStatus.REFUNDED);
+        paid(saw, LocalDate.of(2024, 3, 10), 500.0, PaymentStatus.COMPLETED);
+
+        List<BookingRepository.MonthlyEarnings> earnings = bookingRepo.sumPaidEarningsByMonth(owner.getId());
+
+        assertThat(earnings).extracting(BookingRepository.MonthlyEarnings::getYear,
+                BookingRepository.MonthlyEarnings::getMonth, BookingRepository.MonthlyEarnings::getAmount)
+                .containsExactly(tuple(2023, 12, 80.0), tuple(2024, 2, 200.0), tuple(2024, 3, 150.0));
+    }
+
+    private void paid(Tool tool, LocalDate end, Double price, PaymentStatus paymentStatus) {
+        Booking booking = booking(tool, end.minusDays(1), end, BookingStatus.COMPLETED, null);
+        booking.setTotalPrice(price);
+        booking.setPaymentStatus(paymentStatus);
+    }
+}
@@ -0,0 +1,152 @@
+package com.toolshed.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import com.toolshed.backend.dto.ReportResponse;
+import com.toolshed.backend.repository.entities.Report;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.ReportStatus;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReportRepositoryTest {
+
+    @Autowired
+    private ReportRepository reportRepo;
+
+    @Autowired
+    private ToolRepository toolRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reportRepo.deleteAll();
+        toolRepo.deleteAll();
+        userRepo.deleteAll();
+
+        User reporter = new User();
+        reporter.setFirstName("Rita");
+        reporter.setLastName("Reis");
+        reporter.setEmail("rita@example.com");
+        reporter.setPassword("hashedpass");
+        reporter.setRole(UserRole.RENTER);
+        reporter.setStatus(UserStatus.ACTIVE);
+        reporter.setReputationScore(0.0);
+        reporter = userRepo.save(reporter);
+
+        Tool tool = new Tool();
+        tool.setTitle("Hedge Trimmer");
+        tool.setDescription("Electric");
+        tool.setPricePerDay(8.0);
+        tool.setDistrict("Porto");
+        tool.setActive(true);
+        tool.setOverallRating(0.0);
+        tool.setOwner(reporter);
+        tool = toolRepo.save(tool);
+
+        ReportStatus[] statuses = { ReportStatus.OPEN, ReportStatus.RESOLVED, ReportStatus.OPEN,
+                ReportStatus.IN_PROGRESS, ReportStatus.OPEN, ReportStatus.RESOLVED, ReportStatus.OPEN };
+        for (int i = 0; i < statuses.length; i++) {
+            reportRepo.save(Report.builder()
+                    .reporter(reporter)
+                    .tool(i % 2 == 0 ? tool : null)
+                    .title("Report " + i)
+                    .description("Details " + i)
+                    .status(statuses[i])
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private List<ReportResponse> walk(ReportStatus status, int pageSize) {
+        List<ReportResponse> all = new ArrayList<>();
+        ReportResponse last = null;
+        while (true) {
+            List<ReportResponse> page = reportRepo.findQueuePage(status,
+                    last == null ? null : last.getStatus().ordinal(),
+                    last == null ? null : last.getCreatedAt(),
+                    last == null ? null : last.getId(),
+                    Limit.of(pageSize));
+            all.addAll(page);
+            if (page.size() < pageSize) {
+                return all;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Queue rows carry reporter email and tool title, and list open reports first")
+    void findQueuePageProjectsRows() {
+        List<ReportResponse> rows = reportRepo.findQueuePage(null, null, null, null, Limit.of(50));
+
+        assertThat(rows).hasSize(7);
+        assertThat(rows).extracting(ReportResponse::getStatus).containsExactly(
+                ReportStatus.OPEN, ReportStatus.OPEN, ReportStatus.OPEN, ReportStatus.OPEN,
+                ReportStatus.IN_PROGRESS, ReportStatus.RESOLVED, ReportStatus.RESOLVED);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getReporterEmail()).isEqualTo("rita@example.com"));
+        assertThat(rows).filteredOn(row -> row.getToolId() != null)
+                .hasSize(4)
+                .allSatisfy(row -> assertThat(row.getToolTitle()).isEqualTo("Hedge Trimmer"));
+        assertThat(rows).filteredOn(row -> row.getToolId() == null).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Keyset pages cover the queue exactly once, one statement per page")
+    void findQueuePageWalksWholeQueue() {
+        List<ReportResponse> single = reportRepo.findQueuePage(null, null, null, null, Limit.of(50));
+        statistics.clear();
+
+        List<ReportResponse> paged = walk(null, 2);
+
+        assertThat(paged).extracting(ReportResponse::getId)
+                .containsExactlyElementsOf(single.stream().map(ReportResponse::getId).toList());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Status filter keeps keyset paging within that status")
+    void findQueuePageFiltersByStatus() {
+        List<ReportResponse> open = walk(ReportStatus.OPEN, 3);
+
+        assertThat(open).hasSize(4).allSatisfy(row -> assertThat(row.getStatus()).isEqualTo(ReportStatus.OPEN));
+        assertThat(open).extracting(ReportResponse::getCreatedAt).isSorted();
+    }
+
+    @Test
+    @DisplayName("Loading a report leaves its reporter and tool unfetched")
+    void reportAssociationsAreLazy() {
+        Report report = reportRepo.findAll().get(0);
+
+        assertThat(Hibernate.isInitialized(report.getReporter())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
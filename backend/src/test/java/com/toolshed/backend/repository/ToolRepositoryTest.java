@@ -9,12 +9,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
 
+import jakarta.persistence.EntityManager;
+
 @DataJpaTest
 class ToolRepositoryTest {
     
@@ -24,6 +27,9 @@ class ToolRepositoryTest {
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         
@@ -105,7 +111,7 @@ class ToolRepositoryTest {
     @Test
     @DisplayName("Should return tools where Title matches keyword (Case Insensitive)")
     void testSearchByTitle() {
-        List<Tool> results = toolRepo.searchTools("Power", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Power", null, null, null, null, Limit.unlimited());
         assertThat(results)
             .hasSize(1)
             .extracting(Tool::getTitle)
@@ -115,7 +121,7 @@ class ToolRepositoryTest {
     @Test
     @DisplayName("Should return tools where Description matches keyword")
     void testSearchByDescription() {
-        List<Tool> results = toolRepo.searchTools("Titanium", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Titanium", null, null, null, null, Limit.unlimited());
         assertThat(results)
             .hasSize(1)
             .extracting(Tool::getTitle)
@@ -125,7 +131,7 @@ class ToolRepositoryTest {
     @Test
     @DisplayName("Should return tools matching Title OR Description (Mixed Case)")
     void testSearchTitleOrDescriptionMixedCase() {
-        List<Tool> results = toolRepo.searchTools("Drill", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Drill", null, null, null, null, Limit.unlimited());
         assertThat(results)
             .hasSize(2)
             .extracting(Tool::getTitle)
@@ -136,7 +142,7 @@ class ToolRepositoryTest {
     @Test
     @DisplayName("Should return tools searching with uppercase keyword against lowercase data")
     void testSearchCaseInsensitiveParams() {
-        List<Tool> results = toolRepo.searchTools("CLAW", null, null, null);
+        List<Tool> results = toolRepo.searchTools("CLAW", null, null, null, null, Limit.unlimited());
         assertThat(results)
             .hasSize(1)
             .extracting(Tool::getTitle)
@@ -146,7 +152,7 @@ class ToolRepositoryTest {
     @Test
     @DisplayName("Should return empty list when no match is found")
     void testSearchNoResults() {
-        List<Tool> results = toolRepo.searchTools("Screwdriver", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Screwdriver", null, null, null, null, Limit.unlimited());
         assertThat(results).isEmpty();
     }
 
@@ -165,7 +171,7 @@ class ToolRepositoryTest {
         toolRepo.save(inactiveTool);
 
         // Act
-        List<Tool> results = toolRepo.searchTools("Secret", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Secret", null, null, null, null, Limit.unlimited());
 
         // Assert: ensure the result list is empty and also verify it does not contain the inactive title
         assertThat(results).isEmpty();
@@ -180,7 +186,7 @@ class ToolRepositoryTest {
         // We have "Power Drill" in the setup. 
         // Searching "rill" should find it if our wildcard logic (%keyword%) is correct.
         
-        List<Tool> results = toolRepo.searchTools("rill", null, null, null);
+        List<Tool> results = toolRepo.searchTools("rill", null, null, null, null, Limit.unlimited());
 
         assertThat(results)
                 .extracting(Tool::getTitle)
@@ -202,7 +208,7 @@ class ToolRepositoryTest {
         toolRepo.save(specialTool);
 
         // Act: Search using the symbol "&"
-        List<Tool> results = toolRepo.searchTools("&", null, null, null);
+        List<Tool> results = toolRepo.searchTools("&", null, null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -217,7 +223,7 @@ class ToolRepositoryTest {
         // This tests that the query doesn't crash on empty input.
         // Note: The Service Layer typically validates this, but the Repo should be robust.
         
-        List<Tool> results = toolRepo.searchTools("", null, null, null);
+        List<Tool> results = toolRepo.searchTools("", null, null, null, null, Limit.unlimited());
 
         // Assert: Should return all 4 active tools from setUp()
         assertThat(results).hasSize(4); 
@@ -239,7 +245,7 @@ class ToolRepositoryTest {
         activeTool.setOverallRating(3.5);
         toolRepo.save(activeTool);
 
-        List<Tool> results = toolRepo.searchTools("Scratched", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Scratched", null, null, null, null, Limit.unlimited());
 
         assertThat(results)
                 .extracting(Tool::getTitle)
@@ -261,7 +267,7 @@ class ToolRepositoryTest {
         toolRepo.save(nullDescTool);
 
         // Act
-        List<Tool> results = toolRepo.searchTools("key", null, null, null);
+        List<Tool> results = toolRepo.searchTools("key", null, null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -287,7 +293,7 @@ class ToolRepositoryTest {
         // Act
         // Note: Without explicit escaping in the repository, this effectively works 
         // because the tool contains the text.
-        List<Tool> results = toolRepo.searchTools("Square_", null, null, null); 
+        List<Tool> results = toolRepo.searchTools("Square_", null, null, null, null, Limit.unlimited()); 
 
         // Assert
         assertThat(results)
@@ -302,7 +308,7 @@ class ToolRepositoryTest {
         // "Porto" is NOT in the title or description.
 
         // Act
-        List<Tool> results = toolRepo.searchTools("Porto", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Porto", null, null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results).isEmpty();
@@ -316,7 +322,7 @@ class ToolRepositoryTest {
         // 2. "Bit Set" (Lisboa) -> Matches Keyword in description but DIFFERENT district
         // 3. "Circular Saw" (Lisboa, Sintra) -> Does not match keyword "Drill"
         // Result should therefore be ONLY Power Drill.
-        List<Tool> results = toolRepo.searchTools("Drill", "Aveiro", null, null);
+        List<Tool> results = toolRepo.searchTools("Drill", "Aveiro", null, null, null, Limit.unlimited());
         assertThat(results)
                 .hasSize(1)
                 .extracting(Tool::getTitle)
@@ -329,7 +335,7 @@ class ToolRepositoryTest {
         // Scenario: User just searches for "Porto", no keyword typed.
         
         // Act
-        List<Tool> results = toolRepo.searchTools(null, "Porto", null, null);
+        List<Tool> results = toolRepo.searchTools(null, "Porto", null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -343,7 +349,7 @@ class ToolRepositoryTest {
     void testSearchWithKeywordOnly_DistrictNull() {
         // Scenario: User types "Drill" but leaves district filter empty.
         // Matches: "Power Drill" (title) and "Bit Set" (description). "Circular Saw" no longer matches.
-        List<Tool> results = toolRepo.searchTools("Drill", null, null, null);
+        List<Tool> results = toolRepo.searchTools("Drill", null, null, null, null, Limit.unlimited());
         assertThat(results)
                 .hasSize(2)
                 .extracting(Tool::getTitle)
@@ -355,7 +361,7 @@ class ToolRepositoryTest {
     @DisplayName("Should be case-insensitive for Location as well")
     void testSearchLocationCaseInsensitive() {
         // Act: Search "aveiro" (lowercase) when DB has "Aveiro"
-        List<Tool> results = toolRepo.searchTools("Drill", "aveiro", null, null);
+        List<Tool> results = toolRepo.searchTools("Drill", "aveiro", null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -369,7 +375,7 @@ class ToolRepositoryTest {
         // Scenario: Searching for "Hammer" (exists in Porto) but filtering for "Aveiro"
         
         // Act
-        List<Tool> results = toolRepo.searchTools("Hammer", "Aveiro", null, null);
+        List<Tool> results = toolRepo.searchTools("Hammer", "Aveiro", null, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results).isEmpty();
@@ -385,7 +391,7 @@ class ToolRepositoryTest {
         // Should exclude drill (5€)
 
         // Act
-        List<Tool> results = toolRepo.searchTools(null, null, 10.0, null);
+        List<Tool> results = toolRepo.searchTools(null, null, 10.0, null, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -403,7 +409,7 @@ class ToolRepositoryTest {
         // Should exclude hammer (100€)
 
         // Act
-        List<Tool> results = toolRepo.searchTools(null, null, null, 30.0);
+        List<Tool> results = toolRepo.searchTools(null, null, null, 30.0, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -421,7 +427,7 @@ class ToolRepositoryTest {
         // Should exclude drill (5€) and hammer (100€)
 
         // Act
-        List<Tool> results = toolRepo.searchTools(null, null, 10.0, 30.0);
+        List<Tool> results = toolRepo.searchTools(null, null, 10.0, 30.0, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -440,7 +446,7 @@ class ToolRepositoryTest {
         // With maxPrice = 50€, both should match
 
         // Act
-        List<Tool> results = toolRepo.searchTools("Drill", null, null, 50.0);
+        List<Tool> results = toolRepo.searchTools("Drill", null, null, 50.0, null, Limit.unlimited());
 
         // Assert
         assertThat(results)
@@ -455,7 +461,7 @@ class ToolRepositoryTest {
         // Arrange: bitSet has exactly 20.0€
         
         // Act: Search for minPrice = 20.0
-        List<Tool> results = toolRepo.searchTools(null, null, 20.0, null);
+        List<Tool> results = toolRepo.searchTools(null, null, 20.0, null, null, Limit.unlimited());
 
         // Assert: Should include bitSet (20€ matches >= 20)
         assertThat(results)
@@ -469,11 +475,60 @@ class ToolRepositoryTest {
         // Arrange: bitSet has exactly 20.0€
         
         // Act: Search for maxPrice = 20.0
-        List<Tool> results = toolRepo.searchTools(null, null, null, 20.0);
+        List<Tool> results = toolRepo.searchTools(null, null, null, 20.0, null, Limit.unlimited());
 
         // Assert: Should include bitSet (20€ matches <= 20)
         assertThat(results)
                 .extracting(Tool::getTitle)
                 .contains("Bit Set");
     }
+
+    @Test
+    @DisplayName("Should walk the catalog in keyset pages without gaps or duplicates")
+    void testFindPageKeyset() {
+        List<Tool> firstPage = toolRepo.findPage(null, Limit.of(2));
+        List<Tool> secondPage = toolRepo.findPage(firstPage.get(1).getId(), Limit.of(2));
+        List<Tool> lastPage = toolRepo.findPage(secondPage.get(1).getId(), Limit.of(2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(2);
+        assertThat(lastPage).hasSize(1);
+        assertThat(java.util.stream.Stream.of(firstPage, secondPage, lastPage)
+                .flatMap(List::stream)
+                .map(Tool::getId)
+                .distinct())
+                .hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should only page over active tools in findActivePage")
+    void testFindActivePageSkipsInactive() {
+        List<Tool> results = toolRepo.findActivePage(null, Limit.of(10));
+
+        assertThat(results)
+                .hasSize(4)
+                .extracting(Tool::getTitle)
+                .doesNotContain("Old Drill");
+    }
+
+    @Test
+    @DisplayName("Should keep a rating added while a stale copy of the tool is edited and saved")
+    void testEditDoesNotRevertConcurrentRating() {
+        Tool stale = toolRepo.findAll().stream()
+                .filter(tool -> tool.getTitle().equals("Power Drill"))
+                .findFirst()
+                .orElseThrow();
+
+        toolRepo.addRating(stale.getId(), 4, 1);
+        stale.setTitle("Power Drill 18V");
+        toolRepo.save(stale);
+        entityManager.flush();
+        entityManager.clear();
+
+        Tool reloaded = toolRepo.findById(stale.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Power Drill 18V");
+        assertThat(reloaded.getNumRatings()).isEqualTo(1);
+        assertThat(reloaded.getRatingSum()).isEqualTo(4);
+        assertThat(reloaded.getOverallRating()).isEqualTo(4.0);
+    }
 }
@@ -0,0 +1,139 @@
+package com.toolshed.backend.repository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import com.toolshed.backend.dto.AdminUserSummary;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ToolRepository toolRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        toolRepo.deleteAll();
+        userRepo.deleteAll();
+
+        userRepo.save(user("Root", "Admin", "admin@example.com", UserRole.ADMIN, UserStatus.ACTIVE));
+        User annie = userRepo.save(user("Annie", "Silva", "annie@example.com", UserRole.SUPPLIER, UserStatus.ACTIVE));
+        userRepo.save(user("Bruno", "Annes", "bruno@example.com", UserRole.RENTER, UserStatus.ACTIVE));
+        userRepo.save(user("Carla", "Costa", "carla@example.com", UserRole.RENTER, UserStatus.SUSPENDED));
+        userRepo.save(user("Dora", "Dias", "ann_dora@example.com", UserRole.RENTER, UserStatus.ACTIVE));
+
+        for (int i = 0; i < 3; i++) {
+            Tool tool = new Tool();
+            tool.setTitle("Tool " + i);
+            tool.setDescription("Owned by Annie");
+            tool.setPricePerDay(5.0);
+            tool.setDistrict("Aveiro");
+            tool.setActive(true);
+            tool.setOverallRating(0.0);
+            tool.setOwner(annie);
+            toolRepo.save(tool);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User user(String firstName, String lastName, String email, UserRole role, UserStatus status) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setPassword("hashedpass");
+        user.setRole(role);
+        user.setStatus(status);
+        user.setReputationScore(0.0);
+        return user;
+    }
+
+    private List<String> emails(List<AdminUserSummary> rows) {
+        return rows.stream().map(AdminUserSummary::getEmail).toList();
+    }
+
+    @Test
+    @DisplayName("Admin page excludes admins and is ordered by email")
+    void findAdminPageExcludesAdmins() {
+        List<AdminUserSummary> rows = userRepo.findAdminPage(null, null, null, null, Limit.of(10));
+
+        assertThat(emails(rows)).containsExactly(
+                "ann_dora@example.com", "annie@example.com", "bruno@example.com", "carla@example.com");
+        assertThat(rows.get(1).getFirstName()).isEqualTo("Annie");
+        assertThat(rows.get(1).getRole()).isEqualTo(UserRole.SUPPLIER);
+    }
+
+    @Test
+    @DisplayName("Admin page filters by status and role")
+    void findAdminPageFiltersByStatusAndRole() {
+        assertThat(emails(userRepo.findAdminPage(UserStatus.SUSPENDED, null, null, null, Limit.of(10))))
+                .containsExactly("carla@example.com");
+        assertThat(emails(userRepo.findAdminPage(UserStatus.ACTIVE, UserRole.RENTER, null, null, Limit.of(10))))
+                .containsExactly("ann_dora@example.com", "bruno@example.com");
+    }
+
+    @Test
+    @DisplayName("Admin page matches the prefix on names and email, with wildcards taken literally")
+    void findAdminPageMatchesPrefix() {
+        assertThat(emails(userRepo.findAdminPage(null, null, "ann%", null, Limit.of(10))))
+                .containsExactly("ann_dora@example.com", "annie@example.com", "bruno@example.com");
+        assertThat(emails(userRepo.findAdminPage(null, null, "ann\\_%", null, Limit.of(10))))
+                .containsExactly("ann_dora@example.com");
+    }
+
+    @Test
+    @DisplayName("Admin pages resume after the last email and cost one statement each")
+    void findAdminPageKeysetInOneStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AdminUserSummary> first = userRepo.findAdminPage(null, null, null, null, Limit.of(2));
+        List<AdminUserSummary> second = userRepo.findAdminPage(null, null, null,
+                first.get(first.size() - 1).getEmail(), Limit.of(2));
+
+        assertThat(emails(first)).containsExactly("ann_dora@example.com", "annie@example.com");
+        assertThat(emails(second)).containsExactly("bruno@example.com", "carla@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Saving a stale user keeps reputation added meanwhile")
+    void saveStaleUserKeepsReputation() {
+        User stale = userRepo.findByEmail("annie@example.com").orElseThrow();
+
+        userRepo.addReputation(stale.getId(), 5, 1);
+        stale.setStatus(UserStatus.SUSPENDED);
+        userRepo.save(stale);
+        entityManager.flush();
+        entityManager.clear();
+
+        User reloaded = userRepo.findById(stale.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(reloaded.getReputationCount()).isEqualTo(1);
+        assertThat(reloaded.getReputationSum()).isEqualTo(5);
+        assertThat(reloaded.getReputationScore()).isEqualTo(5.0);
+    }
+}
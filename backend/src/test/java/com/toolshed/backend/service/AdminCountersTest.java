@@ -0,0 +1,76 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.enums.BookingStatus;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+@ExtendWith(MockitoExtension.class)
+class AdminCountersTest {
+
+    private record UserCount(UserStatus getStatus, long getCount) implements UserRepository.StatusCount {
+    }
+
+    private record BookingCount(BookingStatus getStatus, long getCount) implements BookingRepository.StatusCount {
+    }
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private AdminCounters counters;
+
+    @Test
+    @DisplayName("Should follow status transitions")
+    void testTransitions() {
+        counters.userMoved(null, UserStatus.ACTIVE);
+        counters.userMoved(null, UserStatus.ACTIVE);
+        counters.userMoved(UserStatus.ACTIVE, UserStatus.SUSPENDED);
+        counters.bookingsMoved(null, BookingStatus.PENDING, 1);
+        counters.bookingsMoved(BookingStatus.PENDING, BookingStatus.APPROVED, 1);
+        counters.bookingsMoved(null, BookingStatus.APPROVED, 4);
+        counters.bookingsMoved(BookingStatus.APPROVED, BookingStatus.COMPLETED, 3);
+
+        assertThat(counters.users(UserStatus.ACTIVE)).isEqualTo(1);
+        assertThat(counters.users(UserStatus.SUSPENDED)).isEqualTo(1);
+        assertThat(counters.totalUsers()).isEqualTo(2);
+        assertThat(counters.bookings(BookingStatus.PENDING)).isZero();
+        assertThat(counters.bookings(BookingStatus.APPROVED)).isEqualTo(2);
+        assertThat(counters.bookings(BookingStatus.COMPLETED)).isEqualTo(3);
+        assertThat(counters.totalBookings()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should correct drift from the grouped database counts")
+    void testReconcile() {
+        counters.userMoved(null, UserStatus.ACTIVE);
+        counters.bookingsMoved(null, BookingStatus.CANCELLED, 9);
+        when(userRepository.countGroupedByStatus()).thenReturn(List.of(
+                new UserCount(UserStatus.ACTIVE, 7), new UserCount(UserStatus.SUSPENDED, 3)));
+        when(bookingRepository.countGroupedByStatus()).thenReturn(List.of(
+                new BookingCount(BookingStatus.APPROVED, 5), new BookingCount(null, 2)));
+
+        counters.reconcile();
+
+        assertThat(counters.users(UserStatus.ACTIVE)).isEqualTo(7);
+        assertThat(counters.users(UserStatus.SUSPENDED)).isEqualTo(3);
+        assertThat(counters.bookings(BookingStatus.APPROVED)).isEqualTo(5);
+        assertThat(counters.bookings(BookingStatus.CANCELLED)).isZero();
+        assertThat(counters.getReconciledAt()).isNotNull();
+    }
+}
@@ -0,0 +1,82 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.repository.AdminMetricsRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.entities.AdminMetrics;
+import com.toolshed.backend.repository.enums.UserStatus;
+
+@ExtendWith(MockitoExtension.class)
+class AdminMetricsSnapshotsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 15);
+
+    @Mock
+    private AdminMetricsRepository adminMetricsRepository;
+
+    @Mock
+    private ToolRepository toolRepository;
+
+    @Mock
+    private AdminCounters counters;
+
+    private AdminMetricsSnapshots snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new AdminMetricsSnapshots(adminMetricsRepository, toolRepository, counters, new ObjectMapper());
+        when(counters.usersByStatus()).thenReturn(Map.of(UserStatus.ACTIVE, 3L));
+        when(counters.bookingsByStatus()).thenReturn(Map.of());
+        when(counters.users(UserStatus.ACTIVE)).thenReturn(3L);
+        when(counters.totalBookings()).thenReturn(7L);
+        when(toolRepository.countByActiveTrue()).thenReturn(5L);
+    }
+
+    @Test
+    @DisplayName("Should insert the day's row when none is stored")
+    void testInsertsNewDay() {
+        when(adminMetricsRepository.findByDate(DAY)).thenReturn(null);
+        when(adminMetricsRepository.saveAndFlush(any(AdminMetrics.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        AdminMetrics stored = snapshots.snapshot(DAY);
+
+        assertThat(stored.getDate()).isEqualTo(DAY);
+        assertThat(stored.getActiveUsersCount()).isEqualTo(3);
+        assertThat(stored.getActiveListingsCount()).isEqualTo(5);
+        assertThat(stored.getBookingsCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should update the row another instance stored first instead of failing")
+    void testUpdatesRowStoredConcurrently() {
+        AdminMetrics other = AdminMetrics.builder().id(UUID.randomUUID()).date(DAY).activeUsersCount(2).build();
+        when(adminMetricsRepository.findByDate(DAY)).thenReturn(null, other);
+        when(adminMetricsRepository.saveAndFlush(any(AdminMetrics.class)))
+                .thenThrow(new DataIntegrityViolationException("unique date"));
+        when(adminMetricsRepository.save(other)).thenReturn(other);
+
+        AdminMetrics stored = snapshots.snapshot(DAY);
+
+        assertThat(stored).isSameAs(other);
+        assertThat(stored.getActiveUsersCount()).isEqualTo(3);
+        assertThat(stored.getOtherStats()).contains("\"ACTIVE\":3");
+        verify(adminMetricsRepository).save(other);
+    }
+}
@@ -7,9 +7,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,9 +22,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.toolshed.backend.dto.AdminStatsDTO;
+import com.toolshed.backend.dto.AdminUserPage;
+import com.toolshed.backend.dto.AdminUserSummary;
+import com.toolshed.backend.dto.DailyMetricsResponse;
 import com.toolshed.backend.repository.BookingRepository;
 import com.toolshed.backend.repository.UserRepository;
 import com.toolshed.backend.repository.entities.User;
@@ -40,6 +45,12 @@ class AdminServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private AdminCounters adminCounters;
+
+    @Mock
+    private AdminMetricsSnapshots adminMetricsSnapshots;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -57,15 +68,15 @@ class AdminServiceTest {
     }
 
     @Test
-    @DisplayName("getStats aggregates counts from repositories")
+    @DisplayName("getStats answers from the live counters without querying")
     void getStatsAggregatesCounts() {
-        when(userRepository.count()).thenReturn(10L);
-        when(userRepository.countByStatus(UserStatus.ACTIVE)).thenReturn(7L);
-        when(userRepository.countByStatus(UserStatus.SUSPENDED)).thenReturn(3L);
-        when(bookingRepository.count()).thenReturn(20L);
-        when(bookingRepository.countByStatus(BookingStatus.APPROVED)).thenReturn(5L);
-        when(bookingRepository.countByStatus(BookingStatus.COMPLETED)).thenReturn(12L);
-        when(bookingRepository.countByStatus(BookingStatus.CANCELLED)).thenReturn(3L);
+        when(adminCounters.totalUsers()).thenReturn(10L);
+        when(adminCounters.users(UserStatus.ACTIVE)).thenReturn(7L);
+        when(adminCounters.users(UserStatus.SUSPENDED)).thenReturn(3L);
+        when(adminCounters.totalBookings()).thenReturn(20L);
+        when(adminCounters.bookings(BookingStatus.APPROVED)).thenReturn(5L);
+        when(adminCounters.bookings(BookingStatus.COMPLETED)).thenReturn(12L);
+        when(adminCounters.bookings(BookingStatus.CANCELLED)).thenReturn(3L);
 
         AdminStatsDTO stats = adminService.getStats();
 
@@ -76,20 +87,84 @@ class AdminServiceTest {
         assertThat(stats.getActiveBookings()).isEqualTo(5);
         assertThat(stats.getCompletedBookings()).isEqualTo(12);
         assertThat(stats.getCancelledBookings()).isEqualTo(3);
+        verifyNoInteractions(userRepository, bookingRepository);
+    }
+
+    @Test
+    @DisplayName("getDailyMetrics reads snapshots within a bounded range")
+    void getDailyMetricsValidatesRange() {
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        DailyMetricsResponse day = DailyMetricsResponse.builder().date(to).activeUsers(4).build();
+        when(adminMetricsSnapshots.between(to.minusDays(6), to)).thenReturn(List.of(day));
+
+        assertThat(adminService.getDailyMetrics(to.minusDays(6), to)).containsExactly(day);
+        assertThatThrownBy(() -> adminService.getDailyMetrics(to, to.minusDays(1)))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> adminService.getDailyMetrics(to.minusYears(2), to))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private AdminUserSummary summary(String email) {
+        return AdminUserSummary.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .role(UserRole.RENTER)
+                .status(UserStatus.ACTIVE)
+                .build();
     }
 
     @Test
-    @DisplayName("getAllUsers filters out admins")
-    void getAllUsersFiltersAdmins() {
-        User admin = buildUser(UserRole.ADMIN, UserStatus.ACTIVE);
-        User renter = buildUser(UserRole.RENTER, UserStatus.ACTIVE);
-        User supplier = buildUser(UserRole.SUPPLIER, UserStatus.SUSPENDED);
-        when(userRepository.findAll()).thenReturn(Arrays.asList(admin, renter, supplier));
+    @DisplayName("listUsers returns a full page with a cursor to the last row")
+    void listUsersPagesWithCursor() {
+        when(userRepository.findAdminPage(eq(UserStatus.ACTIVE), eq(UserRole.RENTER), eq("ann%"), eq(null),
+                any(Limit.class)))
+                .thenReturn(List.of(summary("a@example.com"), summary("b@example.com"), summary("c@example.com")));
+
+        AdminUserPage page = adminService.listUsers(UserStatus.ACTIVE, UserRole.RENTER, " Ann ", null, 2);
+
+        assertThat(page.getItems()).extracting(AdminUserSummary::getEmail)
+                .containsExactly("a@example.com", "b@example.com");
+        assertThat(AdminService.decodeCursor(page.getNextCursor())).isEqualTo("b@example.com");
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(userRepository).findAdminPage(any(), any(), any(), any(), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("listUsers resumes after the cursor and ends without one")
+    void listUsersLastPage() {
+        String cursor = AdminService.encodeCursor("b@example.com");
+        when(userRepository.findAdminPage(eq(null), eq(null), eq(null), eq("b@example.com"), any(Limit.class)))
+                .thenReturn(List.of(summary("c@example.com")));
 
-        List<User> result = adminService.getAllUsers();
+        AdminUserPage page = adminService.listUsers(null, null, null, cursor, null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
 
-        assertThat(result).containsExactlyInAnyOrder(renter, supplier);
-        assertThat(result).noneMatch(u -> u.getRole() == UserRole.ADMIN);
+    @Test
+    @DisplayName("listUsers caps the page size and rejects non-positive ones")
+    void listUsersPageSize() {
+        when(userRepository.findAdminPage(any(), any(), any(), any(), any(Limit.class))).thenReturn(List.of());
+
+        adminService.listUsers(null, null, null, null, 10_000);
+
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(userRepository).findAdminPage(any(), any(), any(), any(), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(AdminService.MAX_USER_PAGE_SIZE + 1);
+        assertThatThrownBy(() -> adminService.listUsers(null, null, null, null, 0))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> adminService.listUsers(null, null, null, "not base64!", null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("Search prefixes match LIKE wildcards literally")
+    void prefixPatternEscapesWildcards() {
+        assertThat(AdminService.toPrefixPattern("50%_off\\")).isEqualTo("50\\%\\_off\\\\%");
+        assertThat(AdminService.toPrefixPattern("  ")).isNull();
+        assertThat(AdminService.toPrefixPattern(null)).isNull();
     }
 
     @Test
@@ -1,11 +1,17 @@
 package com.toolshed.backend.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +25,9 @@ class AuthServiceEmailValidationTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(100, 0.01);
+
     @InjectMocks
     private AuthService authService;
 
@@ -117,4 +126,54 @@ class AuthServiceEmailValidationTest {
         assertThat(result).isFalse();
         verify(userRepository).existsByEmail(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should answer unseen emails from the Bloom filter without querying")
+    void isEmailTaken_WithEmailUnknownToFilter_ShouldSkipDatabase() {
+        // Arrange
+        emailBloomFilter.rebuild(1, List.of("existing@example.com").iterator());
+
+        // Act
+        boolean result = authService.isEmailTaken("new@example.com");
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(userRepository, never()).existsByEmail(anyString());
+        assertThat(emailBloomFilter.stats().definiteMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should confirm possible hits against the database")
+    void isEmailTaken_WithEmailKnownToFilter_ShouldQueryDatabase() {
+        // Arrange
+        String email = "existing@example.com";
+        emailBloomFilter.rebuild(1, List.of(email).iterator());
+        when(userRepository.existsByEmail(email)).thenReturn(true);
+
+        // Act
+        boolean result = authService.isEmailTaken(email);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(userRepository).existsByEmail(email);
+        assertThat(emailBloomFilter.stats().possibleHits()).isEqualTo(1);
+        assertThat(emailBloomFilter.stats().falsePositives()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count a possible hit the database denies as a false positive")
+    void isEmailTaken_WithDeletedEmail_ShouldRecordFalsePositive() {
+        // Arrange: the filter never forgets, so a removed user's email stays a possible hit
+        String email = "deleted@example.com";
+        emailBloomFilter.rebuild(1, List.of(email).iterator());
+        when(userRepository.existsByEmail(email)).thenReturn(false);
+
+        // Act
+        boolean result = authService.isEmailTaken(email);
+
+        // Assert
+        assertThat(result).isFalse();
+        assertThat(emailBloomFilter.stats().falsePositives()).isEqualTo(1);
+        assertThat(emailBloomFilter.stats().observedFalsePositiveRate()).isEqualTo(1.0);
+    }
+}
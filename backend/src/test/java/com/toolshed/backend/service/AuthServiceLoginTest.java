@@ -1,5 +1,6 @@
 package com.toolshed.backend.service;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +34,12 @@ class AuthServiceLoginTest {
         @Mock
         private UserRepository userRepository;
 
+        @Spy
+        private SessionTokens sessionTokens = new SessionTokens("", Duration.ofHours(1), new TokenDenyList(100));
+
+        @Spy
+        private PasswordHasher passwordHasher = new PasswordHasher(1_000, 2, 16, 5_000);
+
         @InjectMocks
         private AuthService authService;
 
@@ -94,6 +102,7 @@ class AuthServiceLoginTest {
 
                 // Verify
                 verify(userRepository).findByEmail(loginRequest.getEmail());
+                verify(passwordHasher).matches("password123", passwordHasher.dummyHash());
         }
 
         @Test
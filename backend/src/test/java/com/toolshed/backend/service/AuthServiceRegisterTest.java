@@ -1,5 +1,6 @@
 package com.toolshed.backend.service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,11 +14,13 @@ import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -34,6 +37,12 @@ class AuthServiceRegisterTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(100, 0.01);
+
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(1_000, 2, 16, 5_000);
+
     @InjectMocks
     private AuthService authService;
 
@@ -162,7 +171,7 @@ class AuthServiceRegisterTest {
         assertThat(savedUser.getFirstName()).isEqualTo(registerRequest.getFirstName());
         assertThat(savedUser.getLastName()).isEqualTo(registerRequest.getLastName());
         assertThat(savedUser.getEmail()).isEqualTo(registerRequest.getEmail());
-        assertThat(savedUser.getPassword()).isEqualTo(registerRequest.getPassword());
+        assertThat(passwordHasher.matches(registerRequest.getPassword(), savedUser.getPassword())).isTrue();
         assertThat(savedUser.getRole()).isEqualTo(registerRequest.getRole());
     }
 
@@ -272,7 +281,7 @@ class AuthServiceRegisterTest {
         User result = authService.register(registerRequest);
 
         // Assert
-        assertThat(result.getPassword()).isEqualTo(complexPassword);
+        assertThat(passwordHasher.matches(complexPassword, result.getPassword())).isTrue();
     }
 
     @Test
@@ -291,7 +300,7 @@ class AuthServiceRegisterTest {
         User result = authService.register(registerRequest);
 
         // Assert
-        assertThat(result.getPassword()).isEqualTo(longPassword);
+        assertThat(passwordHasher.matches(longPassword, result.getPassword())).isTrue();
     }
 
     @Test
@@ -529,8 +538,8 @@ class AuthServiceRegisterTest {
     }
 
     @Test
-    @DisplayName("Should preserve exact password without encoding")
-    void register_ShouldPreservePasswordAsIs() {
+    @DisplayName("Should store a salted hash instead of the password")
+    void register_ShouldHashPassword() {
         // Arrange
         String plainPassword = "MyPlainPassword123!";
         registerRequest.setPassword(plainPassword);
@@ -543,8 +552,10 @@ class AuthServiceRegisterTest {
         // Act
         User result = authService.register(registerRequest);
 
-        // Assert - Password should be stored as-is (no encoding in current implementation)
-        assertThat(result.getPassword()).isEqualTo(plainPassword);
+        // Assert
+        assertThat(result.getPassword()).isNotEqualTo(plainPassword).startsWith("pbkdf2$1000$");
+        assertThat(passwordHasher.matches(plainPassword, result.getPassword())).isTrue();
+        assertThat(passwordHasher.matches("MyPlainPassword124!", result.getPassword())).isFalse();
     }
 
     @Test
@@ -562,7 +573,7 @@ class AuthServiceRegisterTest {
         User result = authService.register(registerRequest);
 
         // Assert
-        assertThat(result.getPassword()).isEqualTo("123");
+        assertThat(passwordHasher.matches("123", result.getPassword())).isTrue();
     }
 
     @Test
@@ -580,7 +591,7 @@ class AuthServiceRegisterTest {
         User result = authService.register(registerRequest);
 
         // Assert
-        assertThat(result.getPassword()).isEqualTo("   ");
+        assertThat(passwordHasher.matches("   ", result.getPassword())).isTrue();
     }
 
     @Test
@@ -667,4 +678,37 @@ class AuthServiceRegisterTest {
         // Assert
         assertThat(result.getReputationScore()).isEqualTo(0.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should check the database even when the Bloom filter has never seen the email")
+    void register_WithEmailUnknownToFilter_ShouldStillQueryByEmail() {
+        // Arrange - registered on another instance, so this filter never saw it
+        emailBloomFilter.rebuild(1, List.of("someone.else@example.com").iterator());
+        when(userRepository.findByEmail(registerRequest.getEmail()))
+                .thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.register(registerRequest))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should return conflict when the email is registered concurrently")
+    void register_WithConcurrentDuplicate_ShouldThrowConflict() {
+        // Arrange
+        when(userRepository.findByEmail(registerRequest.getEmail()))
+                .thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.register(registerRequest))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Email already exists")
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+    }
+}
@@ -7,13 +7,16 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -32,6 +35,15 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private SessionTokens sessionTokens = new SessionTokens("", Duration.ofHours(1), new TokenDenyList(100));
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(100, 0.01);
+
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(1_000, 2, 16, 5_000);
+
     @InjectMocks
     private AuthService authService;
 
@@ -42,6 +54,7 @@ class AuthServiceTest {
     @BeforeEach
     void setUp() {
         testUser = User.builder()
+                .id(UUID.randomUUID())
                 .firstName("John")
                 .lastName("Doe")
                 .email("john.doe@example.com")
@@ -0,0 +1,106 @@
+package com.toolshed.backend.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class BookingAdmissionTest {
+
+    private BookingAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        admission = new BookingAdmission(TransactionOperations.withoutTransaction());
+    }
+
+    // Two random tool ids that land on different stripes
+    private UUID[] toolsOnDifferentStripes() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        while (admission.lockFor(first) == admission.lockFor(second)) {
+            second = UUID.randomUUID();
+        }
+        return new UUID[] { first, second };
+    }
+
+    /** Starts an admission for the tool that holds its lock until released. */
+    private CompletableFuture<Void> holdLock(UUID toolId, CountDownLatch entered, CountDownLatch release) {
+        return CompletableFuture.runAsync(() -> admission.admit(toolId, () -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+    }
+
+    @Test
+    @DisplayName("Should return the admission result and release the lock")
+    void testAdmitReturnsResult() {
+        UUID toolId = UUID.randomUUID();
+
+        assertThat(admission.admit(toolId, () -> "ok")).isEqualTo("ok");
+        assertThat(admission.lockFor(toolId).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should release the lock when the admission throws")
+    void testLockReleasedOnFailure() {
+        UUID toolId = UUID.randomUUID();
+
+        try {
+            admission.admit(toolId, () -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+
+        assertThat(admission.lockFor(toolId).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should make a second admission for the same tool wait for the first")
+    void testSameToolIsSerialized() throws Exception {
+        UUID toolId = UUID.randomUUID();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = holdLock(toolId, entered, release);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> admission.admit(toolId, () -> "second"));
+        while (!admission.lockFor(toolId).hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        assertThat(second).isNotDone();
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("Should not block admissions for a different tool")
+    void testDifferentToolsRunInParallel() throws Exception {
+        UUID[] toolIds = toolsOnDifferentStripes();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = holdLock(toolIds[0], entered, release);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Completes while the first tool's lock is still held
+        assertThat(admission.admit(toolIds[1], () -> "other")).isEqualTo("other");
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,130 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.toolshed.backend.repository.BookingRepository;
+import com.toolshed.backend.repository.ToolRepository;
+import com.toolshed.backend.repository.enums.BookingStatus;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCompletionJobTest {
+
+    private static final Limit CHUNK = Limit.of(BookingCompletionJob.CHUNK_SIZE);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private WalletLedger walletLedger;
+
+    @Mock
+    private ToolRepository toolRepository;
+
+    @Mock
+    private AdminCounters adminCounters;
+
+    private BookingCompletionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new BookingCompletionJob(bookingRepository, walletLedger, toolRepository,
+                TransactionOperations.withoutTransaction(), adminCounters);
+    }
+
+    private List<UUID> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    @Test
+    @DisplayName("Should do nothing but one id query when no booking has expired")
+    void testNothingToDo() {
+        when(bookingRepository.findExpiredApprovedIds(any(LocalDate.class), eq(CHUNK)))
+                .thenReturn(Collections.emptyList());
+
+        BookingCompletionJob.Run run = job.completeExpiredBookings();
+
+        assertThat(run.bookingsCompleted()).isZero();
+        assertThat(run.chunks()).isZero();
+        assertThat(job.getLastRun()).isEqualTo(run);
+        verify(bookingRepository, never()).completeApproved(anyCollection());
+        verify(walletLedger, never()).releaseDeposits(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should release deposits before completing, then refresh tools, per chunk")
+    void testStatementOrder() {
+        List<UUID> chunk = ids(3);
+        LocalDate today = LocalDate.now();
+        when(bookingRepository.findExpiredApprovedIds(today, CHUNK)).thenReturn(chunk);
+        when(walletLedger.releaseDeposits(chunk)).thenReturn(1);
+        when(bookingRepository.completeApproved(chunk)).thenReturn(3);
+        when(toolRepository.refreshActiveForBookings(chunk, today)).thenReturn(2);
+
+        BookingCompletionJob.Run run = job.completeExpiredBookings();
+
+        InOrder order = inOrder(walletLedger, bookingRepository, toolRepository);
+        order.verify(walletLedger).releaseDeposits(chunk);
+        order.verify(bookingRepository).completeApproved(chunk);
+        order.verify(toolRepository).refreshActiveForBookings(chunk, today);
+        assertThat(run).extracting(BookingCompletionJob.Run::bookingsCompleted,
+                BookingCompletionJob.Run::ownersDebited, BookingCompletionJob.Run::toolsRefreshed,
+                BookingCompletionJob.Run::chunks)
+                .containsExactly(3, 1, 2, 1);
+        verify(adminCounters).bookingsMoved(BookingStatus.APPROVED, BookingStatus.COMPLETED, 3);
+        // A partial chunk means the backlog is drained
+        verify(bookingRepository, times(1)).findExpiredApprovedIds(any(LocalDate.class), eq(CHUNK));
+    }
+
+    @Test
+    @DisplayName("Should keep reading chunks while they come back full")
+    void testDrainsBacklogInChunks() {
+        List<UUID> first = ids(BookingCompletionJob.CHUNK_SIZE);
+        List<UUID> second = ids(10);
+        when(bookingRepository.findExpiredApprovedIds(any(LocalDate.class), eq(CHUNK)))
+                .thenReturn(first)
+                .thenReturn(second);
+        when(bookingRepository.completeApproved(first)).thenReturn(first.size());
+        when(bookingRepository.completeApproved(second)).thenReturn(second.size());
+
+        BookingCompletionJob.Run run = job.completeExpiredBookings();
+
+        assertThat(run.bookingsCompleted()).isEqualTo(BookingCompletionJob.CHUNK_SIZE + 10);
+        assertThat(run.chunks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should stop when a full chunk changes nothing instead of re-reading the same ids")
+    void testStopsWhenNothingChanges() {
+        List<UUID> full = ids(BookingCompletionJob.CHUNK_SIZE);
+        when(bookingRepository.findExpiredApprovedIds(any(LocalDate.class), eq(CHUNK))).thenReturn(full);
+        when(bookingRepository.completeApproved(full)).thenReturn(0);
+
+        BookingCompletionJob.Run run = job.completeExpiredBookings();
+
+        assertThat(run.chunks()).isEqualTo(1);
+        verify(bookingRepository, times(1)).findExpiredApprovedIds(any(LocalDate.class), eq(CHUNK));
+    }
+}
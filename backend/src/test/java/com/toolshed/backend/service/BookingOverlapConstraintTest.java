@@ -0,0 +1,97 @@
+package com.toolshed.backend.service;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BookingOverlapConstraintTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private BookingOverlapConstraint overlapConstraint;
+
+    @SuppressWarnings("unchecked")
+    private void databaseIs(String product) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+    }
+
+    @Test
+    @DisplayName("Should leave non-PostgreSQL databases untouched")
+    void testSkipsOtherDatabases() {
+        databaseIs("H2");
+
+        assertThat(overlapConstraint.install()).isFalse();
+        assertThat(overlapConstraint.isEnforced()).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Should add the daterange column and exclusion constraint on PostgreSQL")
+    void testInstallsOnPostgres() {
+        databaseIs("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(BookingOverlapConstraint.CONSTRAINT_NAME)))
+                .thenReturn(0);
+
+        assertThat(overlapConstraint.install()).isTrue();
+        assertThat(overlapConstraint.isEnforced()).isTrue();
+        verify(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+        verify(jdbcTemplate).execute(contains("daterange(start_date, end_date, '[]')"));
+        verify(jdbcTemplate).execute(contains("EXCLUDE USING gist (tool_id WITH =, period WITH &&)"));
+    }
+
+    @Test
+    @DisplayName("Should not re-create an existing constraint")
+    void testInstallIsIdempotent() {
+        databaseIs("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(BookingOverlapConstraint.CONSTRAINT_NAME)))
+                .thenReturn(1);
+
+        assertThat(overlapConstraint.install()).isTrue();
+        verify(jdbcTemplate, never()).execute(contains("EXCLUDE USING gist"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to overlap queries when the DDL fails")
+    void testFallsBackOnFailure() {
+        databaseIs("PostgreSQL");
+        doThrow(new BadSqlGrammarException("create extension", "CREATE EXTENSION", new SQLException("denied")))
+                .when(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+
+        assertThat(overlapConstraint.install()).isFalse();
+        assertThat(overlapConstraint.isEnforced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should recognise exclusion violations by SQLSTATE anywhere in the cause chain")
+    void testIsViolation() {
+        SQLException exclusion = new SQLException("conflicting key value", BookingOverlapConstraint.EXCLUSION_VIOLATION);
+        SQLException uniqueKey = new SQLException("duplicate key value", "23505");
+
+        assertThat(BookingOverlapConstraint.isViolation(
+                new DataIntegrityViolationException("insert", new RuntimeException(exclusion)))).isTrue();
+        assertThat(BookingOverlapConstraint.isViolation(
+                new DataIntegrityViolationException("insert", uniqueKey))).isFalse();
+        assertThat(BookingOverlapConstraint.isViolation(null)).isFalse();
+    }
+}
@@ -1,5 +1,6 @@
 package com.toolshed.backend.service;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Collections;
@@ -20,6 +21,7 @@ import com.toolshed.backend.repository.entities.User;
 import com.toolshed.backend.repository.enums.BookingStatus;
 import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.ReviewType;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,9 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,11 +43,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
 
+    // Models the balance column as read from the database; in the application only WalletLedger moves it
+    private static void storedBalance(User user, double euros) {
+        ReflectionTestUtils.setField(user, "walletBalanceCents", Math.round(euros * 100));
+    }
+
         @Mock
         private BookingRepository bookingRepository;
 
@@ -57,6 +71,15 @@ class BookingServiceImplTest {
         @Mock
         private SubscriptionService subscriptionService;
 
+        @Mock
+        private BookingOverlapConstraint overlapConstraint;
+
+        @Mock
+        private WalletLedger walletLedger;
+
+        @Spy
+        private BookingAdmission bookingAdmission = new BookingAdmission(TransactionOperations.withoutTransaction());
+
         @InjectMocks
         private BookingServiceImpl bookingService;
 
@@ -237,6 +260,118 @@ class BookingServiceImplTest {
                 assertThat(response.getId()).isEqualTo(saved.getId());
         }
 
+        @Test
+        @DisplayName("Should run booking creation and approval through the tool's admission lock")
+        void createAndApproveGoThroughAdmission() {
+                LocalDate start = LocalDate.now().plusDays(1);
+                when(toolRepository.findById(tool.getId())).thenReturn(Optional.of(tool));
+                when(userRepository.findById(renter.getId())).thenReturn(Optional.of(renter));
+                when(bookingRepository.findOverlappingBookings(tool.getId(), start, start))
+                                .thenReturn(Collections.emptyList());
+                when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+                        Booking booking = invocation.getArgument(0);
+                        booking.setId(UUID.randomUUID());
+                        return booking;
+                });
+
+                BookingResponse created = bookingService.createBooking(CreateBookingRequest.builder()
+                                .toolId(tool.getId())
+                                .renterId(renter.getId())
+                                .startDate(start)
+                                .endDate(start)
+                                .build());
+
+                Booking booking = new Booking();
+                booking.setId(created.getId());
+                booking.setTool(tool);
+                booking.setRenter(renter);
+                booking.setOwner(tool.getOwner());
+                booking.setStatus(BookingStatus.PENDING);
+                booking.setStartDate(start);
+                booking.setEndDate(start);
+                when(bookingRepository.findById(created.getId())).thenReturn(Optional.of(booking));
+                when(bookingRepository.findOverlappingBookings(tool.getId(), start, start))
+                                .thenReturn(List.of(booking));
+
+                bookingService.updateBookingStatus(created.getId(), BookingStatus.APPROVED);
+
+                verify(bookingAdmission, times(2)).admit(eq(tool.getId()), any());
+        }
+
+        @Test
+        @DisplayName("Should validate dates before taking the admission lock")
+        void createBookingInvalidDatesSkipAdmission() {
+                CreateBookingRequest request = CreateBookingRequest.builder()
+                                .toolId(tool.getId())
+                                .renterId(renter.getId())
+                                .startDate(LocalDate.now().minusDays(1))
+                                .endDate(LocalDate.now())
+                                .build();
+
+                assertThatThrownBy(() -> bookingService.createBooking(request))
+                                .isInstanceOf(ResponseStatusException.class);
+                verify(bookingAdmission, never()).admit(any(), any());
+        }
+
+        private CreateBookingRequest requestFor(LocalDate start, LocalDate end) {
+                return CreateBookingRequest.builder()
+                                .toolId(tool.getId())
+                                .renterId(renter.getId())
+                                .startDate(start)
+                                .endDate(end)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should skip the overlap read when the database enforces the exclusion constraint")
+        void createBookingWithDatabaseConstraintSkipsOverlapQuery() {
+                LocalDate start = LocalDate.now().plusDays(1);
+                when(overlapConstraint.isEnforced()).thenReturn(true);
+                when(toolRepository.findById(tool.getId())).thenReturn(Optional.of(tool));
+                when(userRepository.findById(renter.getId())).thenReturn(Optional.of(renter));
+                when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+                bookingService.createBooking(requestFor(start, start.plusDays(1)));
+
+                verify(bookingRepository, never()).findOverlappingBookings(any(), any(), any());
+                verify(bookingRepository).flush();
+        }
+
+        @Test
+        @DisplayName("Should map an exclusion constraint violation to 409 Conflict")
+        void createBookingConstraintViolationIsConflict() {
+                LocalDate start = LocalDate.now().plusDays(1);
+                when(overlapConstraint.isEnforced()).thenReturn(true);
+                when(toolRepository.findById(tool.getId())).thenReturn(Optional.of(tool));
+                when(userRepository.findById(renter.getId())).thenReturn(Optional.of(renter));
+                when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                doThrow(new DataIntegrityViolationException("insert",
+                                new SQLException("conflicting key value", BookingOverlapConstraint.EXCLUSION_VIOLATION)))
+                                .when(bookingRepository).flush();
+
+                assertThatThrownBy(() -> bookingService.createBooking(requestFor(start, start)))
+                                .isInstanceOf(ResponseStatusException.class)
+                                .extracting("statusCode")
+                                .isEqualTo(HttpStatus.CONFLICT);
+        }
+
+        @Test
+        @DisplayName("Should rethrow integrity violations unrelated to booking overlaps")
+        void createBookingOtherIntegrityViolationIsRethrown() {
+                LocalDate start = LocalDate.now().plusDays(1);
+                when(toolRepository.findById(tool.getId())).thenReturn(Optional.of(tool));
+                when(userRepository.findById(renter.getId())).thenReturn(Optional.of(renter));
+                when(bookingRepository.findOverlappingBookings(tool.getId(), start, start))
+                                .thenReturn(Collections.emptyList());
+                when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                doThrow(new DataIntegrityViolationException("insert",
+                                new SQLException("null value", "23502")))
+                                .when(bookingRepository).flush();
+
+                assertThatThrownBy(() -> bookingService.createBooking(requestFor(start, start)))
+                                .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
         @Test
         @DisplayName("Should update booking status from PENDING to APPROVED")
         void updateBookingStatusFromPending() {
@@ -450,121 +585,6 @@ class BookingServiceImplTest {
                 assertThat(response.getStatus()).isEqualTo(BookingStatus.APPROVED);
         }
 
-        @Test
-        @DisplayName("Should mark expired approved bookings as completed and free tools")
-        void completeExpiredBookings() {
-                Tool rentedTool = new Tool();
-                rentedTool.setId(UUID.randomUUID());
-                rentedTool.setActive(false);
-                User owner = new User();
-                owner.setId(UUID.randomUUID());
-                User renterUser = new User();
-                renterUser.setId(UUID.randomUUID());
-
-                Booking expired = new Booking();
-                expired.setId(UUID.randomUUID());
-                expired.setTool(rentedTool);
-                expired.setOwner(owner);
-                expired.setRenter(renterUser);
-                expired.setStartDate(LocalDate.now().minusDays(5));
-                expired.setEndDate(LocalDate.now().minusDays(1));
-                expired.setStatus(BookingStatus.APPROVED);
-                expired.setPaymentStatus(PaymentStatus.PENDING);
-
-                when(bookingRepository.findByStatusAndEndDateBefore(eq(BookingStatus.APPROVED), any(LocalDate.class)))
-                                .thenReturn(List.of(expired));
-                when(bookingRepository.countActiveApprovedBookingsForToolOnDate(eq(rentedTool.getId()),
-                                any(LocalDate.class)))
-                                .thenReturn(0L);
-
-                bookingService.completeExpiredBookings();
-
-                assertThat(expired.getStatus()).isEqualTo(BookingStatus.COMPLETED);
-                verify(bookingRepository).save(expired);
-                assertThat(rentedTool.isActive()).isTrue();
-                verify(toolRepository).save(rentedTool);
-        }
-
-        @Test
-        @DisplayName("Should remove security deposit from owner wallet when booking completes")
-        void completeExpiredBookingsRemovesDepositFromOwnerWallet() {
-                // Arrange
-                Tool rentedTool = new Tool();
-                rentedTool.setId(UUID.randomUUID());
-                rentedTool.setActive(false);
-
-                User owner = new User();
-                owner.setId(UUID.randomUUID());
-                owner.setWalletBalance(108.0); // €100 rental + €8 deposit
-
-                User renterUser = new User();
-                renterUser.setId(UUID.randomUUID());
-
-                Booking expired = new Booking();
-                expired.setId(UUID.randomUUID());
-                expired.setTool(rentedTool);
-                expired.setOwner(owner);
-                expired.setRenter(renterUser);
-                expired.setStartDate(LocalDate.now().minusDays(5));
-                expired.setEndDate(LocalDate.now().minusDays(1));
-                expired.setStatus(BookingStatus.APPROVED);
-                expired.setPaymentStatus(PaymentStatus.COMPLETED);
-                expired.setDepositAmount(8.0); // €8 deposit
-
-                when(bookingRepository.findByStatusAndEndDateBefore(eq(BookingStatus.APPROVED), any(LocalDate.class)))
-                                .thenReturn(List.of(expired));
-                when(bookingRepository.countActiveApprovedBookingsForToolOnDate(eq(rentedTool.getId()),
-                                any(LocalDate.class)))
-                                .thenReturn(0L);
-
-                // Act
-                bookingService.completeExpiredBookings();
-
-                // Assert - deposit should be removed from owner wallet
-                assertThat(owner.getWalletBalance()).isEqualTo(100.0); // 108 - 8 = 100
-                verify(userRepository).save(owner);
-        }
-
-        @Test
-        @DisplayName("Should not remove deposit if booking has no deposit amount")
-        void completeExpiredBookingsNoDepositToRemove() {
-                // Arrange
-                Tool rentedTool = new Tool();
-                rentedTool.setId(UUID.randomUUID());
-                rentedTool.setActive(false);
-
-                User owner = new User();
-                owner.setId(UUID.randomUUID());
-                owner.setWalletBalance(100.0);
-
-                User renterUser = new User();
-                renterUser.setId(UUID.randomUUID());
-
-                Booking expired = new Booking();
-                expired.setId(UUID.randomUUID());
-                expired.setTool(rentedTool);
-                expired.setOwner(owner);
-                expired.setRenter(renterUser);
-                expired.setStartDate(LocalDate.now().minusDays(5));
-                expired.setEndDate(LocalDate.now().minusDays(1));
-                expired.setStatus(BookingStatus.APPROVED);
-                expired.setPaymentStatus(PaymentStatus.COMPLETED);
-                expired.setDepositAmount(null); // No deposit
-
-                when(bookingRepository.findByStatusAndEndDateBefore(eq(BookingStatus.APPROVED), any(LocalDate.class)))
-                                .thenReturn(List.of(expired));
-                when(bookingRepository.countActiveApprovedBookingsForToolOnDate(eq(rentedTool.getId()),
-                                any(LocalDate.class)))
-                                .thenReturn(0L);
-
-                // Act
-                bookingService.completeExpiredBookings();
-
-                // Assert - wallet balance unchanged, user not saved for wallet update
-                assertThat(owner.getWalletBalance()).isEqualTo(100.0);
-                verify(userRepository, never()).save(owner);
-        }
-
         @Test
         @DisplayName("Should reject past end date")
         void createBookingPastEndDate() {
@@ -611,28 +631,6 @@ class BookingServiceImplTest {
                                 .isEqualTo(HttpStatus.BAD_REQUEST);
         }
 
-        @Test
-        @DisplayName("Should handle expired booking with null tool gracefully")
-        void completeExpiredBookingsWithNullTool() {
-                Booking expired = new Booking();
-                expired.setId(UUID.randomUUID());
-                expired.setTool(null);
-                expired.setOwner(tool.getOwner());
-                expired.setRenter(renter);
-                expired.setStartDate(LocalDate.now().minusDays(5));
-                expired.setEndDate(LocalDate.now().minusDays(1));
-                expired.setStatus(BookingStatus.APPROVED);
-
-                when(bookingRepository.findByStatusAndEndDateBefore(eq(BookingStatus.APPROVED), any(LocalDate.class)))
-                                .thenReturn(List.of(expired));
-
-                bookingService.completeExpiredBookings();
-
-                assertThat(expired.getStatus()).isEqualTo(BookingStatus.COMPLETED);
-                verify(bookingRepository).save(expired);
-                verify(toolRepository, never()).save(any(Tool.class));
-        }
-
         @Test
         @DisplayName("Should handle status update with null tool gracefully")
         void updateBookingStatusWithNullTool() {
@@ -1141,7 +1139,6 @@ class BookingServiceImplTest {
                 UUID bookingId = UUID.randomUUID();
                 UUID renterId = renter.getId();
                 User owner = tool.getOwner();
-                owner.setWalletBalance(0.0);
 
                 Booking booking = new Booking();
                 booking.setId(bookingId);
@@ -1165,6 +1162,7 @@ class BookingServiceImplTest {
                 assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
                 // No owner compensation for 100% refund
                 verify(payoutRepository, never()).save(any());
+                verifyNoInteractions(walletLedger);
         }
 
         @Test
@@ -1173,7 +1171,7 @@ class BookingServiceImplTest {
                 UUID bookingId = UUID.randomUUID();
                 UUID renterId = renter.getId();
                 User owner = tool.getOwner();
-                owner.setWalletBalance(100.0);
+                storedBalance(owner, 100.0);
 
                 Booking booking = new Booking();
                 booking.setId(bookingId);
@@ -1188,13 +1186,13 @@ class BookingServiceImplTest {
 
                 when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
                 when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArguments()[0]);
-                when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
 
                 CancelBookingResponse response = bookingService.cancelBooking(bookingId, renterId);
 
                 assertThat(response.getRefundPercentage()).isEqualTo(50);
                 assertThat(response.getRefundAmount()).isEqualTo(50.0);
-                assertThat(owner.getWalletBalance()).isEqualTo(150.0); // 100 + 50 compensation
+                // 50 compensation credited through the ledger
+                verify(walletLedger).credit(owner, 5000, WalletEntryType.CANCELLATION_FEE, bookingId);
                 verify(payoutRepository).save(any());
         }
 
@@ -1204,7 +1202,6 @@ class BookingServiceImplTest {
                 UUID bookingId = UUID.randomUUID();
                 UUID renterId = renter.getId();
                 User owner = tool.getOwner();
-                owner.setWalletBalance(0.0);
 
                 Booking booking = new Booking();
                 booking.setId(bookingId);
@@ -1218,13 +1215,12 @@ class BookingServiceImplTest {
 
                 when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
                 when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArguments()[0]);
-                when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
 
                 CancelBookingResponse response = bookingService.cancelBooking(bookingId, renterId);
 
                 assertThat(response.getRefundPercentage()).isEqualTo(25);
                 assertThat(response.getRefundAmount()).isEqualTo(25.0);
-                assertThat(owner.getWalletBalance()).isEqualTo(75.0);
+                verify(walletLedger).credit(owner, 7500, WalletEntryType.CANCELLATION_FEE, bookingId);
         }
 
         @Test
@@ -1233,7 +1229,7 @@ class BookingServiceImplTest {
                 UUID bookingId = UUID.randomUUID();
                 UUID renterId = renter.getId();
                 User owner = tool.getOwner();
-                owner.setWalletBalance(50.0);
+                storedBalance(owner, 50.0);
 
                 Booking booking = new Booking();
                 booking.setId(bookingId);
@@ -1248,13 +1244,12 @@ class BookingServiceImplTest {
 
                 when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
                 when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArguments()[0]);
-                when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
 
                 CancelBookingResponse response = bookingService.cancelBooking(bookingId, renterId);
 
                 assertThat(response.getRefundPercentage()).isEqualTo(0);
                 assertThat(response.getRefundAmount()).isEqualTo(0.0);
-                assertThat(owner.getWalletBalance()).isEqualTo(150.0); // 50 + 100 compensation
+                verify(walletLedger).credit(owner, 10000, WalletEntryType.CANCELLATION_FEE, bookingId);
         }
 
         @Test
@@ -1308,7 +1303,6 @@ class BookingServiceImplTest {
                 UUID bookingId = UUID.randomUUID();
                 UUID renterId = renter.getId();
                 User owner = tool.getOwner();
-                owner.setWalletBalance(0.0);
                 tool.setActive(false);
 
                 Booking booking = new Booking();
@@ -0,0 +1,191 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailBloomFilterTest {
+
+    private static Iterator<String> emails(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "user" + i + "@example.com").iterator();
+    }
+
+    @Test
+    @DisplayName("Should treat every email as a possible hit until built")
+    void testNotReady() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("anyone@example.com")).isTrue();
+
+        filter.recordLookup(false);
+        assertThat(filter.stats().falsePositives()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish its stats as meters")
+    void testBindTo() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.0001);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+        assertThat(registry.get("toolshed.email.filter.ready").gauge().value()).isZero();
+
+        filter.rebuild(10, emails(0, 10));
+        filter.mightContain("user1@example.com");
+        filter.recordLookup(false);
+        filter.mightContain("nobody@example.com");
+
+        assertThat(registry.get("toolshed.email.filter.ready").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("toolshed.email.filter.bits").gauge().value()).isEqualTo(filter.stats().bits());
+        assertThat(registry.get("toolshed.email.filter.lookups").tag("result", "possible_hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("toolshed.email.filter.lookups").tag("result", "definite_miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("toolshed.email.filter.false.positives").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never report a registered email as absent")
+    void testNoFalseNegatives() {
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        filter.rebuild(1_000, emails(0, 1_000));
+
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("user" + i + "@example.com")))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Should be case-sensitive like the email column")
+    void testCaseSensitive() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.0001);
+        filter.rebuild(1, List.of("Test@Example.com").iterator());
+
+        assertThat(filter.mightContain("Test@Example.com")).isTrue();
+        assertThat(filter.mightContain("test@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate close to the configured one")
+    void testFalsePositiveRate() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        filter.rebuild(5_000, emails(0, 10_000));
+
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(i -> filter.mightContain("user" + i + "@example.com"))
+                .peek(i -> filter.recordLookup(false))
+                .count();
+
+        EmailBloomFilter.Stats stats = filter.stats();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(stats.observedFalsePositiveRate()).isEqualTo(falsePositives / 100_000.0);
+        assertThat(stats.expectedFalsePositiveRate()).isBetween(0.001, 0.02);
+        assertThat(stats.definiteMisses() + stats.falsePositives()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("Should size the filter for at least twice the current emails")
+    void testSizing() {
+        EmailBloomFilter small = new EmailBloomFilter(10, 0.01);
+        small.rebuild(1_000, emails(0, 1_000));
+
+        // ~9.6 bits per entry at 1%, for 2,000 entries
+        assertThat(small.stats().bits()).isGreaterThanOrEqualTo(19_000);
+        assertThat(small.stats().hashes()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should include emails added after the build and during a rebuild")
+    void testAdd() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.0001);
+        filter.rebuild(0, List.<String>of().iterator());
+        filter.add("new@example.com");
+        assertThat(filter.mightContain("new@example.com")).isTrue();
+
+        Iterator<String> source = emails(0, 2);
+        filter.rebuild(2, new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                // A registration landing while the scan is running
+                filter.add("concurrent@example.com");
+                return source.next();
+            }
+        });
+
+        assertThat(filter.mightContain("concurrent@example.com")).isTrue();
+        assertThat(filter.mightContain("user1@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep an email added while a rebuild is running or being published")
+    void testAddRacingRebuild() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService rebuilder = Executors.newSingleThreadExecutor();
+        // Long emails make each add slow enough for rebuilds to land in the middle of it
+        String padding = "x".repeat(20_000);
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                EmailBloomFilter filter = new EmailBloomFilter(100, 0.0001);
+                filter.rebuild(0, List.<String>of().iterator());
+                // Stands in for the users table; the listener adds an email before its insert commits
+                Queue<String> table = new ConcurrentLinkedQueue<>();
+                String email = round + padding + "@example.com";
+                AtomicBoolean adding = new AtomicBoolean();
+                AtomicBoolean scannedBeforeAdd = new AtomicBoolean();
+
+                Future<?> rebuild = rebuilder.submit(() -> {
+                    start.await();
+                    filter.rebuild(table.size(), new Iterator<>() {
+                        private Iterator<String> scan;
+
+                        @Override
+                        public boolean hasNext() {
+                            if (scan == null) {
+                                scannedBeforeAdd.set(!adding.get());
+                                scan = table.iterator();
+                            }
+                            return scan.hasNext();
+                        }
+
+                        @Override
+                        public String next() {
+                            return scan.next();
+                        }
+                    });
+                    return null;
+                });
+                start.await();
+                adding.set(true);
+                filter.add(email);
+                table.add(email);
+                rebuild.get();
+
+                // A scan that starts once the add is under way may miss the email until its insert
+                // commits (the listener's accepted window); one already running must get it from add()
+                if (scannedBeforeAdd.get()) {
+                    assertThat(filter.mightContain(email)).as("round %d", round).isTrue();
+                }
+            }
+        } finally {
+            rebuilder.shutdownNow();
+        }
+    }
+}
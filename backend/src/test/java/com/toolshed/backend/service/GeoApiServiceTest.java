@@ -1,10 +1,20 @@
 package com.toolshed.backend.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,11 +22,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.toolshed.backend.dto.MunicipalitySuggestionResponse;
+
 @ExtendWith(MockitoExtension.class)
 class GeoApiServiceTest {
 
@@ -28,7 +41,13 @@ class GeoApiServiceTest {
     @TempDir
     Path tempDir;
 
-    private static final String DISTRICTS_JSON = "[{\"distrito\":\"Aveiro\"},{\"distrito\":\"Beja\"},{\"distrito\":\"Lisboa\"}]";
+    private static final String DISTRICTS_URL = "https://json.geoapi.pt/distritos/municipios";
+
+    private static final String DISTRICTS_JSON = "["
+            + "{\"distrito\":\"Aveiro\",\"municipios\":[{\"nome\":\"Águeda\"},{\"nome\":\"Aveiro\"},{\"nome\":\"Ílhavo\"}]},"
+            + "{\"distrito\":\"Beja\",\"municipios\":[{\"nome\":\"Almodôvar\"},{\"nome\":\"Beja\"}]},"
+            + "{\"distrito\":\"Lisboa\",\"municipios\":[{\"nome\":\"Lisboa\"},{\"nome\":\"Loures\"},{\"nome\":\"Alenquer\"}]}"
+            + "]";
 
     @BeforeEach
     void setUp() throws IOException {
@@ -37,7 +56,7 @@ class GeoApiServiceTest {
         geoApiService = new GeoApiService(httpClient);
 
         // Setup default mock responses using lenient to avoid unnecessary stubbing errors
-        lenient().when(httpClient.doHttpGet("https://json.geoapi.pt/distritos")).thenReturn(DISTRICTS_JSON);
+        lenient().when(httpClient.doHttpGet(DISTRICTS_URL)).thenReturn(DISTRICTS_JSON);
     }
 
     @Test
@@ -49,7 +68,7 @@ class GeoApiServiceTest {
         // Assert
         assertThat(districts).hasSize(3);
         assertThat(districts).contains("Aveiro", "Beja", "Lisboa");
-        verify(httpClient, times(1)).doHttpGet("https://json.geoapi.pt/distritos");
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
     }
 
     @Test
@@ -61,7 +80,7 @@ class GeoApiServiceTest {
 
         // Assert
         assertThat(districts1).isEqualTo(districts2);
-        verify(httpClient, times(1)).doHttpGet("https://json.geoapi.pt/distritos");
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
     }
 
     @Test
@@ -85,7 +104,7 @@ class GeoApiServiceTest {
     @DisplayName("Should return empty list when API returns error for districts")
     void testGetDistrictsWithApiError() throws IOException {
         // Arrange
-        when(httpClient.doHttpGet("https://json.geoapi.pt/distritos")).thenThrow(new IOException("API Error"));
+        when(httpClient.doHttpGet(DISTRICTS_URL)).thenThrow(new IOException("API Error"));
 
         // Act
         List<String> districts = geoApiService.getAllDistricts();
@@ -93,4 +112,236 @@ class GeoApiServiceTest {
         // Assert
         assertThat(districts).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should match districts ignoring case, accents and surrounding spaces")
+    void testDistrictExistsIgnoresCaseAndAccents() throws IOException {
+        when(httpClient.doHttpGet(DISTRICTS_URL))
+                .thenReturn("[{\"distrito\":\"Évora\"},{\"distrito\":\"Santarém\"}]");
+
+        assertThat(geoApiService.districtExists("Évora")).isTrue();
+        assertThat(geoApiService.districtExists("evora")).isTrue();
+        assertThat(geoApiService.districtExists(" SANTAREM ")).isTrue();
+        assertThat(geoApiService.districtExists("Santa")).isFalse();
+        assertThat(geoApiService.districtExists(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should share one immutable list between callers")
+    void testGetAllDistrictsIsImmutable() {
+        List<String> districts = geoApiService.getAllDistricts();
+
+        assertThat(geoApiService.getAllDistricts()).isSameAs(districts);
+        assertThatThrownBy(() -> districts.add("Porto")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve stale districts while refreshing in the background")
+    void testStaleWhileRevalidate() throws IOException {
+        // Zero TTL: every snapshot is stale; refreshes run inline to keep the test deterministic
+        GeoApiService service = new GeoApiService(httpClient, Duration.ZERO, Runnable::run, fixedClock());
+        when(httpClient.doHttpGet(DISTRICTS_URL))
+                .thenReturn(DISTRICTS_JSON, "[{\"distrito\":\"Porto\"}]");
+
+        assertThat(service.getAllDistricts()).containsExactly("Aveiro", "Beja", "Lisboa");
+        // Stale: answered from the old snapshot, refresh triggered
+        assertThat(service.getAllDistricts()).containsExactly("Aveiro", "Beja", "Lisboa");
+        assertThat(service.getAllDistricts()).containsExactly("Porto");
+        assertThat(service.districtExists("Porto")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep serving cached districts when a refresh fails")
+    void testRefreshFailureKeepsStaleData() throws IOException {
+        GeoApiService service = new GeoApiService(httpClient, Duration.ZERO, Runnable::run, fixedClock());
+        when(httpClient.doHttpGet(DISTRICTS_URL))
+                .thenReturn(DISTRICTS_JSON)
+                .thenThrow(new IOException("API Error"));
+
+        service.getAllDistricts();
+        assertThat(service.getAllDistricts()).hasSize(3);
+        // The failed refresh is not retried before RETRY_AFTER
+        assertThat(service.districtExists("Lisboa")).isTrue();
+        verify(httpClient, times(2)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should not call the API again right after a failed first fetch")
+    void testColdFailureIsNotRetriedPerRequest() throws IOException {
+        GeoApiService service = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run, fixedClock());
+        when(httpClient.doHttpGet(DISTRICTS_URL)).thenThrow(new IOException("API Error"));
+
+        assertThat(service.getAllDistricts()).isEmpty();
+        assertThat(service.districtExists("Aveiro")).isFalse();
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should fetch again on explicit load after a failed first fetch")
+    void testLoadDistrictsIgnoresRetryDelay() throws IOException {
+        GeoApiService service = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run, fixedClock());
+        when(httpClient.doHttpGet(DISTRICTS_URL))
+                .thenThrow(new IOException("API Error"))
+                .thenReturn(DISTRICTS_JSON);
+
+        assertThat(service.getAllDistricts()).isEmpty();
+        assertThat(service.loadDistricts()).isTrue();
+        assertThat(service.loadDistricts()).isTrue();
+        assertThat(service.districtExists("Aveiro")).isTrue();
+        verify(httpClient, times(2)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should count held districts without fetching them")
+    void testCachedDistrictCount() throws IOException {
+        GeoApiService service = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run, fixedClock());
+
+        assertThat(service.cachedDistrictCount()).isZero();
+        verify(httpClient, never()).doHttpGet(DISTRICTS_URL);
+
+        service.loadDistricts();
+        assertThat(service.cachedDistrictCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should load districts saved on disk by a previous instance")
+    void testLoadsFromDiskCache() throws IOException {
+        geoApiService.getAllDistricts();
+
+        GeoApiService restarted = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run,
+                Clock.systemUTC());
+
+        assertThat(restarted.districtExists("Beja")).isTrue();
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should fold names to lower case without accents")
+    void testFold() {
+        assertThat(GeoApiService.fold("  Évora ")).isEqualTo("evora");
+        assertThat(GeoApiService.fold("BRAGANÇA")).isEqualTo("braganca");
+    }
+
+    @Test
+    @DisplayName("Should list the municipalities of a district")
+    void testGetMunicipalities() {
+        assertThat(geoApiService.getMunicipalities("Aveiro")).containsExactly("Águeda", "Aveiro", "Ílhavo");
+        assertThat(geoApiService.getMunicipalities("lisboa")).containsExactly("Lisboa", "Loures", "Alenquer");
+        assertThat(geoApiService.getMunicipalities("Porto")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find the district of a municipality ignoring case and accents")
+    void testFindDistrictOfMunicipality() {
+        assertThat(geoApiService.findDistrictOfMunicipality("Ílhavo")).contains("Aveiro");
+        assertThat(geoApiService.findDistrictOfMunicipality("almodovar")).contains("Beja");
+        assertThat(geoApiService.findDistrictOfMunicipality("Sintra")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should autocomplete municipalities alphabetically up to the limit")
+    void testAutocompleteMunicipalities() {
+        assertThat(geoApiService.autocompleteMunicipalities("al", 10))
+                .extracting(MunicipalitySuggestionResponse::getMunicipality)
+                .containsExactly("Alenquer", "Almodôvar");
+        assertThat(geoApiService.autocompleteMunicipalities("A", 2))
+                .containsExactly(new MunicipalitySuggestionResponse("Águeda", "Aveiro"),
+                        new MunicipalitySuggestionResponse("Alenquer", "Lisboa"));
+        assertThat(geoApiService.autocompleteMunicipalities("L", 10))
+                .extracting(MunicipalitySuggestionResponse::getMunicipality)
+                .containsExactly("Lisboa", "Loures");
+        assertThat(geoApiService.autocompleteMunicipalities("x", 10)).isEmpty();
+        assertThat(geoApiService.autocompleteMunicipalities(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should serve the hierarchy from the disk cache without calling the API")
+    void testMunicipalitiesLoadedFromDiskCache() throws IOException {
+        geoApiService.getAllDistricts();
+
+        GeoApiService restarted = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run,
+                Clock.systemUTC());
+
+        assertThat(restarted.findDistrictOfMunicipality("Loures")).contains("Lisboa");
+        assertThat(restarted.autocompleteMunicipalities("ilh", 5)).hasSize(1);
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should refresh a disk cache written without municipalities")
+    void testLegacyDiskCacheIsRefreshed() throws IOException {
+        Files.writeString(tempDir.resolve("geo-cache.json"), "{\"districts\":[\"Aveiro\",\"Beja\"]}");
+
+        GeoApiService restarted = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run,
+                Clock.systemUTC());
+
+        // Old districts are served while the hierarchy is fetched
+        assertThat(restarted.getAllDistricts()).containsExactly("Aveiro", "Beja");
+        assertThat(restarted.getMunicipalities("Beja")).containsExactly("Almodôvar", "Beja");
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should persist fetched data as a binary snapshot")
+    void testSavesBinarySnapshot() throws IOException {
+        geoApiService.getAllDistricts();
+
+        assertThat(tempDir.resolve("geo-cache.bin")).exists();
+        assertThat(tempDir.resolve("geo-cache.json")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should import an exported JSON cache newer than the snapshot")
+    void testExportedJsonIsImported() throws IOException {
+        geoApiService.getAllDistricts();
+        Path json = tempDir.resolve("geo-cache.json");
+        try (OutputStream out = Files.newOutputStream(json)) {
+            geoApiService.exportCache(out);
+        }
+        // Hand-edit the export: drop a district
+        Files.writeString(json, Files.readString(json).replace("\"Beja\",", ""));
+        Files.setLastModifiedTime(json, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        GeoApiService restarted = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run,
+                Clock.systemUTC());
+
+        assertThat(restarted.getAllDistricts()).containsExactly("Aveiro", "Lisboa");
+        assertThat(restarted.findDistrictOfMunicipality("Loures")).contains("Lisboa");
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the API when the snapshot is corrupt")
+    void testCorruptSnapshotIsIgnored() throws IOException {
+        Files.writeString(tempDir.resolve("geo-cache.bin"), "garbage");
+
+        GeoApiService restarted = new GeoApiService(httpClient, Duration.ofHours(24), Runnable::run,
+                Clock.systemUTC());
+
+        assertThat(restarted.getAllDistricts()).hasSize(3);
+        verify(httpClient, times(1)).doHttpGet(DISTRICTS_URL);
+    }
+
+    @Test
+    @DisplayName("Should shut down its refresh executor when closed")
+    void testCloseShutsDownRefresher() {
+        ExecutorService refresher = Executors.newSingleThreadExecutor();
+        GeoApiService service = new GeoApiService(httpClient, Duration.ofHours(24), refresher, fixedClock());
+
+        service.close();
+
+        assertThat(refresher.isShutdown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the binary snapshot next to the configured JSON path")
+    void testSnapshotPath() {
+        assertThat(GeoApiService.snapshotPathFor(Path.of("/data/geo-cache.json")))
+                .isEqualTo(Path.of("/data/geo-cache.bin"));
+        assertThat(GeoApiService.snapshotPathFor(Path.of("cache"))).isEqualTo(Path.of("cache.bin"));
+    }
+
+    private static Clock fixedClock() {
+        return Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+    }
 }
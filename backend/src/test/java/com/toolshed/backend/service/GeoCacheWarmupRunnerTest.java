@@ -0,0 +1,84 @@
+package com.toolshed.backend.service;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.toolshed.backend.service.GeoCacheWarmupRunner.State;
+
+@ExtendWith(MockitoExtension.class)
+class GeoCacheWarmupRunnerTest {
+
+    @Mock
+    private IGeoApiService geoApiService;
+
+    @Test
+    @DisplayName("Should not touch GeoAPI when warm-up is disabled")
+    void testDisabled() {
+        GeoCacheWarmupRunner runner = new GeoCacheWarmupRunner(geoApiService, false, 0, 3, 0);
+
+        assertThat(runner.warm().state()).isEqualTo(State.DISABLED);
+        verifyNoInteractions(geoApiService);
+    }
+
+    @Test
+    @DisplayName("Should report loading until the warm-up has run")
+    void testLoadingBeforeWarmUp() {
+        GeoCacheWarmupRunner runner = new GeoCacheWarmupRunner(geoApiService, true, 0, 3, 0);
+
+        assertThat(runner.getStatus().state()).isEqualTo(State.LOADING);
+        assertThat(runner.getStatus().isWarm()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should be warm after a successful first attempt")
+    void testWarmOnFirstAttempt() {
+        when(geoApiService.loadDistricts()).thenReturn(true);
+        when(geoApiService.getAllDistricts()).thenReturn(List.of("Aveiro", "Beja"));
+        GeoCacheWarmupRunner runner = new GeoCacheWarmupRunner(geoApiService, true, 0, 3, 0);
+
+        GeoCacheWarmupRunner.Status status = runner.warm();
+
+        assertThat(status).isEqualTo(new GeoCacheWarmupRunner.Status(State.WARM, 1, 2));
+        assertThat(runner.getStatus().isWarm()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should retry failed attempts until one succeeds")
+    void testRetriesUntilSuccess() {
+        when(geoApiService.loadDistricts()).thenReturn(false, false, true);
+        when(geoApiService.getAllDistricts()).thenReturn(List.of("Aveiro"));
+        GeoCacheWarmupRunner runner = new GeoCacheWarmupRunner(geoApiService, true, 0, 3, 0);
+
+        assertThat(runner.warm()).isEqualTo(new GeoCacheWarmupRunner.Status(State.WARM, 3, 1));
+        verify(geoApiService, times(3)).loadDistricts();
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured retries")
+    void testFailsAfterRetries() {
+        when(geoApiService.loadDistricts()).thenReturn(false);
+        GeoCacheWarmupRunner runner = new GeoCacheWarmupRunner(geoApiService, true, 0, 2, 0);
+
+        assertThat(runner.warm()).isEqualTo(new GeoCacheWarmupRunner.Status(State.FAILED, 3, 0));
+        verify(geoApiService, times(3)).loadDistricts();
+    }
+
+    @Test
+    @DisplayName("Should double the backoff after every failure, up to the cap")
+    void testExponentialBackoff() {
+        assertThat(GeoCacheWarmupRunner.backoffMillis(1000, 1)).isEqualTo(1000);
+        assertThat(GeoCacheWarmupRunner.backoffMillis(1000, 2)).isEqualTo(2000);
+        assertThat(GeoCacheWarmupRunner.backoffMillis(1000, 3)).isEqualTo(4000);
+        assertThat(GeoCacheWarmupRunner.backoffMillis(1000, 40)).isEqualTo(GeoCacheWarmupRunner.MAX_BACKOFF_MS);
+    }
+}
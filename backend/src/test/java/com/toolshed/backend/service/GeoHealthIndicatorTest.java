@@ -0,0 +1,66 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.health.StatusAggregator;
+
+import com.toolshed.backend.service.GeoCacheWarmupRunner.State;
+
+@ExtendWith(MockitoExtension.class)
+class GeoHealthIndicatorTest {
+
+    @Mock
+    private IGeoApiService geoApiService;
+
+    @Mock
+    private GeoCacheWarmupRunner geoCacheWarmup;
+
+    @Test
+    @DisplayName("Should be up once districts are loaded, even with warm-up disabled")
+    void testUpWithDistricts() {
+        when(geoApiService.cachedDistrictCount()).thenReturn(18);
+        when(geoCacheWarmup.getStatus()).thenReturn(new GeoCacheWarmupRunner.Status(State.DISABLED, 0, 0));
+
+        Health health = new GeoHealthIndicator(geoApiService, geoCacheWarmup).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("districts", 18).containsEntry("warmup", State.DISABLED);
+    }
+
+    @Test
+    @DisplayName("Should recover after a failed warm-up once districts are loaded on demand")
+    void testUpAfterFailedWarmUp() {
+        when(geoApiService.cachedDistrictCount()).thenReturn(18);
+        when(geoCacheWarmup.getStatus()).thenReturn(new GeoCacheWarmupRunner.Status(State.FAILED, 4, 0));
+
+        Health health = new GeoHealthIndicator(geoApiService, geoCacheWarmup).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("warmup", State.FAILED).containsEntry("warmupAttempts", 4);
+    }
+
+    @Test
+    @DisplayName("Should report degraded while no districts are held, without loading them")
+    void testDegradedWithoutDistricts() {
+        when(geoApiService.cachedDistrictCount()).thenReturn(0);
+        when(geoCacheWarmup.getStatus()).thenReturn(new GeoCacheWarmupRunner.Status(State.LOADING, 1, 0));
+
+        Health health = new GeoHealthIndicator(geoApiService, geoCacheWarmup).health();
+
+        assertThat(health.getStatus()).isEqualTo(GeoHealthIndicator.DEGRADED);
+        assertThat(StatusAggregator.getDefault().getAggregateStatus(Status.UP, health.getStatus())).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("districts", 0).containsEntry("warmup", State.LOADING);
+        verify(geoApiService).cachedDistrictCount();
+        verifyNoMoreInteractions(geoApiService);
+    }
+}
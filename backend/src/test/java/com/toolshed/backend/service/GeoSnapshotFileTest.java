@@ -0,0 +1,123 @@
+package com.toolshed.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toolshed.backend.service.GeoSnapshotFile.GeoData;
+
+class GeoSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final List<String> DISTRICTS = List.of("Aveiro", "Évora");
+
+    private static Map<String, List<String>> municipalities() {
+        Map<String, List<String>> municipalities = new LinkedHashMap<>();
+        municipalities.put("Aveiro", List.of("Águeda", "Ílhavo"));
+        municipalities.put("Évora", List.of());
+        return municipalities;
+    }
+
+    @Test
+    @DisplayName("Should read back what was written")
+    void testRoundTrip() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+
+        GeoSnapshotFile.write(file, DISTRICTS, municipalities(), 1234L);
+        GeoData data = GeoSnapshotFile.read(file);
+
+        assertThat(data.districts()).containsExactlyElementsOf(DISTRICTS);
+        assertThat(data.municipalities()).containsExactlyEntriesOf(municipalities());
+        assertThat(data.writtenAt()).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("Should replace an existing snapshot without leaving temporary files")
+    void testReplaceLeavesNoTemporaryFiles() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+
+        GeoSnapshotFile.write(file, DISTRICTS, municipalities(), 1L);
+        GeoSnapshotFile.write(file, List.of("Beja"), Map.of("Beja", List.of("Beja")), 2L);
+
+        assertThat(GeoSnapshotFile.read(file).districts()).containsExactly("Beja");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose payload was altered")
+    void testCorruptPayload() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+        GeoSnapshotFile.write(file, DISTRICTS, municipalities(), 1L);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> GeoSnapshotFile.read(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated snapshot")
+    void testTruncated() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+        GeoSnapshotFile.write(file, DISTRICTS, municipalities(), 1L);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThatThrownBy(() -> GeoSnapshotFile.read(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot of another version")
+    void testOtherVersion() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+        GeoSnapshotFile.write(file, DISTRICTS, municipalities(), 1L);
+        byte[] bytes = Files.readAllBytes(file);
+        // Version follows the 4-byte magic
+        bytes[5] = (byte) (GeoSnapshotFile.VERSION + 1);
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> GeoSnapshotFile.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot")
+    void testNotASnapshot() throws IOException {
+        Path file = tempDir.resolve("geo-cache.bin");
+        Files.writeString(file, "{\"districts\":[\"Aveiro\"]}");
+
+        assertThatThrownBy(() -> GeoSnapshotFile.read(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should export and import the JSON layout")
+    void testJsonRoundTrip() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        GeoSnapshotFile.writeJson(out, objectMapper, DISTRICTS, municipalities());
+        GeoData data = GeoSnapshotFile.readJson(new ByteArrayInputStream(out.toByteArray()), objectMapper, 5L);
+
+        assertThat(data.districts()).containsExactlyElementsOf(DISTRICTS);
+        assertThat(data.municipalities()).containsExactlyEntriesOf(municipalities());
+        assertThat(data.writtenAt()).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,71 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class LegacyWalletMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LegacyWalletMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new LegacyWalletMigration(jdbcTemplate, TransactionOperations.withoutTransaction());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void databaseIs(String product) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+    }
+
+    @Test
+    @DisplayName("Should leave non-PostgreSQL databases untouched")
+    void testSkipsOtherDatabases() {
+        databaseIs("H2");
+
+        assertThat(migration.migrate()).isZero();
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    @DisplayName("Should do nothing once the old balance column is gone")
+    void testSkipsWhenAlreadyMigrated() {
+        databaseIs("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("wallet_balance"), eq(Integer.class))).thenReturn(0);
+
+        assertThat(migration.migrate()).isZero();
+        verify(jdbcTemplate, never()).update(anyString());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Should copy balances to cents, record opening entries and drop the old column")
+    void testMigratesLegacyBalances() {
+        databaseIs("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("wallet_balance"), eq(Integer.class))).thenReturn(1);
+        when(jdbcTemplate.update(anyString())).thenReturn(3);
+
+        assertThat(migration.migrate()).isEqualTo(3);
+        verify(jdbcTemplate).update(contains("SET wallet_balance_cents = ROUND(wallet_balance * 100)"));
+        verify(jdbcTemplate).update(contains("'OPENING_BALANCE'"));
+        verify(jdbcTemplate).execute("ALTER TABLE app_user DROP COLUMN wallet_balance");
+    }
+}
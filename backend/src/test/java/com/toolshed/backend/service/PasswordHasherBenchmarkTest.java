@@ -0,0 +1,73 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Login throughput per core at a given work factor: many concurrent callers
+ * (standing in for request threads) verify a password through one
+ * {@link PasswordHasher}, whose pool has one thread per core.
+ * PBKDF2 cost is linear in the iterations, so the result is also reported
+ * scaled to the configured production default; pass
+ * {@code -Dbenchmark.password.iterations=600000} to measure that directly.
+ * The assertion only checks that every login completed.
+ */
+class PasswordHasherBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasherBenchmarkTest.class);
+
+    private static final int PRODUCTION_ITERATIONS = 600_000;
+    private static final int CALLERS = 32;
+    private static final int LOGINS_PER_CALLER = 8;
+
+    @Test
+    @DisplayName("Should report login throughput per core")
+    void benchmarkLogins() throws Exception {
+        int iterations = Integer.getInteger("benchmark.password.iterations", 20_000);
+        int cores = Runtime.getRuntime().availableProcessors();
+        PasswordHasher hasher = new PasswordHasher(iterations, cores, CALLERS, 60_000);
+        String stored = hasher.hash("correct horse battery staple");
+        for (int i = 0; i < cores * 2; i++) {
+            hasher.matches("correct horse battery staple", stored);
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            long started = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int c = 0; c < CALLERS; c++) {
+                results.add(callers.submit(() -> {
+                    int ok = 0;
+                    for (int i = 0; i < LOGINS_PER_CALLER; i++) {
+                        ok += hasher.matches("correct horse battery staple", stored) ? 1 : 0;
+                    }
+                    return ok;
+                }));
+            }
+            int ok = 0;
+            for (Future<Integer> result : results) {
+                ok += result.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            double perCore = ok / seconds / cores;
+
+            logger.info("PasswordHasher: {} iterations, {} cores: {} logins/s per core (~{} at {} iterations)",
+                    iterations, cores, String.format("%.1f", perCore),
+                    String.format("%.1f", perCore * iterations / PRODUCTION_ITERATIONS), PRODUCTION_ITERATIONS);
+            assertThat(ok).isEqualTo(CALLERS * LOGINS_PER_CALLER);
+        } finally {
+            callers.shutdownNow();
+            hasher.close();
+        }
+    }
+}
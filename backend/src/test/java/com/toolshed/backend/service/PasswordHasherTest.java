@@ -0,0 +1,121 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolExecutor oneThread = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        oneThread.shutdownNow();
+    }
+
+    private void occupyThread() {
+        oneThread.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should verify a hashed password and reject others")
+    void testHashAndMatch() {
+        PasswordHasher hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        String hash = hasher.hash("s3cret!");
+
+        assertThat(hash).startsWith("pbkdf2$1000$").doesNotContain("s3cret!");
+        assertThat(hasher.matches("s3cret!", hash)).isTrue();
+        assertThat(hasher.matches("s3cret?", hash)).isFalse();
+        assertThat(hasher.hash("s3cret!")).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("Should verify hashes made at an older work factor and flag them for rehash")
+    void testWorkFactorChange() {
+        String oldHash = new PasswordHasher(1_000, 1, 4, 5_000).hash("password");
+        PasswordHasher hasher = new PasswordHasher(2_000, 1, 4, 5_000);
+
+        assertThat(hasher.matches("password", oldHash)).isTrue();
+        assertThat(hasher.needsRehash(oldHash)).isTrue();
+        assertThat(hasher.needsRehash(hasher.hash("password"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept legacy plaintext and flag it for rehash")
+    void testLegacyPlaintext() {
+        PasswordHasher hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        assertThat(hasher.matches("password", "password")).isTrue();
+        assertThat(hasher.matches("Password", "password")).isFalse();
+        assertThat(hasher.needsRehash("password")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed hashes without throwing")
+    void testMalformed() {
+        PasswordHasher hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        assertThat(hasher.matches("password", "pbkdf2$abc$def")).isFalse();
+        assertThat(hasher.matches("password", "pbkdf2$x$AAAA$AAAA")).isFalse();
+        assertThat(hasher.matches("password", "pbkdf2$0$AAAA$AAAA")).isFalse();
+        assertThat(hasher.matches(null, "password")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should offer a dummy hash at the current work factor that nothing matches")
+    void testDummyHash() {
+        PasswordHasher hasher = new PasswordHasher(1_000, 1, 4, 5_000);
+
+        assertThat(hasher.dummyHash()).startsWith("pbkdf2$1000$");
+        assertThat(hasher.needsRehash(hasher.dummyHash())).isFalse();
+        assertThat(hasher.matches("", hasher.dummyHash())).isFalse();
+        assertThat(hasher.matches("password", hasher.dummyHash())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer 503 at once when the hashing queue is full")
+    void testSaturated() {
+        PasswordHasher hasher = new PasswordHasher(1_000, oneThread, 5_000);
+        occupyThread();
+        occupyThread();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> hasher.hash("password"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when a queued hash waits too long")
+    void testWaitTimeout() {
+        PasswordHasher hasher = new PasswordHasher(1_000, oneThread, 50);
+        occupyThread();
+
+        assertThatThrownBy(() -> hasher.matches("password", "pbkdf2$1000$AAAA$AAAA"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -10,6 +10,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,12 +46,14 @@ import com.toolshed.backend.repository.enums.PaymentStatus;
 import com.toolshed.backend.repository.enums.PayoutStatus;
 import com.toolshed.backend.repository.enums.UserRole;
 import com.toolshed.backend.repository.enums.UserStatus;
+import com.toolshed.backend.repository.enums.WalletEntryType;
 import com.toolshed.backend.service.PaymentServiceImpl.BookingNotFoundException;
 import com.toolshed.backend.service.PaymentServiceImpl.InsufficientBalanceException;
 import com.toolshed.backend.service.PaymentServiceImpl.InvalidPayoutException;
 import com.toolshed.backend.service.PaymentServiceImpl.PaymentAlreadyCompletedException;
 import com.toolshed.backend.service.PaymentServiceImpl.PaymentProcessingException;
 import com.toolshed.backend.service.PaymentServiceImpl.UserNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for PaymentServiceImpl.
@@ -59,6 +62,11 @@ import com.toolshed.backend.service.PaymentServiceImpl.UserNotFoundException;
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceTest {
 
+    // Models the balance column as read from the database; in the application only WalletLedger moves it
+    private static void storedBalance(User user, double euros) {
+        ReflectionTestUtils.setField(user, "walletBalanceCents", Math.round(euros * 100));
+    }
+
     @Mock
     private BookingRepository bookingRepository;
 
@@ -68,6 +76,9 @@ class PaymentServiceTest {
     @Mock
     private PayoutRepository payoutRepository;
 
+    @Mock
+    private WalletLedger walletLedger;
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -198,7 +209,7 @@ class PaymentServiceTest {
         @DisplayName("Should add security deposit to owner wallet when payment is marked as paid")
         void shouldAddSecurityDepositToOwnerWallet() {
             // Arrange - owner has €100 in wallet, booking costs €50
-            owner.setWalletBalance(100.0);
+            storedBalance(owner, 100.0);
             booking.setTotalPrice(50.0);
             // Explicitly set deposit for this test
             booking.setDepositAmount(8.0);
@@ -209,9 +220,10 @@ class PaymentServiceTest {
             // Act
             paymentService.markBookingAsPaid(bookingId);
 
-            // Assert - owner should get €50 rental + €8 deposit = €58, total €158
-            verify(userRepository).save(owner);
-            assertThat(owner.getWalletBalance()).isEqualTo(158.0); // 100 + 50 + 8
+            // Assert - owner should get €50 rental + €8 deposit = €58, as two ledger entries
+            verify(walletLedger).credit(owner, 5000, WalletEntryType.RENTAL_INCOME, bookingId);
+            verify(walletLedger).credit(owner, 800, WalletEntryType.DEPOSIT_HELD, bookingId);
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
@@ -234,7 +246,6 @@ class PaymentServiceTest {
         @DisplayName("Should credit owner wallet with rental price plus deposit")
         void shouldCreditOwnerWalletWithRentalPlusDeposit() {
             // Arrange - owner starts with €0, booking costs €25
-            owner.setWalletBalance(0.0);
             booking.setTotalPrice(25.0);
             booking.setDepositAmount(8.0); // Set explicit deposit
 
@@ -245,8 +256,8 @@ class PaymentServiceTest {
             paymentService.markBookingAsPaid(bookingId);
 
             // Assert - owner should get €25 rental + €8 deposit = €33
-            assertThat(owner.getWalletBalance()).isEqualTo(33.0);
-            verify(userRepository).save(owner);
+            verify(walletLedger).credit(owner, 2500, WalletEntryType.RENTAL_INCOME, bookingId);
+            verify(walletLedger).credit(owner, 800, WalletEntryType.DEPOSIT_HELD, bookingId);
         }
     }
 
@@ -1131,7 +1142,7 @@ class PaymentServiceTest {
         @DisplayName("Should return wallet with balance and empty payouts")
         void shouldReturnWalletWithBalance() {
             // Arrange
-            owner.setWalletBalance(150.0);
+            storedBalance(owner, 150.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
             when(payoutRepository.findByOwnerIdOrderByRequestedAtDesc(owner.getId()))
                     .thenReturn(Collections.emptyList());
@@ -1149,7 +1160,7 @@ class PaymentServiceTest {
         @DisplayName("Should return wallet with recent payouts")
         void shouldReturnWalletWithRecentPayouts() {
             // Arrange
-            owner.setWalletBalance(50.0);
+            storedBalance(owner, 50.0);
             Payout payout1 = Payout.builder()
                     .id(UUID.randomUUID())
                     .owner(owner)
@@ -1186,10 +1197,9 @@ class PaymentServiceTest {
         }
 
         @Test
-        @DisplayName("Should return zero balance when walletBalance is null")
+        @DisplayName("Should return zero balance for an untouched wallet")
         void shouldReturnZeroBalanceWhenNull() {
             // Arrange
-            owner.setWalletBalance(null);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
             when(payoutRepository.findByOwnerIdOrderByRequestedAtDesc(owner.getId()))
                     .thenReturn(Collections.emptyList());
@@ -1210,14 +1220,14 @@ class PaymentServiceTest {
         @DisplayName("Should successfully request payout")
         void shouldSuccessfullyRequestPayout() {
             // Arrange
-            owner.setWalletBalance(200.0);
+            storedBalance(owner, 200.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
             when(payoutRepository.save(any(Payout.class))).thenAnswer(inv -> {
                 Payout p = inv.getArgument(0);
                 p.setId(UUID.randomUUID());
                 return p;
             });
-            when(userRepository.save(any(User.class))).thenReturn(owner);
+            when(walletLedger.debit(owner, 10000, WalletEntryType.PAYOUT, null)).thenReturn(true);
 
             // Act
             PayoutResponse response = paymentService.requestPayout(owner.getId(), 100.0);
@@ -1228,34 +1238,48 @@ class PaymentServiceTest {
             assertThat(response.getStatus()).isEqualTo(PayoutStatus.COMPLETED);
             assertThat(response.getStripeTransferId()).startsWith("tr_simulated_");
             verify(payoutRepository).save(any(Payout.class));
-            verify(userRepository).save(owner);
         }
 
         @Test
         @DisplayName("Should deduct amount from wallet balance")
         void shouldDeductAmountFromBalance() {
             // Arrange
-            owner.setWalletBalance(200.0);
+            storedBalance(owner, 200.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
             when(payoutRepository.save(any(Payout.class))).thenAnswer(inv -> {
                 Payout p = inv.getArgument(0);
                 p.setId(UUID.randomUUID());
                 return p;
             });
-            when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(walletLedger.debit(owner, 15000, WalletEntryType.PAYOUT, null)).thenReturn(true);
 
             // Act
             paymentService.requestPayout(owner.getId(), 150.0);
 
-            // Assert - verify the balance was updated
-            verify(userRepository).save(any(User.class));
+            // Assert - the balance is debited through the ledger, not by saving the user
+            verify(walletLedger).debit(owner, 15000, WalletEntryType.PAYOUT, null);
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("Should reject payout when a concurrent debit drained the balance first")
+        void shouldThrowWhenAtomicDebitFails() {
+            // Arrange - the balance read says enough, but the guarded update finds less
+            storedBalance(owner, 200.0);
+            when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+            when(walletLedger.debit(owner, 15000, WalletEntryType.PAYOUT, null)).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> paymentService.requestPayout(owner.getId(), 150.0))
+                    .isInstanceOf(InsufficientBalanceException.class);
+            verify(payoutRepository, never()).save(any(Payout.class));
         }
 
         @Test
         @DisplayName("Should throw InsufficientBalanceException when balance too low")
         void shouldThrowWhenInsufficientBalance() {
             // Arrange
-            owner.setWalletBalance(50.0);
+            storedBalance(owner, 50.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
 
             // Act & Assert
@@ -1269,7 +1293,7 @@ class PaymentServiceTest {
         @DisplayName("Should throw InvalidPayoutException for zero amount")
         void shouldThrowForZeroAmount() {
             // Arrange
-            owner.setWalletBalance(100.0);
+            storedBalance(owner, 100.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
 
             // Act & Assert
@@ -1282,7 +1306,7 @@ class PaymentServiceTest {
         @DisplayName("Should throw InvalidPayoutException for negative amount")
         void shouldThrowForNegativeAmount() {
             // Arrange
-            owner.setWalletBalance(100.0);
+            storedBalance(owner, 100.0);
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
 
             // Act & Assert
@@ -1375,85 +1399,55 @@ class PaymentServiceTest {
     @DisplayName("Get Monthly Earnings Tests")
     class GetMonthlyEarningsTests {
 
-        @Test
-        @DisplayName("Should get monthly earnings successfully with correct grouping")
-        void shouldGetMonthlyEarningsSuccessfully() {
-            // Arrange
-            UUID ownerId = owner.getId();
-
-            // Booking 1: March 2024, 100.0
-            Booking b1 = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .owner(owner)
-                    .paymentStatus(PaymentStatus.COMPLETED)
-                    .endDate(LocalDate.of(2024, 3, 10))
-                    .totalPrice(100.0)
-                    .build();
-
-            // Booking 2: March 2024, 50.0 (Should sum with b1)
-            Booking b2 = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .owner(owner)
-                    .paymentStatus(PaymentStatus.COMPLETED)
-                    .endDate(LocalDate.of(2024, 3, 20))
-                    .totalPrice(50.0)
-                    .build();
-
-            // Booking 3: February 2024, 200.0
-            Booking b3 = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .owner(owner)
-                    .paymentStatus(PaymentStatus.COMPLETED)
-                    .endDate(LocalDate.of(2024, 2, 15))
-                    .totalPrice(200.0)
-                    .build();
+        private BookingRepository.MonthlyEarnings earnings(int year, int month, double amount) {
+            return new BookingRepository.MonthlyEarnings() {
+                @Override
+                public Integer getYear() {
+                    return year;
+                }
 
-            // Irrelevant bookings
-            Booking b4 = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .owner(renter) // Wrong owner
-                    .paymentStatus(PaymentStatus.COMPLETED)
-                    .endDate(LocalDate.of(2024, 3, 10))
-                    .totalPrice(500.0)
-                    .build();
+                @Override
+                public Integer getMonth() {
+                    return month;
+                }
 
-            Booking b5 = Booking.builder()
-                    .id(UUID.randomUUID())
-                    .owner(owner)
-                    .paymentStatus(PaymentStatus.PENDING) // Not completed
-                    .endDate(LocalDate.of(2024, 3, 10))
-                    .totalPrice(1000.0)
-                    .build();
+                @Override
+                public Double getAmount() {
+                    return amount;
+                }
+            };
+        }
 
-            when(bookingRepository.findAll()).thenReturn(Arrays.asList(b1, b2, b3, b4, b5));
+        @Test
+        @DisplayName("Should map the per-month sums with month names, keeping chronological order")
+        void shouldGetMonthlyEarningsSuccessfully() {
+            // Arrange - the repository sums and orders per month
+            UUID ownerId = owner.getId();
+            when(bookingRepository.sumPaidEarningsByMonth(ownerId)).thenReturn(Arrays.asList(
+                    earnings(2023, 12, 80.0),
+                    earnings(2024, 2, 200.0),
+                    earnings(2024, 3, 150.0)));
             when(userRepository.findById(ownerId)).thenReturn(Optional.of(owner));
 
             // Act
             List<com.toolshed.backend.dto.MonthlyEarningsResponse> result = paymentService.getMonthlyEarnings(ownerId);
 
             // Assert
-            assertThat(result).hasSize(2);
-
-            // Check March 2024 (100 + 50 = 150)
-            Optional<com.toolshed.backend.dto.MonthlyEarningsResponse> march = result.stream()
-                    .filter(r -> r.getMonth().equals("MARCH") && r.getYear() == 2024)
-                    .findFirst();
-            assertThat(march).isPresent();
-            assertThat(march.get().getAmount()).isEqualTo(150.0);
-
-            // Check February 2024 (200)
-            Optional<com.toolshed.backend.dto.MonthlyEarningsResponse> feb = result.stream()
-                    .filter(r -> r.getMonth().equals("FEBRUARY") && r.getYear() == 2024)
-                    .findFirst();
-            assertThat(feb).isPresent();
-            assertThat(feb.get().getAmount()).isEqualTo(200.0);
+            assertThat(result).extracting(com.toolshed.backend.dto.MonthlyEarningsResponse::getMonth,
+                    com.toolshed.backend.dto.MonthlyEarningsResponse::getYear,
+                    com.toolshed.backend.dto.MonthlyEarningsResponse::getAmount)
+                    .containsExactly(
+                            tuple("DECEMBER", 2023, 80.0),
+                            tuple("FEBRUARY", 2024, 200.0),
+                            tuple("MARCH", 2024, 150.0));
+            verify(bookingRepository, never()).findAll();
         }
 
         @Test
         @DisplayName("Should return empty list when no earnings")
         void shouldReturnEmptyListWhenNoEarnings() {
             // Arrange
-            when(bookingRepository.findAll()).thenReturn(Collections.emptyList());
+            when(bookingRepository.sumPaidEarningsByMonth(owner.getId())).thenReturn(Collections.emptyList());
             when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
 
             // Act
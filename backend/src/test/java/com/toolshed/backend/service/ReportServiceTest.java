@@ -9,6 +9,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,10 +23,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.toolshed.backend.dto.CreateReportRequest;
+import com.toolshed.backend.dto.ReportPage;
 import com.toolshed.backend.dto.ReportResponse;
 import com.toolshed.backend.dto.UpdateReportStatusRequest;
 import com.toolshed.backend.repository.BookingRepository;
@@ -140,19 +145,64 @@ class ReportServiceTest {
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    private ReportResponse queueRow(ReportStatus status, LocalDateTime createdAt) {
+        return ReportResponse.builder()
+                .id(UUID.randomUUID())
+                .reporterEmail("reporter@example.com")
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+    }
+
     @Test
-    @DisplayName("getAllReports filters by status when provided")
-    void getAllReports_filtersByStatus() {
-        Report openReport = Report.builder().id(UUID.randomUUID()).status(ReportStatus.OPEN).build();
-        Report resolvedReport = Report.builder().id(UUID.randomUUID()).status(ReportStatus.RESOLVED).build();
+    @DisplayName("getQueue returns a full page with a cursor at its last row")
+    void getQueue_pagesWithCursor() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 9, 30);
+        ReportResponse first = queueRow(ReportStatus.OPEN, now);
+        ReportResponse second = queueRow(ReportStatus.OPEN, now.plusMinutes(1));
+        when(reportRepository.findQueuePage(eq(ReportStatus.OPEN), eq(null), eq(null), eq(null), any(Limit.class)))
+                .thenReturn(List.of(first, second, queueRow(ReportStatus.OPEN, now.plusMinutes(2))));
+
+        ReportPage page = reportService.getQueue(ReportStatus.OPEN, null, 2);
+
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertThat(ReportService.decodeCursor(page.getNextCursor()))
+                .isEqualTo(new ReportService.QueuePosition(ReportStatus.OPEN, second.getCreatedAt(), second.getId()));
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(reportRepository).findQueuePage(any(), any(), any(), any(), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(3);
+    }
 
-        when(reportRepository.findByStatus(ReportStatus.OPEN)).thenReturn(List.of(openReport));
+    @Test
+    @DisplayName("getQueue resumes after the cursor position and ends without a cursor")
+    void getQueue_resumesAfterCursor() {
+        ReportService.QueuePosition position = new ReportService.QueuePosition(ReportStatus.IN_PROGRESS,
+                LocalDateTime.of(2025, 1, 10, 9, 30, 15, 123_000_000), UUID.randomUUID());
+        // In progress reports rank after open ones
+        when(reportRepository.findQueuePage(eq(null), eq(1), eq(position.createdAt()),
+                eq(position.id()), any(Limit.class)))
+                .thenReturn(List.of(queueRow(ReportStatus.RESOLVED, LocalDateTime.now())));
+
+        ReportPage page = reportService.getQueue(null, ReportService.encodeCursor(position), null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+        verify(reportRepository, never()).findAll();
+    }
 
-        List<ReportResponse> responses = reportService.getAllReports(ReportStatus.OPEN);
+    @Test
+    @DisplayName("getQueue rejects malformed cursors and non-positive page sizes")
+    void getQueue_rejectsBadInput() {
+        String notAPosition = Base64.getUrlEncoder().encodeToString("OPEN|yesterday|x".getBytes(StandardCharsets.UTF_8));
 
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).getStatus()).isEqualTo(ReportStatus.OPEN);
-        verify(reportRepository, never()).findAll();
+        assertThatThrownBy(() -> reportService.getQueue(null, notAPosition, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatThrownBy(() -> reportService.getQueue(null, "%%%", null))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> reportService.getQueue(null, null, 0))
+                .isInstanceOf(ResponseStatusException.class);
     }
 
     @Test
@@ -0,0 +1,99 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.toolshed.backend.repository.MaintenanceCheckpointRepository;
+import com.toolshed.backend.repository.ReviewRepository;
+import com.toolshed.backend.repository.ReviewRepository.ReviewStats;
+import com.toolshed.backend.repository.entities.MaintenanceCheckpoint;
+
+@ExtendWith(MockitoExtension.class)
+class ReputationRebuildTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private MaintenanceCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private ReputationRebuild reputationRebuild;
+
+    private final LocalDateTime lastChange = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReviewStats stats = mock(ReviewStats.class);
+        when(stats.getReviews()).thenReturn(42L);
+        when(stats.getRatingSum()).thenReturn(180L);
+        when(stats.getLastChange()).thenReturn(lastChange);
+        when(reviewRepository.getReviewStats()).thenReturn(stats);
+    }
+
+    private Optional<MaintenanceCheckpoint> checkpoint(String fingerprint) {
+        return Optional.of(MaintenanceCheckpoint.builder()
+                .name(ReputationRebuild.CHECKPOINT)
+                .fingerprint(fingerprint)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should skip the rebuild when the reviews match the checkpoint")
+    void testSkipsWhenUnchanged() {
+        when(checkpointRepository.findById(ReputationRebuild.CHECKPOINT))
+                .thenReturn(checkpoint("42:180:" + lastChange));
+
+        ReputationRebuild.Result result = reputationRebuild.runIfReviewsChanged();
+
+        assertThat(result.skipped()).isTrue();
+        verify(reviewService, never()).recalculateAllReputations();
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild and move the checkpoint when reviews changed")
+    void testRebuildsWhenChanged() {
+        when(checkpointRepository.findById(ReputationRebuild.CHECKPOINT))
+                .thenReturn(checkpoint("41:176:" + lastChange.minusHours(1)));
+
+        ReputationRebuild.Result result = reputationRebuild.runIfReviewsChanged();
+
+        assertThat(result.skipped()).isFalse();
+        verify(reviewService).recalculateAllReputations();
+        ArgumentCaptor<MaintenanceCheckpoint> saved = ArgumentCaptor.forClass(MaintenanceCheckpoint.class);
+        verify(checkpointRepository).save(saved.capture());
+        assertThat(saved.getValue().getFingerprint()).isEqualTo("42:180:" + lastChange);
+        assertThat(saved.getValue().getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should rebuild on the first run, without a checkpoint")
+    void testRebuildsWithoutCheckpoint() {
+        when(checkpointRepository.findById(ReputationRebuild.CHECKPOINT)).thenReturn(Optional.empty());
+
+        ReputationRebuild.Result result = reputationRebuild.runIfReviewsChanged();
+
+        assertThat(result.skipped()).isFalse();
+        assertThat(result.fingerprint()).isEqualTo("42:180:" + lastChange);
+        verify(reviewService).recalculateAllReputations();
+    }
+}
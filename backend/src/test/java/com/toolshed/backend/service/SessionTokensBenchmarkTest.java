@@ -0,0 +1,52 @@
+package com.toolshed.backend.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+
+/**
+ * Microbenchmark of what the filter adds to each authenticated request:
+ * one {@link SessionTokens#verify(String)} call. Warms up first, then reports
+ * the mean cost (a few microseconds on one core; several times more under
+ * the coverage agent). The 200 µs bound is loose on purpose: it only catches
+ * gross regressions, e.g. a database or key lookup sneaking into the hot path.
+ */
+class SessionTokensBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionTokensBenchmarkTest.class);
+
+    private static final int WARMUP = 50_000;
+    private static final int MEASURED = 200_000;
+
+    @Test
+    @DisplayName("Should verify a token far faster than a database round trip")
+    void benchmarkVerify() {
+        SessionTokens sessionTokens = new SessionTokens("", Duration.ofHours(1), new TokenDenyList(100));
+        String[] tokens = new String[64];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = sessionTokens.issue(User.builder().id(UUID.randomUUID()).role(UserRole.RENTER).build());
+        }
+
+        long valid = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            valid += sessionTokens.verify(tokens[i & 63]).isPresent() ? 1 : 0;
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) {
+            valid += sessionTokens.verify(tokens[i & 63]).isPresent() ? 1 : 0;
+        }
+        double nanosPerVerify = (System.nanoTime() - started) / (double) MEASURED;
+
+        logger.info("SessionTokens.verify: {} ns/op over {} calls", String.format("%.0f", nanosPerVerify), MEASURED);
+        assertThat(valid).isEqualTo(WARMUP + MEASURED);
+        assertThat(nanosPerVerify).isLessThan(200_000);
+    }
+}
@@ -0,0 +1,162 @@
+package com.toolshed.backend.service;
+
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.UserRole;
+
+class SessionTokensTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private TokenDenyList denyList;
+    private SessionTokens sessionTokens;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new TokenDenyList(100);
+        sessionTokens = tokensAt(NOW);
+        user = User.builder().id(UUID.randomUUID()).role(UserRole.SUPPLIER).build();
+    }
+
+    private SessionTokens tokensAt(Instant now) {
+        return new SessionTokens(SECRET, Duration.ofHours(1), denyList, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    // Re-signs an altered payload with the test key, as a holder of the secret could
+    private static String signed(byte[] payload) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256"));
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+    }
+
+    @Test
+    @DisplayName("Should verify an issued token and return its claims")
+    void testIssueAndVerify() {
+        String token = sessionTokens.issue(user);
+
+        SessionTokens.Session session = sessionTokens.verify(token).orElseThrow();
+        assertThat(session.userId()).isEqualTo(user.getId());
+        assertThat(session.role()).isEqualTo(UserRole.SUPPLIER);
+        assertThat(session.expiresAt()).isEqualTo(NOW.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should issue a different token on every call")
+    void testTokensAreUnique() {
+        assertThat(sessionTokens.issue(user)).isNotEqualTo(sessionTokens.issue(user));
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose payload was altered")
+    void testTamperedPayload() {
+        String token = sessionTokens.issue(user);
+        int dot = token.indexOf('.');
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(0, dot));
+        // Promote to ADMIN
+        payload[17] = SessionTokens.roleCode(UserRole.ADMIN);
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + token.substring(dot);
+
+        assertThat(sessionTokens.verify(forged)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void testOtherKey() {
+        SessionTokens other = new SessionTokens("", Duration.ofHours(1), denyList);
+
+        assertThat(sessionTokens.verify(other.issue(user))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void testExpired() {
+        String token = sessionTokens.issue(user);
+
+        assertThat(tokensAt(NOW.plus(Duration.ofMinutes(59))).verify(token)).isPresent();
+        assertThat(tokensAt(NOW.plus(Duration.ofHours(1))).verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token but keep others valid")
+    void testRevoke() {
+        String revoked = sessionTokens.issue(user);
+        String kept = sessionTokens.issue(user);
+
+        assertThat(sessionTokens.revoke(revoked)).isTrue();
+
+        assertThat(sessionTokens.verify(revoked)).isEmpty();
+        assertThat(sessionTokens.verify(kept)).isPresent();
+        assertThat(sessionTokens.revoke(revoked)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void testMalformed() {
+        assertThat(sessionTokens.verify(null)).isEmpty();
+        assertThat(sessionTokens.verify("")).isEmpty();
+        assertThat(sessionTokens.verify(UUID.randomUUID().toString())).isEmpty();
+        assertThat(sessionTokens.verify("a.b")).isEmpty();
+        assertThat(sessionTokens.verify("!!!.???")).isEmpty();
+        assertThat(sessionTokens.verify("x".repeat(1000))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should carry a missing role")
+    void testUserWithoutRole() {
+        user.setRole(null);
+
+        assertThat(sessionTokens.verify(sessionTokens.issue(user)).orElseThrow().role()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode each role with its own fixed code")
+    void testRoleCodes() {
+        assertThat(SessionTokens.roleCode(UserRole.SUPPLIER)).isEqualTo((byte) 1);
+        assertThat(SessionTokens.roleCode(UserRole.RENTER)).isEqualTo((byte) 2);
+        assertThat(SessionTokens.roleCode(UserRole.ADMIN)).isEqualTo((byte) 3);
+        for (UserRole role : UserRole.values()) {
+            assertThat(SessionTokens.roleOf(SessionTokens.roleCode(role))).isEqualTo(role);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a signed token whose role code is unknown")
+    void testUnknownRoleCode() throws GeneralSecurityException {
+        String token = sessionTokens.issue(user);
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+
+        assertThat(sessionTokens.verify(signed(payload))).isPresent();
+        for (byte code : new byte[] { -1, 4, 127 }) {
+            payload[17] = code;
+            assertThat(sessionTokens.verify(signed(payload))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse a configured key shorter than 256 bits")
+    void testShortSecret() {
+        String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+        assertThatThrownBy(() -> new SessionTokens(shortSecret, Duration.ofHours(1), denyList))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -55,7 +55,6 @@ class SubscriptionServiceImplTest {
                 .password("password")
                 .subscriptionTier(SubscriptionTier.FREE)
                 .reputationScore(0.0)
-                .walletBalance(0.0)
                 .build();
 
         proUser = User.builder()
@@ -69,7 +68,6 @@ class SubscriptionServiceImplTest {
                 .subscriptionEnd(LocalDateTime.now().plusDays(15))
                 .stripeSubscriptionId("sub_test123")
                 .reputationScore(0.0)
-                .walletBalance(0.0)
                 .build();
 
         expiredProUser = User.builder()
@@ -83,7 +81,6 @@ class SubscriptionServiceImplTest {
                 .subscriptionEnd(LocalDateTime.now().minusDays(15))
                 .stripeSubscriptionId("sub_expired")
                 .reputationScore(0.0)
-                .walletBalance(0.0)
                 .build();
     }
 
@@ -0,0 +1,48 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimingsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    void recordsSuccessfulCallsAndReturnsTheirResult() {
+        String result = Timings.record("toolshed.test", Tags.of("type", "a"), () -> "ok");
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(registry.get("toolshed.test").tags("type", "a", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recordsFailedCallsAndRethrowsCheckedExceptions() {
+        assertThatThrownBy(() -> Timings.record("toolshed.test", () -> {
+            throw new IOException("down");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(registry.get("toolshed.test").tags("outcome", "error").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private TokenBucketLimiter limiter(int capacity, double refillPerMinute, int maxKeys) {
+        return new TokenBucketLimiter("test", capacity, refillPerMinute, maxKeys, now::get);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst of capacity and then report the wait")
+    void testBurst() {
+        TokenBucketLimiter limiter = limiter(3, 6, 100);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.tryAcquire("b")).isZero();
+
+        assertThat(limiter.stats().allowed()).isEqualTo(4);
+        assertThat(limiter.stats().throttled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate without exceeding capacity")
+    void testRefill() {
+        TokenBucketLimiter limiter = limiter(2, 6, 100);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should drop refilled buckets and keep draining ones")
+    void testPurgeIdle() {
+        TokenBucketLimiter limiter = limiter(2, 6, 100);
+        limiter.tryAcquire("idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        limiter.purgeIdle();
+
+        assertThat(limiter.stats().keys()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should stay within the key bound")
+    void testBounded() {
+        TokenBucketLimiter limiter = limiter(1, 1, 10);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("key" + i);
+        }
+
+        assertThat(limiter.stats().keys()).isLessThanOrEqualTo(10);
+        assertThat(limiter.stats().evicted()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens under contention")
+    void testConcurrent() throws InterruptedException {
+        TokenBucketLimiter limiter = limiter(50, 1, 100);
+        AtomicInteger granted = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire("shared") == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(granted.get()).isEqualTo(50);
+        assertThat(limiter.stats().throttled()).isEqualTo(750);
+    }
+
+    @Test
+    @DisplayName("Should reject a configuration that can never grant a token")
+    void testInvalid() {
+        assertThatThrownBy(() -> limiter(0, 1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(1, 0, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should publish its counters as meters tagged with the limiter name")
+    void testBindTo() {
+        TokenBucketLimiter limiter = limiter(1, 1, 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertThat(registry.get("toolshed.auth.rate.limit.requests").tags("limit", "test", "outcome", "allowed")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("toolshed.auth.rate.limit.requests").tags("limit", "test", "outcome", "throttled")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("toolshed.auth.rate.limit.keys").tag("limit", "test").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("toolshed.auth.rate.limit.evictions").tag("limit", "test")
+                .functionCounter().count()).isZero();
+    }
+}
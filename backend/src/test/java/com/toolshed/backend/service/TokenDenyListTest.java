@@ -0,0 +1,72 @@
+package com.toolshed.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class TokenDenyListTest {
+
+    private static final long FUTURE = System.currentTimeMillis() + 3_600_000;
+
+    @Test
+    @DisplayName("Should report revoked ids only")
+    void testRevoke() {
+        TokenDenyList denyList = new TokenDenyList(10);
+
+        denyList.revoke(1L, FUTURE);
+
+        assertThat(denyList.isRevoked(1L)).isTrue();
+        assertThat(denyList.isRevoked(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should drop entries once their token has expired")
+    void testPurgeExpired() {
+        TokenDenyList denyList = new TokenDenyList(10);
+        denyList.revoke(1L, 1_000L);
+        denyList.revoke(2L, 5_000L);
+
+        denyList.purgeExpired(2_000L);
+
+        assertThat(denyList.isRevoked(1L)).isFalse();
+        assertThat(denyList.isRevoked(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should refuse a revocation rather than evict a live one when full")
+    void testBounded() {
+        TokenDenyList denyList = new TokenDenyList(3);
+        denyList.revoke(1L, FUTURE + 3);
+        denyList.revoke(2L, FUTURE + 1);
+        denyList.revoke(3L, FUTURE + 2);
+
+        assertThatThrownBy(() -> denyList.revoke(4L, FUTURE + 4))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(denyList.size()).isEqualTo(3);
+        assertThat(denyList.isRevoked(2L)).isTrue();
+        assertThat(denyList.isRevoked(4L)).isFalse();
+
+        // Revoking an id already listed needs no room
+        denyList.revoke(1L, FUTURE + 3);
+        assertThat(denyList.isRevoked(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should prefer dropping expired entries when full")
+    void testBoundedPrefersExpired() {
+        TokenDenyList denyList = new TokenDenyList(2);
+        denyList.revoke(1L, 1_000L);
+        denyList.revoke(2L, FUTURE);
+
+        denyList.revoke(3L, FUTURE);
+
+        assertThat(denyList.isRevoked(1L)).isFalse();
+        assertThat(denyList.isRevoked(2L)).isTrue();
+        assertThat(denyList.isRevoked(3L)).isTrue();
+    }
+}
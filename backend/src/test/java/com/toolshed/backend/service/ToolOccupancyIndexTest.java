@@ -0,0 +1,129 @@
+package com.toolshed.backend.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.toolshed.backend.repository.entities.Booking;
+import com.toolshed.backend.repository.entities.Tool;
+import com.toolshed.backend.repository.enums.BookingStatus;
+
+class ToolOccupancyIndexTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2030, 6, 1);
+
+    private ToolOccupancyIndex index;
+    private Tool drill;
+
+    @BeforeEach
+    void setUp() {
+        index = new ToolOccupancyIndex();
+        drill = new Tool();
+        drill.setId(UUID.randomUUID());
+    }
+
+    private Booking booking(Tool tool, LocalDate start, LocalDate end, BookingStatus status) {
+        return Booking.builder()
+                .id(UUID.randomUUID())
+                .tool(tool)
+                .startDate(start)
+                .endDate(end)
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should treat booking days as inclusive on both ends")
+    void testInclusiveOverlap() {
+        index.record(booking(drill, JUNE_1.plusDays(5), JUNE_1.plusDays(9), BookingStatus.APPROVED));
+
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1.plusDays(4))).isTrue();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1.plusDays(5))).isFalse();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(9), JUNE_1.plusDays(12))).isFalse();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(10), JUNE_1.plusDays(12))).isTrue();
+        // Window enclosing the whole booking
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1.plusDays(20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report tools without bookings as available")
+    void testUnknownToolIsAvailable() {
+        assertThat(index.isAvailable(UUID.randomUUID(), JUNE_1, JUNE_1)).isTrue();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should find gaps between several, partly overlapping bookings")
+    void testGapsBetweenBookings() {
+        index.record(booking(drill, JUNE_1, JUNE_1.plusDays(3), BookingStatus.APPROVED));
+        index.record(booking(drill, JUNE_1.plusDays(2), JUNE_1.plusDays(5), BookingStatus.PENDING));
+        index.record(booking(drill, JUNE_1.plusDays(10), JUNE_1.plusDays(11), BookingStatus.PENDING));
+
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(6), JUNE_1.plusDays(9))).isTrue();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(4), JUNE_1.plusDays(6))).isFalse();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(9), JUNE_1.plusDays(10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should free the dates when a booking is cancelled or rejected")
+    void testCancellationFreesDates() {
+        Booking pending = booking(drill, JUNE_1, JUNE_1.plusDays(2), BookingStatus.PENDING);
+        Booking other = booking(drill, JUNE_1.plusDays(1), JUNE_1.plusDays(4), BookingStatus.PENDING);
+        index.record(pending);
+        index.record(other);
+
+        other.setStatus(BookingStatus.REJECTED);
+        index.record(other);
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(3), JUNE_1.plusDays(4))).isTrue();
+        assertThat(index.isAvailable(drill.getId(), JUNE_1.plusDays(2), JUNE_1.plusDays(2))).isFalse();
+
+        pending.setStatus(BookingStatus.CANCELLED);
+        index.record(pending);
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1.plusDays(4))).isTrue();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep completed bookings blocking, like the booking overlap check")
+    void testCompletedStillBlocks() {
+        Booking booking = booking(drill, JUNE_1, JUNE_1.plusDays(2), BookingStatus.APPROVED);
+        index.record(booking);
+        booking.setStatus(BookingStatus.COMPLETED);
+        index.record(booking);
+
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget deleted bookings")
+    void testRemove() {
+        Booking booking = booking(drill, JUNE_1, JUNE_1.plusDays(2), BookingStatus.APPROVED);
+        index.record(booking);
+
+        index.remove(booking);
+
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1.plusDays(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should replace the whole index on rebuild, ignoring non-blocking bookings")
+    void testRebuild() {
+        Tool saw = new Tool();
+        saw.setId(UUID.randomUUID());
+        index.record(booking(drill, JUNE_1, JUNE_1, BookingStatus.APPROVED));
+
+        index.rebuild(List.of(
+                booking(saw, JUNE_1, JUNE_1.plusDays(1), BookingStatus.PENDING),
+                booking(saw, JUNE_1.plusDays(5), JUNE_1.plusDays(6), BookingStatus.CANCELLED)));
+
+        assertThat(index.isAvailable(drill.getId(), JUNE_1, JUNE_1)).isTrue();
+        assertThat(index.isAvailable(saw.getId(), JUNE_1.plusDays(1), JUNE_1.plusDays(1))).isFalse();
+        assertThat(index.isAvailable(saw.getId(), JUNE_1.plusDays(5), JUNE_1.plusDays(6))).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.toolshed.backend.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.toolshed.backend.repository.entities.Tool;
+
+class ToolSearchIndexTest {
+
+    private ToolSearchIndex index;
+    private Tool drill;
+    private Tool saw;
+
+    @BeforeEach
+    void setUp() {
+        index = new ToolSearchIndex();
+        drill = tool("Power Drill", "Cordless 18V battery powered");
+        saw = tool("Serra Circular", "Ideal para madeira, lâmina de 190mm");
+        index.index(drill);
+        index.index(saw);
+    }
+
+    private Tool tool(String title, String description) {
+        Tool tool = new Tool();
+        tool.setId(UUID.randomUUID());
+        tool.setTitle(title);
+        tool.setDescription(description);
+        return tool;
+    }
+
+    @Test
+    @DisplayName("Should match query tokens as prefixes of indexed terms")
+    void testPrefixMatch() {
+        assertThat(index.search("dri")).containsExactly(drill.getId());
+        assertThat(index.search("pow")).containsExactly(drill.getId());
+        assertThat(index.search("xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should require every token to match (AND semantics)")
+    void testMultiTokenIntersection() {
+        assertThat(index.search("cordless drill")).containsExactly(drill.getId());
+        assertThat(index.search("cordless serra")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fold case and Portuguese accents on both sides")
+    void testAccentFolding() {
+        assertThat(index.search("LAMINA")).containsExactly(saw.getId());
+        assertThat(index.search("lâmina")).containsExactly(saw.getId());
+        assertThat(ToolSearchIndex.normalize("Évora São João")).isEqualTo("evora sao joao");
+    }
+
+    @Test
+    @DisplayName("Should drop stale terms when a tool is re-indexed")
+    void testReindexReplacesTerms() {
+        drill.setTitle("Impact Driver");
+        index.index(drill);
+
+        assertThat(index.search("drill")).isEmpty();
+        assertThat(index.search("impact")).containsExactly(drill.getId());
+        // Description terms are still there
+        assertThat(index.search("cordless")).containsExactly(drill.getId());
+    }
+
+    @Test
+    @DisplayName("Should forget removed tools")
+    void testRemove() {
+        index.remove(drill.getId());
+
+        assertThat(index.search("drill")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replace the whole index on rebuild")
+    void testRebuild() {
+        Tool hammer = tool("Claw Hammer", null);
+
+        index.rebuild(List.of(hammer));
+
+        assertThat(index.search("drill")).isEmpty();
+        assertThat(index.search("hammer")).containsExactly(hammer.getId());
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return no matches for blank or punctuation-only keywords")
+    void testBlankKeyword() {
+        assertThat(index.search("   ")).isEmpty();
+        assertThat(index.search("!!!")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.toolshed.backend.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -14,30 +15,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.toolshed.backend.dto.CreateToolInput;
+import com.toolshed.backend.dto.ToolPage;
 import com.toolshed.backend.dto.UpdateToolInput;
 import com.toolshed.backend.repository.BookingRepository;
 import com.toolshed.backend.repository.ToolRepository;
 import com.toolshed.backend.repository.UserRepository;
+import com.toolshed.backend.repository.entities.Booking;
 import com.toolshed.backend.repository.entities.Tool;
 import com.toolshed.backend.repository.entities.User;
+import com.toolshed.backend.repository.enums.BookingStatus;
 
 @ExtendWith(MockitoExtension.class) // Initializes mocks
 class ToolServiceTest {
 
+    // Default page size plus the look-ahead row used to detect a next page
+    private static final Limit FIRST_PAGE = Limit.of(ToolServiceImpl.DEFAULT_PAGE_SIZE + 1);
+
     @Mock
     private ToolRepository toolRepo;
 
@@ -50,6 +61,12 @@ class ToolServiceTest {
     @Mock
     private IGeoApiService geoApiService;
 
+    @Spy
+    private ToolSearchIndex searchIndex = new ToolSearchIndex();
+
+    @Spy
+    private ToolOccupancyIndex occupancyIndex = new ToolOccupancyIndex();
+
     @InjectMocks
     private ToolServiceImpl toolService;
 
@@ -71,49 +88,54 @@ class ToolServiceTest {
 
         supplier = new User();
         supplier.setId(UUID.randomUUID());
+
+        searchIndex.index(sampleTool);
     }
 
     @Test
-    @DisplayName("Should delegate search to repository when keyword is valid")
+    @DisplayName("Should resolve keyword through the index and load only the matching ids")
     void testSearchToolsWithValidKeyword() {
         // Arrange
         String keyword = "Drill";
-        when(toolRepo.searchTools(keyword, null, null, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchToolsByIds(List.of(sampleTool.getId()), null, null, null, FIRST_PAGE))
+                .thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(keyword, null, null, null);
+        List<Tool> result = toolService.searchTools(keyword, null, null, null, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("Mock Drill");
 
         // Verification: Did the service actually call the repo?
-        verify(toolRepo, times(1)).searchTools(keyword, null, null, null);
+        verify(toolRepo, times(1)).searchToolsByIds(List.of(sampleTool.getId()), null, null, null, FIRST_PAGE);
+        verify(toolRepo, never()).searchTools(anyString(), any(), any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("Should trim whitespace from keyword before calling repository")
+    @DisplayName("Should trim whitespace from keyword before querying the index")
     void testSearchToolsTrimsWhitespace() {
         // Arrange: User enters " Drill "
         String dirtyKeyword = "  Drill  ";
         String cleanedKeyword = "Drill";
 
-        when(toolRepo.searchTools(cleanedKeyword, null, null, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchToolsByIds(List.of(sampleTool.getId()), null, null, null, FIRST_PAGE))
+                .thenReturn(List.of(sampleTool));
 
         // Act
-        toolService.searchTools(dirtyKeyword, null, null, null);
+        toolService.searchTools(dirtyKeyword, null, null, null, null, null, null, null).getItems();
 
         // Assert
-        // Verify the repo was called with the TRIMMED version, not the dirty one
-        verify(toolRepo).searchTools(cleanedKeyword, null, null, null);
-        verify(toolRepo, never()).searchTools(dirtyKeyword, null, null, null);
+        // Verify the index was queried with the TRIMMED version, not the dirty one
+        verify(searchIndex).search(cleanedKeyword);
+        verify(searchIndex, never()).search(dirtyKeyword);
     }
 
     @Test
     @DisplayName("Should return empty list immediately if both keyword and district are null (Defensive Coding)")
     void testSearchToolsWithNullKeywordAndDistrict() {
         // Act
-        List<Tool> result = toolService.searchTools(null, null, null, null);
+        List<Tool> result = toolService.searchTools(null, null, null, null, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).isEmpty();
@@ -127,28 +149,28 @@ class ToolServiceTest {
     void testSearchToolsWithDistrictOnly() {
         // Arrange
         String district = "Aveiro";
-        when(toolRepo.searchTools(null, district, null, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools(null, district, null, null, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(null, district, null, null);
+        List<Tool> result = toolService.searchTools(null, district, null, null, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(toolRepo, times(1)).searchTools(null, district, null, null);
+        verify(toolRepo, times(1)).searchTools(null, district, null, null, null, FIRST_PAGE);
     }
 
     @Test
-    @DisplayName("Should return empty list when repository returns no matches")
+    @DisplayName("Should return empty list without querying the database when the index has no matches")
     void testSearchToolsNoResults() {
         // Arrange
         String keyword = "Unicorn";
-        when(toolRepo.searchTools(keyword, null, null, null)).thenReturn(Collections.emptyList());
 
         // Act
-        List<Tool> result = toolService.searchTools(keyword, null, null, null);
+        List<Tool> result = toolService.searchTools(keyword, null, null, null, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).isEmpty();
+        verifyNoInteractions(toolRepo);
     }
 
     @Test
@@ -157,35 +179,52 @@ class ToolServiceTest {
         String keyword = "hammer";
 
         // Arrange
-        when(toolRepo.searchTools(keyword, null, null, null)).thenReturn(List.of(sampleTool));
+        Tool hammer = new Tool();
+        hammer.setId(UUID.randomUUID());
+        hammer.setTitle("Claw Hammer");
+        searchIndex.index(hammer);
+        when(toolRepo.searchToolsByIds(List.of(hammer.getId()), null, null, null, FIRST_PAGE)).thenReturn(List.of(hammer));
 
         // Act
-        toolService.searchTools(keyword, null, null, null);
+        toolService.searchTools(keyword, null, null, null, null, null, null, null).getItems();
 
         // Assert
         // Verify that the specific method designed for filtering was called
-        verify(toolRepo, times(1)).searchTools(keyword, null, null, null);
+        verify(toolRepo, times(1)).searchToolsByIds(List.of(hammer.getId()), null, null, null, FIRST_PAGE);
 
         // Safety check: Verify that a generic, unfiltered method was NOT called
         verify(toolRepo, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should delegate original casing to repository (relying on JPQL for case-insensitivity)")
-    void testSearchPreservesCasing() {
+    @DisplayName("Should match keywords regardless of casing and accents")
+    void testSearchIgnoresCasingAndAccents() {
         // Arrange
-        String mixedCaseKeyword = "HaMmEr";
+        Tool saw = new Tool();
+        saw.setId(UUID.randomUUID());
+        saw.setTitle("Serrote de Poda");
+        saw.setDescription("Lâmina em aço");
+        searchIndex.index(saw);
+        when(toolRepo.searchToolsByIds(List.of(saw.getId()), null, null, null, FIRST_PAGE)).thenReturn(List.of(saw));
 
         // Act
-        toolService.searchTools(mixedCaseKeyword, null, null, null);
+        List<Tool> byTitle = toolService.searchTools("SERRÔTE", null, null, null, null, null, null, null).getItems();
+        List<Tool> byDescription = toolService.searchTools("lamina aco", null, null, null, null, null, null, null).getItems();
 
         // Assert
-        // Verify the repository was called exactly with the mixed-case string
-        verify(toolRepo).searchTools(mixedCaseKeyword, null, null, null);
+        assertThat(byTitle).containsExactly(saw);
+        assertThat(byDescription).containsExactly(saw);
+    }
+
+    @Test
+    @DisplayName("Should stop returning a tool once it is removed from the index")
+    void testSearchAfterToolRemovedFromIndex() {
+        searchIndex.remove(sampleTool.getId());
 
-        // Safety check: Verify the service did NOT try to change the keyword to
-        // lowercase itself
-        verify(toolRepo, never()).searchTools(mixedCaseKeyword.toLowerCase(), null, null, null);
+        List<Tool> result = toolService.searchTools("drill", null, null, null, null, null, null, null).getItems();
+
+        assertThat(result).isEmpty();
+        verify(toolRepo, never()).searchToolsByIds(anyCollection(), any(), any(), any(), any());
     }
 
     @Test
@@ -209,12 +248,12 @@ class ToolServiceTest {
     @Test
     @DisplayName("Should return active tools via service")
     void testGetActiveTools() {
-        when(toolRepo.findByActiveTrue()).thenReturn(List.of(sampleTool));
+        when(toolRepo.findActivePage(null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
-        List<Tool> result = toolService.getActive();
+        List<Tool> result = toolService.getActive(null, null).getItems();
 
         assertThat(result).containsExactly(sampleTool);
-        verify(toolRepo).findByActiveTrue();
+        verify(toolRepo).findActivePage(null, FIRST_PAGE);
     }
 
     @Test
@@ -378,8 +417,6 @@ class ToolServiceTest {
                 .district("Lisboa")
                 .active(true)
                 .availabilityCalendar("cal-json")
-                .overallRating(4.9)
-                .numRatings(12)
                 .ownerId(newOwnerId)
                 .build();
 
@@ -391,9 +428,10 @@ class ToolServiceTest {
         assertThat(sampleTool.getDistrict()).isEqualTo("Lisboa");
         assertThat(sampleTool.isActive()).isTrue();
         assertThat(sampleTool.getAvailabilityCalendar()).isEqualTo("cal-json");
-        assertThat(sampleTool.getOverallRating()).isEqualTo(4.9);
-        assertThat(sampleTool.getNumRatings()).isEqualTo(12);
         assertThat(sampleTool.getOwner()).isEqualTo(newOwner);
+        // Ratings only move with reviews
+        assertThat(sampleTool.getOverallRating()).isEqualTo(4.0);
+        assertThat(sampleTool.getNumRatings()).isEqualTo(2);
     }
 
     @Test
@@ -415,15 +453,197 @@ class ToolServiceTest {
     @Test
     @DisplayName("Should delegate getAll and getById to repository")
     void testGetAllAndGetById() {
-        when(toolRepo.findAll()).thenReturn(List.of(sampleTool));
+        when(toolRepo.findPage(null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
         when(toolRepo.findById(sampleTool.getId())).thenReturn(Optional.of(sampleTool));
 
-        assertThat(toolService.getAll()).containsExactly(sampleTool);
+        assertThat(toolService.getAll(null, null).getItems()).containsExactly(sampleTool);
         assertThat(toolService.getById(sampleTool.getId())).contains(sampleTool);
-        verify(toolRepo).findAll();
+        verify(toolRepo).findPage(null, FIRST_PAGE);
         verify(toolRepo).findById(sampleTool.getId());
     }
 
+    // ==================== PAGINATION TESTS ====================
+
+    @Test
+    @DisplayName("Should return a next cursor only when more rows than the page size exist")
+    void testGetAllReturnsNextCursor() {
+        Tool first = new Tool();
+        first.setId(UUID.randomUUID());
+        Tool second = new Tool();
+        second.setId(UUID.randomUUID());
+        when(toolRepo.findPage(null, Limit.of(2))).thenReturn(List.of(first, second));
+
+        ToolPage page = toolService.getAll(null, 1);
+
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThat(ToolServiceImpl.decodeCursor(page.getNextCursor())).isEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should resume after the id carried by the cursor")
+    void testGetActiveResumesFromCursor() {
+        String cursor = ToolServiceImpl.encodeCursor(sampleTool.getId());
+        when(toolRepo.findActivePage(sampleTool.getId(), FIRST_PAGE)).thenReturn(Collections.emptyList());
+
+        ToolPage page = toolService.getActive(cursor, null);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(toolRepo).findActivePage(sampleTool.getId(), FIRST_PAGE);
+    }
+
+    @Test
+    @DisplayName("Should cap the requested page size")
+    void testPageSizeIsCapped() {
+        Limit capped = Limit.of(ToolServiceImpl.MAX_PAGE_SIZE + 1);
+        when(toolRepo.findPage(null, capped)).thenReturn(Collections.emptyList());
+
+        toolService.getAll(null, 10_000);
+
+        verify(toolRepo).findPage(null, capped);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and non-positive page sizes")
+    void testInvalidPagingParameters() {
+        assertThatThrownBy(() -> toolService.getAll("not-a-cursor", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> toolService.getAll(null, 0))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(toolRepo);
+    }
+
+    @Test
+    @DisplayName("Should skip index candidates at or before the cursor in keyword searches")
+    void testKeywordSearchResumesFromCursor() {
+        Tool other = new Tool();
+        other.setId(UUID.randomUUID());
+        other.setTitle("Drill Press");
+        searchIndex.index(other);
+
+        // Whichever tool sorts first is the cursor; only the other one may be queried
+        UUID low = sampleTool.getId().toString().compareTo(other.getId().toString()) < 0
+                ? sampleTool.getId() : other.getId();
+        UUID high = low.equals(sampleTool.getId()) ? other.getId() : sampleTool.getId();
+        when(toolRepo.searchToolsByIds(List.of(high), null, null, null, FIRST_PAGE)).thenReturn(List.of());
+
+        toolService.searchTools("drill", null, null, null, null, null, ToolServiceImpl.encodeCursor(low), null);
+
+        verify(toolRepo).searchToolsByIds(List.of(high), null, null, null, FIRST_PAGE);
+    }
+
+    // ==================== AVAILABILITY FILTERING TESTS ====================
+
+    private Tool toolWithId(String title) {
+        Tool tool = new Tool();
+        tool.setId(UUID.randomUUID());
+        tool.setTitle(title);
+        return tool;
+    }
+
+    private void book(Tool tool, LocalDate start, LocalDate end) {
+        occupancyIndex.record(Booking.builder()
+                .id(UUID.randomUUID())
+                .tool(tool)
+                .startDate(start)
+                .endDate(end)
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should drop keyword candidates booked in the window before querying")
+    void testKeywordSearchSkipsBookedTools() {
+        LocalDate start = LocalDate.now().plusDays(10);
+        book(sampleTool, start.plusDays(2), start.plusDays(4));
+
+        List<Tool> result = toolService.searchTools("drill", null, null, null, start, start.plusDays(2), null, null)
+                .getItems();
+
+        assertThat(result).isEmpty();
+        verify(toolRepo, never()).searchToolsByIds(anyCollection(), any(), any(), any(), any());
+        verifyNoInteractions(bookingRepo);
+    }
+
+    @Test
+    @DisplayName("Should keep keyword candidates whose bookings fall outside the window")
+    void testKeywordSearchKeepsFreeTools() {
+        LocalDate start = LocalDate.now().plusDays(10);
+        book(sampleTool, start.plusDays(3), start.plusDays(4));
+        when(toolRepo.searchToolsByIds(List.of(sampleTool.getId()), null, null, null, FIRST_PAGE))
+                .thenReturn(List.of(sampleTool));
+
+        List<Tool> result = toolService.searchTools("drill", null, null, null, start, start.plusDays(2), null, null)
+                .getItems();
+
+        assertThat(result).containsExactly(sampleTool);
+        verifyNoInteractions(bookingRepo);
+    }
+
+    @Test
+    @DisplayName("Should read further pages when booked tools are filtered out of a date-only search")
+    void testDateOnlySearchFillsPage() {
+        LocalDate start = LocalDate.now().plusDays(1);
+        LocalDate end = start.plusDays(3);
+        Tool booked = toolWithId("Booked");
+        Tool freeA = toolWithId("Free A");
+        Tool freeB = toolWithId("Free B");
+        book(booked, start, end);
+        when(toolRepo.searchTools(null, null, null, null, null, Limit.of(2))).thenReturn(List.of(booked, freeA));
+        when(toolRepo.searchTools(null, null, null, null, freeA.getId(), Limit.of(2))).thenReturn(List.of(freeB));
+
+        ToolPage page = toolService.searchTools(null, null, null, null, start, end, null, 1);
+
+        assertThat(page.getItems()).containsExactly(freeA);
+        assertThat(page.getNextCursor()).isEqualTo(ToolServiceImpl.encodeCursor(freeA.getId()));
+        verifyNoInteractions(bookingRepo);
+    }
+
+    @Test
+    @DisplayName("Should stop a date-only search after the scan cap with a cursor at the last row read")
+    void testDateOnlySearchCapsScan() {
+        LocalDate start = LocalDate.now().plusDays(1);
+        LocalDate end = start.plusDays(3);
+        List<Tool> lastRows = new ArrayList<>();
+        // Every tool is booked in the window, so no page ever fills
+        when(toolRepo.searchTools(any(), any(), any(), any(), any(), eq(Limit.of(2)))).thenAnswer(invocation -> {
+            List<Tool> rows = List.of(toolWithId("Booked"), toolWithId("Booked"));
+            rows.forEach(tool -> book(tool, start, end));
+            lastRows.clear();
+            lastRows.addAll(rows);
+            return rows;
+        });
+
+        ToolPage page = toolService.searchTools(null, null, null, null, start, end, null, 1);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isEqualTo(ToolServiceImpl.encodeCursor(lastRows.get(1).getId()));
+        verify(toolRepo, times(ToolServiceImpl.MAX_SCANNED_ROWS / 2))
+                .searchTools(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject incomplete, inverted or past date ranges")
+    void testInvalidDateRange() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        assertThatThrownBy(() -> toolService.searchTools("drill", null, null, null, tomorrow, null, null, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Both startDate and endDate are required");
+        assertThatThrownBy(() -> toolService.searchTools("drill", null, null, null, tomorrow, tomorrow.minusDays(1),
+                null, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("End date must be on or after start date");
+        assertThatThrownBy(() -> toolService.searchTools("drill", null, null, null, tomorrow.minusDays(2), tomorrow,
+                null, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Dates cannot be in the past");
+        verifyNoInteractions(toolRepo);
+    }
+
     // ==================== PRICE FILTERING TESTS ====================
 
     @Test
@@ -432,14 +652,14 @@ class ToolServiceTest {
         // Arrange
         Double minPrice = 10.0;
         Double maxPrice = 50.0;
-        when(toolRepo.searchTools(null, null, minPrice, maxPrice)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools(null, null, minPrice, maxPrice, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(null, null, minPrice, maxPrice);
+        List<Tool> result = toolService.searchTools(null, null, minPrice, maxPrice, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(toolRepo, times(1)).searchTools(null, null, minPrice, maxPrice);
+        verify(toolRepo, times(1)).searchTools(null, null, minPrice, maxPrice, null, FIRST_PAGE);
     }
 
     @Test
@@ -447,15 +667,15 @@ class ToolServiceTest {
     void testSearchWithNegativeMinPrice() {
         // Arrange
         Double negativeMinPrice = -5.0;
-        when(toolRepo.searchTools(null, null, 0.0, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools(null, null, 0.0, null, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
         // Act
-        toolService.searchTools(null, null, negativeMinPrice, null);
+        toolService.searchTools(null, null, negativeMinPrice, null, null, null, null, null).getItems();
 
         // Assert
         // Verify the repository was called with 0.0 instead of -5.0
-        verify(toolRepo).searchTools(null, null, 0.0, null);
-        verify(toolRepo, never()).searchTools(null, null, negativeMinPrice, null);
+        verify(toolRepo).searchTools(null, null, 0.0, null, null, FIRST_PAGE);
+        verify(toolRepo, never()).searchTools(null, null, negativeMinPrice, null, null, FIRST_PAGE);
     }
 
     @Test
@@ -463,14 +683,14 @@ class ToolServiceTest {
     void testSearchWithNegativeMaxPrice() {
         // Arrange
         Double negativeMaxPrice = -10.0;
-        when(toolRepo.searchTools(null, null, null, 0.0)).thenReturn(Collections.emptyList());
+        when(toolRepo.searchTools(null, null, null, 0.0, null, FIRST_PAGE)).thenReturn(Collections.emptyList());
 
         // Act
-        toolService.searchTools(null, null, null, negativeMaxPrice);
+        toolService.searchTools(null, null, null, negativeMaxPrice, null, null, null, null).getItems();
 
         // Assert
-        verify(toolRepo).searchTools(null, null, null, 0.0);
-        verify(toolRepo, never()).searchTools(null, null, null, negativeMaxPrice);
+        verify(toolRepo).searchTools(null, null, null, 0.0, null, FIRST_PAGE);
+        verify(toolRepo, never()).searchTools(null, null, null, negativeMaxPrice, null, FIRST_PAGE);
     }
 
     @Test
@@ -478,14 +698,14 @@ class ToolServiceTest {
     void testSearchWithMinPriceOnly() {
         // Arrange
         Double minPrice = 20.0;
-        when(toolRepo.searchTools(null, null, minPrice, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools(null, null, minPrice, null, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(null, null, minPrice, null);
+        List<Tool> result = toolService.searchTools(null, null, minPrice, null, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(toolRepo).searchTools(null, null, minPrice, null);
+        verify(toolRepo).searchTools(null, null, minPrice, null, null, FIRST_PAGE);
     }
 
     @Test
@@ -493,14 +713,14 @@ class ToolServiceTest {
     void testSearchWithMaxPriceOnly() {
         // Arrange
         Double maxPrice = 100.0;
-        when(toolRepo.searchTools(null, null, null, maxPrice)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools(null, null, null, maxPrice, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(null, null, null, maxPrice);
+        List<Tool> result = toolService.searchTools(null, null, null, maxPrice, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(toolRepo).searchTools(null, null, null, maxPrice);
+        verify(toolRepo).searchTools(null, null, null, maxPrice, null, FIRST_PAGE);
     }
 
     @Test
@@ -511,14 +731,15 @@ class ToolServiceTest {
         String district = "Porto";
         Double minPrice = 10.0;
         Double maxPrice = 50.0;
-        when(toolRepo.searchTools(keyword, district, minPrice, maxPrice)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchToolsByIds(List.of(sampleTool.getId()), district, minPrice, maxPrice, FIRST_PAGE))
+                .thenReturn(List.of(sampleTool));
 
         // Act
-        List<Tool> result = toolService.searchTools(keyword, district, minPrice, maxPrice);
+        List<Tool> result = toolService.searchTools(keyword, district, minPrice, maxPrice, null, null, null, null).getItems();
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(toolRepo).searchTools(keyword, district, minPrice, maxPrice);
+        verify(toolRepo).searchToolsByIds(List.of(sampleTool.getId()), district, minPrice, maxPrice, FIRST_PAGE);
     }
 
     // ==================== DISTRICT VALIDATION TESTS ====================
@@ -564,7 +785,7 @@ class ToolServiceTest {
     @Test
     @DisplayName("Should return empty list when keyword is empty string")
     void testSearchToolsWithEmptyKeyword() {
-        List<Tool> result = toolService.searchTools("   ", "   ", null, null);
+        List<Tool> result = toolService.searchTools("   ", "   ", null, null, null, null, null, null).getItems();
 
         assertThat(result).isEmpty();
         verifyNoInteractions(toolRepo);
@@ -574,24 +795,24 @@ class ToolServiceTest {
     @DisplayName("Should search with valid keyword and empty location")
     void testSearchToolsWithKeywordAndEmptyLocation() {
         String keyword = "Drill";
-        when(toolRepo.searchTools(keyword, "", null, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchToolsByIds(List.of(sampleTool.getId()), "", null, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
-        List<Tool> result = toolService.searchTools(keyword, "   ", null, null);
+        List<Tool> result = toolService.searchTools(keyword, "   ", null, null, null, null, null, null).getItems();
 
         assertThat(result).hasSize(1);
-        verify(toolRepo).searchTools(keyword, "", null, null);
+        verify(toolRepo).searchToolsByIds(List.of(sampleTool.getId()), "", null, null, FIRST_PAGE);
     }
 
     @Test
     @DisplayName("Should search with valid location and empty keyword")
     void testSearchToolsWithLocationAndEmptyKeyword() {
         String location = "Aveiro";
-        when(toolRepo.searchTools("", location, null, null)).thenReturn(List.of(sampleTool));
+        when(toolRepo.searchTools("", location, null, null, null, FIRST_PAGE)).thenReturn(List.of(sampleTool));
 
-        List<Tool> result = toolService.searchTools("   ", location, null, null);
+        List<Tool> result = toolService.searchTools("   ", location, null, null, null, null, null, null).getItems();
 
         assertThat(result).hasSize(1);
-        verify(toolRepo).searchTools("", location, null, null);
+        verify(toolRepo).searchTools("", location, null, null, null, FIRST_PAGE);
     }
 
     @Test
@@ -0,0 +1,156 @@
+package com.toolshed.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the client against a local stub server that counts how many requests
+ * actually reach it.
+ */
+class TqsBasicHttpClientTest {
+
+    private static final int CALLERS = 16;
+
+    private HttpServer server;
+    private TqsBasicHttpClient client;
+    private String baseUrl;
+
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    // Held closed to keep the first request in flight while the other callers arrive
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private final CountDownLatch arrived = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new TqsBasicHttpClient(20, 10, 60);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        arrived.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = ("body of " + path).getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should send one upstream request for concurrent GETs of the same cold URL")
+    void testConcurrentIdenticalGetsAreCoalesced() throws Exception {
+        release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch started = new CountDownLatch(CALLERS);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> {
+                    started.countDown();
+                    return client.doHttpGet(baseUrl + "/distritos");
+                }));
+            }
+
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give the last callers time to join the request in flight
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("body of /distritos");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(hits.get("/distritos")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should send one upstream request per distinct URL")
+    void testDistinctUrlsAreNotCoalesced() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                String path = "/municipios/" + (i % 4);
+                results.add(callers.submit(() -> client.doHttpGet(baseUrl + path)));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("body of /municipios/");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(hits).hasSize(4);
+        assertThat(hits.values()).allSatisfy(count -> assertThat(count.get()).isBetween(1, CALLERS / 4));
+    }
+
+    @Test
+    @DisplayName("Should call upstream again once the previous request completed")
+    void testSequentialGetsAreNotCached() throws IOException {
+        client.doHttpGet(baseUrl + "/distritos");
+        client.doHttpGet(baseUrl + "/distritos");
+
+        assertThat(hits.get("/distritos")).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should reuse pooled connections between requests")
+    void testConnectionsAreReused() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            client.doHttpGet(baseUrl + "/distritos");
+        }
+
+        // Every request went out on the same kept-alive connection, now idle in the pool
+        assertThat(client.poolStats().getAvailable()).isEqualTo(1);
+        assertThat(client.poolStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should surface connection failures as IOException")
+    void testConnectionFailure() throws IOException {
+        server.stop(0);
+
+        assertThatThrownBy(() -> client.doHttpGet(baseUrl + "/distritos")).isInstanceOf(IOException.class);
+    }
+}
@@ -1,3 +1,5 @@
+import axios from 'axios';
+
 const PRIMARY_BASE = 'http://deti-tqs-09.ua.pt:8080';
 const LOCALHOST_BASE = 'http://localhost:8080';
 
@@ -6,3 +8,30 @@ export const API_BASE_URL =
   (typeof window !== 'undefined' && window.location.hostname === 'localhost'
     ? LOCALHOST_BASE
     : PRIMARY_BASE);
+
+// List endpoints return one page per call and the cursor of the next page in
+// X-Next-Cursor (axios exposes header names in lower case)
+const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+/** One page of a cursor-paged list; nextCursor is unset on the last page. */
+export interface Page<T> {
+  items: T[];
+  nextCursor?: string;
+}
+
+/**
+ * Fetches a single page of a cursor-paged list endpoint. Pass the previous
+ * page's nextCursor to get the one after it.
+ */
+export const getPage = async <T>(
+  url: string,
+  params?: Record<string, string | number | undefined>,
+  cursor?: string
+): Promise<Page<T>> => {
+  const response = await axios.get<T[]>(url, { params: { ...params, cursor } });
+  const next = response.headers[NEXT_CURSOR_HEADER];
+  return {
+    items: response.data,
+    nextCursor: typeof next === 'string' && next ? next : undefined,
+  };
+};
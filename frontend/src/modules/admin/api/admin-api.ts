@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { API_BASE_URL } from '@/lib/api';
+import { API_BASE_URL, getPage, type Page } from '@/lib/api';
 import type { User } from '@/modules/auth/context/AuthContext';
 
 const API_URL = `${API_BASE_URL}/api/admin`;
@@ -24,10 +24,38 @@ export const getAdminStats = async (): Promise<AdminStats> => {
   }
 };
 
-export const getUsers = async (): Promise<User[]> => {
+// Row of the admin user listing (no password or tools)
+export interface AdminUserSummary {
+  id: string;
+  firstName: string;
+  lastName: string;
+  email: string;
+  role: User['role'];
+  status: NonNullable<User['status']>;
+  reputationScore: number | null;
+  subscriptionTier: 'FREE' | 'PRO' | null;
+  registeredDate: string | null;
+}
+
+// Server-side filters of the user listing; q matches a name or email prefix
+export interface AdminUserFilters {
+  status?: AdminUserSummary['status'];
+  role?: AdminUserSummary['role'];
+  q?: string;
+}
+
+// One page of non-admin users; pass the previous page's nextCursor for the next one
+export const getUsers = async (
+  filters: AdminUserFilters = {},
+  cursor?: string
+): Promise<Page<AdminUserSummary>> => {
   try {
-    const response = await axios.get<User[]>(`${API_URL}/users`);
-    return response.data;
+    const params = {
+      status: filters.status,
+      role: filters.role,
+      q: filters.q || undefined,
+    };
+    return await getPage<AdminUserSummary>(`${API_URL}/users`, params, cursor);
   } catch (error) {
     throw new Error('Failed to load users');
   }
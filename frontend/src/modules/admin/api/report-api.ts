@@ -1,5 +1,5 @@
 import axios from "axios";
-import { API_BASE_URL } from "@/lib/api";
+import { API_BASE_URL, getPage, type Page } from "@/lib/api";
 
 export type ReportStatus = "OPEN" | "IN_PROGRESS" | "RESOLVED";
 
@@ -19,12 +19,12 @@ export interface Report {
 
 const REPORTS_URL = `${API_BASE_URL}/api/reports`;
 
-export const fetchReports = async (status?: ReportStatus): Promise<Report[]> => {
-  const response = await axios.get<Report[]>(REPORTS_URL, {
-    params: status ? { status } : undefined,
-  });
-  return response.data;
-};
+// One page of the queue (open reports first, oldest first); pass the previous
+// page's nextCursor for the next one
+export const fetchReports = async (
+  status?: ReportStatus,
+  cursor?: string
+): Promise<Page<Report>> => getPage<Report>(REPORTS_URL, { status }, cursor);
 
 export const updateReportStatus = async (id: string, status: ReportStatus) => {
   const response = await axios.put<Report>(`${REPORTS_URL}/${id}/status`, {
@@ -15,21 +15,25 @@ const statusOptions: ReportStatus[] = ["OPEN", "IN_PROGRESS", "RESOLVED"];
 
 export const AdminReportsPanel = () => {
   const [reports, setReports] = useState<Report[]>([]);
+  // Moderators work the open reports; the other statuses are a click away
   const [statusFilter, setStatusFilter] = useState<ReportStatus | "ALL">(
-    "ALL"
+    "OPEN"
   );
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
   const [error, setError] = useState<string | null>(null);
   const [isLoading, setIsLoading] = useState(false);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
   const [updatingId, setUpdatingId] = useState<string | null>(null);
 
+  const selectedStatus = statusFilter === "ALL" ? undefined : statusFilter;
+
   const loadReports = async () => {
     try {
       setIsLoading(true);
       setError(null);
-      const data = await fetchReports(
-        statusFilter === "ALL" ? undefined : statusFilter
-      );
-      setReports(data);
+      const page = await fetchReports(selectedStatus);
+      setReports(page.items);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError("Failed to load reports");
     } finally {
@@ -37,6 +41,21 @@ export const AdminReportsPanel = () => {
     }
   };
 
+  const loadMoreReports = async () => {
+    if (!nextCursor) return;
+    try {
+      setIsLoadingMore(true);
+      setError(null);
+      const page = await fetchReports(selectedStatus, nextCursor);
+      setReports((prev) => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError("Failed to load reports");
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     loadReports();
     // eslint-disable-next-line react-hooks/exhaustive-deps
@@ -171,6 +190,18 @@ export const AdminReportsPanel = () => {
                 </div>
               </div>
             ))}
+            {nextCursor && (
+              <div className="flex justify-center pt-1">
+                <Button
+                  variant="outline"
+                  size="sm"
+                  disabled={isLoadingMore}
+                  onClick={loadMoreReports}
+                >
+                  {isLoadingMore ? "Loading..." : "Load more"}
+                </Button>
+              </div>
+            )}
           </div>
         )}
       </CardContent>
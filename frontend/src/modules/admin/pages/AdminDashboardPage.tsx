@@ -1,33 +1,51 @@
 import { useEffect, useState } from "react";
+import type { FormEvent } from "react";
 import { useAuth } from "@/modules/auth/context/AuthContext";
-import type { User } from "@/modules/auth/context/AuthContext";
 import {
   getAdminStats,
   getUsers,
   activateUser,
   deactivateUser,
 } from "../api/admin-api";
-import type { AdminStats } from "../api/admin-api";
+import type {
+  AdminStats,
+  AdminUserFilters,
+  AdminUserSummary,
+} from "../api/admin-api";
 import { AdminStatsGrid } from "../components/AdminStatsGrid";
 import { AdminNavbar } from "../components/AdminNavbar";
 import { AdminReportsPanel } from "../components/AdminReportsPanel";
 
+const statusOptions: AdminUserSummary["status"][] = [
+  "ACTIVE",
+  "SUSPENDED",
+  "PENDING_VERIFICATION",
+];
+// Admins are never listed
+const roleOptions: AdminUserSummary["role"][] = ["SUPPLIER", "RENTER"];
+
 export const AdminDashboardPage = () => {
   const { user } = useAuth();
   const [stats, setStats] = useState<AdminStats | null>(null);
-  const [users, setUsers] = useState<User[]>([]);
+  const [users, setUsers] = useState<AdminUserSummary[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  // Filters are applied by the server; nextCursor continues the listed results
+  const [filters, setFilters] = useState<AdminUserFilters>({});
+  const [query, setQuery] = useState("");
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
+  const [isLoadingUsers, setIsLoadingUsers] = useState(false);
 
   const fetchData = async () => {
     try {
       setIsLoading(true);
-      const [statsData, usersData] = await Promise.all([
+      const [statsData, usersPage] = await Promise.all([
         getAdminStats(),
-        getUsers(),
+        getUsers(filters),
       ]);
       setStats(statsData);
-      setUsers(usersData);
+      setUsers(usersPage.items);
+      setNextCursor(usersPage.nextCursor);
     } catch (err) {
       setError("Failed to load dashboard data");
       console.error(err);
@@ -38,18 +56,45 @@ export const AdminDashboardPage = () => {
 
   useEffect(() => {
     fetchData();
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
-  const handleToggleStatus = async (targetUser: User) => {
+  const loadUsers = async (nextFilters: AdminUserFilters, cursor?: string) => {
+    try {
+      setIsLoadingUsers(true);
+      const page = await getUsers(nextFilters, cursor);
+      setUsers((prev) => (cursor ? [...prev, ...page.items] : page.items));
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      console.error("Failed to load users", err);
+      alert("Failed to load users");
+    } finally {
+      setIsLoadingUsers(false);
+    }
+  };
+
+  const applyFilters = (nextFilters: AdminUserFilters) => {
+    setFilters(nextFilters);
+    loadUsers(nextFilters);
+  };
+
+  const handleSearch = (event: FormEvent<HTMLFormElement>) => {
+    event.preventDefault();
+    applyFilters({ ...filters, q: query.trim() || undefined });
+  };
+
+  const handleToggleStatus = async (targetUser: AdminUserSummary) => {
     try {
-      if (targetUser.status === "ACTIVE") {
-        await deactivateUser(targetUser.id);
-      } else {
-        await activateUser(targetUser.id);
-      }
-      // Refresh user list
-      const updatedUsers = await getUsers();
-      setUsers(updatedUsers);
+      const updated =
+        targetUser.status === "ACTIVE"
+          ? await deactivateUser(targetUser.id)
+          : await activateUser(targetUser.id);
+      // Update the row in place rather than reloading every page shown
+      setUsers((prev) =>
+        prev.map((u) =>
+          u.id === targetUser.id ? { ...u, status: updated.status ?? u.status } : u
+        )
+      );
     } catch (err) {
       console.error("Failed to update user status", err);
       alert("Failed to update user status");
@@ -79,8 +124,58 @@ export const AdminDashboardPage = () => {
 
       {/* Users Section */}
       <div className="rounded-lg shadow-md border border-gray-200 overflow-hidden">
-        <div className="p-6 border-b border-gray-200">
+        <div className="p-6 border-b border-gray-200 flex flex-col gap-4 md:flex-row md:items-center md:justify-between">
           <h2 className="text-xl font-bold text-gray-800">User Management</h2>
+          <form onSubmit={handleSearch} className="flex flex-wrap gap-2">
+            <input
+              type="search"
+              value={query}
+              onChange={(e) => setQuery(e.target.value)}
+              placeholder="Name or email starts with..."
+              className="rounded-md border border-input bg-background px-3 py-2 text-sm"
+            />
+            <select
+              value={filters.status ?? ""}
+              onChange={(e) =>
+                applyFilters({
+                  ...filters,
+                  status: (e.target.value || undefined) as AdminUserFilters["status"],
+                })
+              }
+              className="rounded-md border border-input bg-background px-3 py-2 text-sm"
+            >
+              <option value="">All statuses</option>
+              {statusOptions.map((s) => (
+                <option key={s} value={s}>
+                  {s}
+                </option>
+              ))}
+            </select>
+            <select
+              value={filters.role ?? ""}
+              onChange={(e) =>
+                applyFilters({
+                  ...filters,
+                  role: (e.target.value || undefined) as AdminUserFilters["role"],
+                })
+              }
+              className="rounded-md border border-input bg-background px-3 py-2 text-sm"
+            >
+              <option value="">All roles</option>
+              {roleOptions.map((r) => (
+                <option key={r} value={r}>
+                  {r}
+                </option>
+              ))}
+            </select>
+            <button
+              type="submit"
+              disabled={isLoadingUsers}
+              className="text-sm font-medium px-3 py-2 rounded border border-gray-200 hover:bg-gray-50"
+            >
+              Search
+            </button>
+          </form>
         </div>
         <div className="overflow-x-auto">
           <table className="w-full text-left text-sm text-gray-600">
@@ -147,7 +242,21 @@ export const AdminDashboardPage = () => {
               ))}
             </tbody>
           </table>
+          {users.length === 0 && !isLoadingUsers && (
+            <p className="px-6 py-4 text-sm text-gray-500">No users found.</p>
+          )}
         </div>
+        {nextCursor && (
+          <div className="p-4 border-t border-gray-100 flex justify-center">
+            <button
+              onClick={() => loadUsers(filters, nextCursor)}
+              disabled={isLoadingUsers}
+              className="text-sm font-medium px-3 py-2 rounded border border-gray-200 hover:bg-gray-50"
+            >
+              {isLoadingUsers ? "Loading..." : "Load more users"}
+            </button>
+          </div>
+        )}
       </div>
     </div>
     </div>);
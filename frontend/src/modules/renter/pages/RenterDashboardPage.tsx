@@ -4,9 +4,20 @@ import { Button } from '@/components/ui/button';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/components/ui/card';
 import { ToolSearchBar } from '@/modules/shared/components/ToolSearchBar';
 import { AvailableToolCard } from '../components/AvailableToolCard';
-import { getActiveTools, searchTools, type Tool } from '@/modules/supplier/api/tools-api';
+import { getActiveTools, searchTools, type Tool, type ToolSearchFilters } from '@/modules/supplier/api/tools-api';
 import { RenterNavbar } from '../components/RenterNavbar';
 
+// One page of the active listing, or of the search results when any filter is set
+const fetchToolPage = (filters?: ToolSearchFilters, cursor?: string) => {
+  const hasFilters = Boolean(
+    filters?.keyword ||
+    filters?.district ||
+    filters?.minPrice !== undefined ||
+    filters?.maxPrice !== undefined
+  );
+  return filters && hasFilters ? searchTools(filters, cursor) : getActiveTools(cursor);
+};
+
 export const RenterDashboardPage = () => {
   const [tools, setTools] = useState<Tool[]>([]);
   const [isLoading, setIsLoading] = useState(true);
@@ -17,29 +28,22 @@ export const RenterDashboardPage = () => {
   const [minPrice, setMinPrice] = useState('');
   const [maxPrice, setMaxPrice] = useState('');
   const [favoriteIds, setFavoriteIds] = useState<Set<string>>(new Set());
+  // Filters of the listed results and the cursor of their next page
+  const [listedFilters, setListedFilters] = useState<ToolSearchFilters | undefined>(undefined);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
   const fetchTools = useCallback(
-    async (filters?: { keyword?: string; district?: string; minPrice?: number; maxPrice?: number }) => {
+    async (filters?: ToolSearchFilters) => {
       try {
         setIsLoading(true);
         setError(null);
 
-        const hasFilters = Boolean(
-          filters?.keyword ||
-          filters?.district ||
-          filters?.minPrice !== undefined ||
-          filters?.maxPrice !== undefined
-        );
-        const data: Tool[] = hasFilters
-          ? await searchTools({
-              keyword: filters?.keyword,
-              district: filters?.district,
-              minPrice: filters?.minPrice,
-              maxPrice: filters?.maxPrice,
-            })
-          : await getActiveTools();
-
-        setTools(data.filter((tool: Tool) => tool.active));
+        const page = await fetchToolPage(filters);
+
+        setTools(page.items.filter((tool: Tool) => tool.active));
+        setListedFilters(filters);
+        setNextCursor(page.nextCursor);
       } catch (err) {
         setError(err instanceof Error ? err.message : 'Failed to load tools');
       } finally {
@@ -49,6 +53,23 @@ export const RenterDashboardPage = () => {
     []
   );
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setIsLoadingMore(true);
+      setError(null);
+
+      const page = await fetchToolPage(listedFilters, nextCursor);
+
+      setTools((prev) => [...prev, ...page.items.filter((tool: Tool) => tool.active)]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : 'Failed to load more tools');
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     fetchTools();
     const stored = localStorage.getItem('renter:favorites');
@@ -140,7 +161,10 @@ export const RenterDashboardPage = () => {
               <CardDescription>Everything currently active in the marketplace</CardDescription>
             </CardHeader>
             <CardContent>
-              <p className="text-3xl font-bold">{tools.length}</p>
+              <p className="text-3xl font-bold">
+                {tools.length}
+                {nextCursor ? '+' : ''}
+              </p>
             </CardContent>
           </Card>
 
@@ -198,7 +222,7 @@ export const RenterDashboardPage = () => {
           <div className="flex items-center justify-center py-16">
             <p className="text-muted-foreground">Loading available tools...</p>
           </div>
-        ) : tools.length === 0 ? (
+        ) : tools.length === 0 && !nextCursor ? (
           <div className="text-center py-16">
             <p className="text-muted-foreground mb-4">
               No tools are available right now. Try adjusting your search or check back soon.
@@ -208,16 +232,25 @@ export const RenterDashboardPage = () => {
             </Button>
           </div>
         ) : (
-          <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
-            {sortedTools.map((tool) => (
-              <AvailableToolCard
-                key={tool.id}
-                tool={tool}
-                isFavorite={favoriteIds.has(tool.id)}
-                onToggleFavorite={handleToggleFavorite}
-              />
-            ))}
-          </div>
+          <>
+            <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
+              {sortedTools.map((tool) => (
+                <AvailableToolCard
+                  key={tool.id}
+                  tool={tool}
+                  isFavorite={favoriteIds.has(tool.id)}
+                  onToggleFavorite={handleToggleFavorite}
+                />
+              ))}
+            </div>
+            {nextCursor && (
+              <div className="flex justify-center mt-8">
+                <Button onClick={handleLoadMore} variant="outline" disabled={isLoadingMore}>
+                  {isLoadingMore ? 'Loading...' : 'Load more tools'}
+                </Button>
+              </div>
+            )}
+          </>
         )}
       </main>
     </div>
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { API_BASE_URL } from '@/lib/api';
+import { API_BASE_URL, getPage, type Page } from '@/lib/api';
 
 const API_URL = `${API_BASE_URL}/api/tools`;
 
@@ -53,15 +53,12 @@ export interface UpdateToolInput {
   ownerId?: string;
   active?: boolean;
   availabilityCalendar?: string;
-  overallRating?: number;
-  numRatings?: number;
 }
 
-// Get all tools
-export const getAllTools = async (): Promise<Tool[]> => {
+// Get one page of all tools; pass the previous page's nextCursor for the next one
+export const getAllTools = async (cursor?: string): Promise<Page<Tool>> => {
   try {
-    const response = await axios.get<Tool[]>(API_URL);
-    return response.data;
+    return await getPage<Tool>(API_URL, undefined, cursor);
   } catch (error) {
     if (axios.isAxiosError(error) && error.response) {
       throw new Error(error.response.data.message || 'Failed to fetch tools');
@@ -104,18 +101,17 @@ export interface ToolSearchFilters {
   maxPrice?: number;
 }
 
-export const searchTools = async (filters: ToolSearchFilters): Promise<Tool[]> => {
+// One page of search results
+export const searchTools = async (filters: ToolSearchFilters, cursor?: string): Promise<Page<Tool>> => {
   try {
-    const params = new URLSearchParams();
-    if (filters.keyword) params.append('keyword', filters.keyword);
-
-    if (filters.district) params.append('location', filters.district);
-
-    if (filters.minPrice !== undefined) params.append('minPrice', filters.minPrice.toString());
-    if (filters.maxPrice !== undefined) params.append('maxPrice', filters.maxPrice.toString());
+    const params = {
+      keyword: filters.keyword || undefined,
+      location: filters.district || undefined,
+      minPrice: filters.minPrice,
+      maxPrice: filters.maxPrice,
+    };
 
-    const response = await axios.get<Tool[]>(`${API_URL}/search`, { params });
-    return response.data;
+    return await getPage<Tool>(`${API_URL}/search`, params, cursor);
   } catch (error) {
     if (axios.isAxiosError(error) && error.response) {
       throw new Error(error.response.data.message || 'Failed to search tools');
@@ -124,11 +120,10 @@ export const searchTools = async (filters: ToolSearchFilters): Promise<Tool[]> =
   }
 };
 
-// Get only active tools
-export const getActiveTools = async (): Promise<Tool[]> => {
+// Get one page of active tools
+export const getActiveTools = async (cursor?: string): Promise<Page<Tool>> => {
   try {
-    const response = await axios.get<Tool[]>(`${API_URL}/active`);
-    return response.data;
+    return await getPage<Tool>(`${API_URL}/active`, undefined, cursor);
   } catch (error) {
     if (axios.isAxiosError(error) && error.response) {
       throw new Error(error.response.data.message || 'Failed to fetch active tools');